@@ -0,0 +1,83 @@
+package com.survey.service.benchmark;
+
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.ParticipationStore;
+import com.survey.service.model.Member;
+import com.survey.service.model.Participation;
+import com.survey.service.model.Survey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the previous copy-on-every-call accessors with the published snapshot accessors,
+ * using the access pattern of a single /points request (one survey lookup per participation).
+ * Run with {@code -prof gc} to see the allocation difference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class DataLoaderAccessorBenchmark {
+
+    @Param({"100", "10000"})
+    private int surveyCount;
+
+    @Param({"30"})
+    private int participationsPerMember;
+
+    private Map<Long, Survey> surveysById;
+    private List<Participation> memberParticipations;
+    private DataSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        surveysById = new HashMap<>();
+        for (long id = 1; id <= surveyCount; id++) {
+            surveysById.put(id, new Survey(id, "Survey " + id, 100, 10, 2));
+        }
+
+        memberParticipations = new ArrayList<>();
+        for (int i = 0; i < participationsPerMember; i++) {
+            memberParticipations.add(new Participation(1L, (long) (i * 31 % surveyCount) + 1, 4L, 10));
+        }
+
+        ParticipationStore.Builder participations = ParticipationStore.builder();
+        memberParticipations.forEach(participations::add);
+        snapshot = new DataSnapshot(1L,
+                Map.of(1L, new Member(1L, "John Doe", "john@example.com", true)),
+                surveysById,
+                participations.build());
+    }
+
+    @Benchmark
+    public void copyOnEveryCall(Blackhole blackhole) {
+        for (Participation participation : memberParticipations) {
+            blackhole.consume(Map.copyOf(surveysById).get(participation.surveyId()));
+        }
+    }
+
+    @Benchmark
+    public void snapshotReference(Blackhole blackhole) {
+        for (Participation participation : memberParticipations) {
+            blackhole.consume(snapshot.surveysById().get(participation.surveyId()));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+package com.survey.service.benchmark;
+
+import com.survey.service.SurveyServiceApplication;
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.service.DataLoaderService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Closed-loop load test of the five read endpoints against an embedded server, once with the Tomcat
+ * platform-thread pool and once with virtual threads. Every client is a virtual thread that sends its
+ * next request as soon as the previous one returned; after the warmup, latencies are recorded and
+ * reported as throughput and p50/p99/p999.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec@load-test -Dload.args="--concurrency=256"}.
+ * Options: {@code --modes=platform,virtual}, {@code --concurrency=64}, {@code --warmup=PT5S},
+ * {@code --duration=PT15S}, {@code --tomcat-threads=200} (platform pool size) and {@code --data-dir=...}
+ * (a directory with members.csv, surveys.csv and participation.csv instead of the bundled data).
+ */
+public final class EndpointLoadHarness {
+
+    private EndpointLoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        // Devtools would restart the context in another class loader and drop the per-mode properties
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Map<String, String> options = parseOptions(args);
+        List<String> modes = List.of(options.getOrDefault("modes", "platform,virtual").split(","));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT5S"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT15S"));
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-9s %11s %8s %12s %10s %10s %10s",
+                "mode", "requests", "errors", "req/s", "p50 us", "p99 us", "p999 us"));
+        for (String mode : modes) {
+            try (ConfigurableApplicationContext context = start(mode, options)) {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                List<String> paths = paths(context.getBean(DataLoaderService.class).getSnapshot());
+                Result result = run(baseUrl, paths, concurrency, warmup, duration);
+                report.add(String.format("%-9s %11d %8d %12.1f %10d %10d %10d",
+                        mode, result.latencies().length, result.errors(),
+                        result.latencies().length / (duration.toNanos() / 1e9),
+                        percentile(result.latencies(), 0.50), percentile(result.latencies(), 0.99),
+                        percentile(result.latencies(), 0.999)));
+            }
+        }
+        System.out.printf("%nConcurrency %d, warmup %s, measured %s%n", concurrency, warmup, duration);
+        report.forEach(System.out::println);
+    }
+
+    private static ConfigurableApplicationContext start(String mode, Map<String, String> options) {
+        if (!mode.equals("platform") && !mode.equals("virtual")) {
+            throw new IllegalArgumentException("Unknown mode: " + mode);
+        }
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.threads.virtual.enabled", mode.equals("virtual"));
+        properties.put("server.tomcat.threads.max", options.getOrDefault("tomcat-threads", "200"));
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.survey.service", "WARN");
+        String dataDir = options.get("data-dir");
+        if (dataDir != null) {
+            properties.put("data.directory", "file:" + (dataDir.endsWith("/") ? dataDir : dataDir + "/"));
+        }
+        // Passed as command line arguments, which take precedence over application.properties
+        String[] arguments = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(SurveyServiceApplication.class).run(arguments);
+    }
+
+    private static List<String> paths(DataSnapshot snapshot) {
+        List<String> paths = new ArrayList<>();
+        paths.add("/api/surveys/statistics");
+        for (Long surveyId : snapshot.surveysById().keySet()) {
+            paths.add("/api/surveys/" + surveyId + "/completed-respondents");
+            paths.add("/api/surveys/" + surveyId + "/invitable-members");
+        }
+        for (Long memberId : snapshot.membersById().keySet()) {
+            paths.add("/api/members/" + memberId + "/completed-surveys");
+            paths.add("/api/members/" + memberId + "/points");
+        }
+        return paths;
+    }
+
+    private static Result run(String baseUrl, List<String> paths, int concurrency, Duration warmup, Duration duration)
+            throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        AtomicBoolean recording = new AtomicBoolean();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        List<Future<Result>> clients = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.add(executor.submit(() -> drive(client, baseUrl, paths, recording, running)));
+            }
+            Thread.sleep(warmup.toMillis());
+            recording.set(true);
+            Thread.sleep(duration.toMillis());
+            running.set(false);
+        }
+
+        long[] latencies = new long[0];
+        long errors = 0;
+        for (Future<Result> future : clients) {
+            Result result = future.get();
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + result.latencies().length);
+            System.arraycopy(result.latencies(), 0, latencies, offset, result.latencies().length);
+            errors += result.errors();
+        }
+        Arrays.sort(latencies);
+        return new Result(latencies, errors);
+    }
+
+    private static Result drive(HttpClient client, String baseUrl, List<String> paths,
+                                AtomicBoolean recording, AtomicBoolean running) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        long errors = 0;
+        while (running.get()) {
+            String path = paths.get(ThreadLocalRandom.current().nextInt(paths.size()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (!recording.get() || !running.get()) {
+                continue;
+            }
+            if (!ok) {
+                errors++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = elapsed;
+        }
+        return new Result(Arrays.copyOf(latencies, count), errors);
+    }
+
+    /**
+     * @return the latency at the given quantile of the sorted nanosecond latencies, in microseconds
+     */
+    private static long percentile(long[] sortedLatencies, double quantile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1_000;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    private record Result(long[] latencies, long errors) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.survey.service.benchmark;
+
+import com.survey.service.data.MemberEmailIndex;
+import com.survey.service.data.MemberIndex;
+import com.survey.service.data.MemberSearchIndex;
+import com.survey.service.model.Member;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a type-ahead request against the member search index: the first page of 20 matches for a prefix of
+ * 1 to 8 characters taken from a random member's name, one of its later words or its e-mail address. Names are
+ * drawn from a small pool, so short prefixes match a large share of the members. The build time and footprint of
+ * the index are printed once, e.g. {@code -Djmh.args="MemberSearchBenchmark -p members=10000000"}. {@link #byEmail}
+ * looks up a random member by e-mail address in the e-mail hash index, a quarter of them in upper case.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class MemberSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael",
+            "Linda", "William", "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas",
+            "Sarah", "Charles", "Karen", "Zoë", "Jürgen", "Ana María", "Søren", "Chloé", "José", "Mei", "Aarav"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller",
+            "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas",
+            "Taylor", "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark",
+            "Müller", "Øster", "O'Brien", "van der Berg", "Nguyen", "Kowalski", "Rossi", "Yamamoto", "Dubois"};
+    private static final int QUERY_COUNT = 1 << 12;
+
+    @Param({"1000000"})
+    private int members;
+
+    private MemberSearchIndex index;
+    private MemberEmailIndex emailIndex;
+    private String[] queries;
+    private String[] emails;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(5L);
+        Map<Long, Member> membersById = new HashMap<>(members * 2);
+        for (long id = 1; id <= members; id++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String email = (first + "." + last).toLowerCase().replace(' ', '-') + id + "@example.com";
+            membersById.put(id, new Member(id, first + " " + last, email, true));
+        }
+        MemberIndex memberIndex = MemberIndex.of(membersById);
+
+        long start = System.nanoTime();
+        index = MemberSearchIndex.of(memberIndex);
+        System.out.printf("%nbuilt member search index of %d keys in %d ms, ~%d bytes (%.1f bytes per member)%n",
+                index.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), index.estimatedBytes(),
+                (double) index.estimatedBytes() / members);
+
+        start = System.nanoTime();
+        emailIndex = MemberEmailIndex.of(memberIndex);
+        System.out.printf("built member e-mail index of %d slots in %d ms, ~%d bytes (%.1f bytes per member)%n",
+                emailIndex.capacity(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                emailIndex.estimatedBytes(), (double) emailIndex.estimatedBytes() / members);
+
+        queries = new String[QUERY_COUNT];
+        emails = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            Member member = memberIndex.member(random.nextInt(members));
+            String key = switch (random.nextInt(3)) {
+                case 0 -> member.fullName();
+                case 1 -> member.fullName().substring(member.fullName().lastIndexOf(' ') + 1);
+                default -> member.email();
+            };
+            queries[i] = key.substring(0, Math.min(key.length(), random.nextInt(1, 9)));
+            String email = memberIndex.member(random.nextInt(members)).email();
+            emails[i] = random.nextInt(4) == 0 ? email.toUpperCase() : email;
+        }
+    }
+
+    @Benchmark
+    public List<Member> search() {
+        return index.search(queries[next++ & (QUERY_COUNT - 1)], 0, 20);
+    }
+
+    @Benchmark
+    public int byEmail() {
+        return emailIndex.ordinal(emails[next++ & (QUERY_COUNT - 1)]);
+    }
+}
\ No newline at end of file
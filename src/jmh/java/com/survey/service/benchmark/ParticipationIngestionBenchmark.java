@@ -0,0 +1,119 @@
+package com.survey.service.benchmark;
+
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.ParallelParticipationCsvReader;
+import com.survey.service.data.ParticipationStore;
+import com.survey.service.data.SnapshotFile;
+import com.survey.service.enums.ParticipationStatus;
+import com.survey.service.model.Participation;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cold participation ingestion: the sequential commons-csv path the loader used before,
+ * the memory-mapped parallel reader, and restoring a previously written binary snapshot file.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ParticipationIngestionBenchmark {
+
+    @Param({"1000000"})
+    private int participationCount;
+
+    @Param({"0"})
+    private int parallelism;
+
+    private Path file;
+    private Path snapshotFile;
+    private List<SnapshotFile.SourceFile> sources;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("participation", ".csv");
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("Member Id,Survey Id,Status,Length\n");
+            for (int i = 0; i < participationCount; i++) {
+                int status = random.nextInt(4) + 1;
+                writer.write((random.nextInt(1_000_000) + 1) + "," + (random.nextInt(10_000) + 1) + "," + status + ","
+                        + (status == ParticipationStatus.COMPLETED.getId() ? String.valueOf(random.nextInt(60) + 1) : "")
+                        + "\n");
+            }
+        }
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+
+        snapshotFile = Files.createTempFile("snapshot", ".bin");
+        sources = List.of(SnapshotFile.SourceFile.of(new FileSystemResource(file)));
+        SnapshotFile.write(snapshotFile, new SnapshotFile.Contents(
+                new DataSnapshot(1L, Map.of(), Map.of(), parallelMapped()), sources, Files.size(file), participationCount));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    @Benchmark
+    public ParticipationStore sequentialCommonsCsv() throws IOException {
+        ParticipationStore.Builder builder = ParticipationStore.builder();
+        try (Reader reader = Files.newBufferedReader(file);
+             CSVParser csvParser = CSVFormat.DEFAULT.builder().setHeader().setSkipHeaderRecord(true).build()
+                     .parse(reader)) {
+            for (CSVRecord record : csvParser) {
+                String length = record.get("Length");
+                builder.add(new Participation(
+                        Long.parseLong(record.get("Member Id")),
+                        Long.parseLong(record.get("Survey Id")),
+                        ParticipationStatus.fromId(Long.valueOf(record.get("Status"))).getId(),
+                        length.trim().isEmpty() ? null : Integer.parseInt(length)));
+            }
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public ParticipationStore parallelMapped() throws IOException {
+        ParticipationStore.Builder builder = ParticipationStore.builder();
+        new ParallelParticipationCsvReader(pool, ParallelParticipationCsvReader.DEFAULT_CHUNK_BYTES)
+                .read(file, builder::add);
+        return builder.build();
+    }
+
+    @Benchmark
+    public DataSnapshot mappedSnapshotFile() throws IOException {
+        return SnapshotFile.read(snapshotFile, 1L, sources).orElseThrow().snapshot();
+    }
+}
\ No newline at end of file
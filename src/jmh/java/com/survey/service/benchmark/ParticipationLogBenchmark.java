@@ -0,0 +1,155 @@
+package com.survey.service.benchmark;
+
+import com.survey.service.data.ParticipationLog;
+import com.survey.service.data.ParticipationStore;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the participation log: {@code append} writes groups of {@code groupSize} rows with one fsync each and
+ * reports the rows per second next to the group commits per second; with {@code fsyncInterval} above zero the
+ * fsyncs are spread over that interval instead. {@code replay} reads a log of {@code replayRows} rows back into a
+ * participation store, as a start does, and {@code read} only reads it, e.g.
+ * {@code -Djmh.args="ParticipationLogBenchmark -p groupSize=1,4096 -p fsyncInterval=PT0.01S"}.
+ */
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xmx2g"})
+public class ParticipationLogBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class AppendState {
+
+        @Param({"1", "16", "256", "4096"})
+        private int groupSize;
+
+        @Param({"PT0S"})
+        private String fsyncInterval;
+
+        private Path directory;
+        private ParticipationLog log;
+        private ParticipationStore group;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("survey-benchmark");
+            log = ParticipationLog.open(directory.resolve("participations.wal"), Duration.parse(fsyncInterval),
+                    (memberId, surveyId, statusId, length) -> {
+                    });
+            group = randomRows(groupSize, 11L);
+        }
+
+        // Keeps the log from growing by gigabytes over a trial
+        @Setup(Level.Iteration)
+        public void emptyLog() throws IOException {
+            log.reset();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            log.close();
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class AppendedRows {
+
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            rows = 0;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ReplayState {
+
+        @Param({"1000000"})
+        private int replayRows;
+
+        private Path directory;
+        private Path file;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("survey-benchmark");
+            file = directory.resolve("participations.wal");
+            try (ParticipationLog log = ParticipationLog.open(file, Duration.ZERO, (memberId, surveyId, statusId, length) -> {
+            })) {
+                // Groups as the writer would publish them under a steady write load
+                for (int written = 0; written < replayRows; written += 1000) {
+                    log.append(randomRows(Math.min(1000, replayRows - written), written));
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public long append(AppendState state, AppendedRows appended) throws IOException {
+        state.log.append(state.group);
+        appended.rows += state.groupSize;
+        return state.log.size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ParticipationStore replay(ReplayState state) throws IOException {
+        ParticipationStore.Builder replayed = ParticipationStore.builder();
+        ParticipationLog.open(state.file, Duration.ZERO, replayed::add).close();
+        return replayed.build();
+    }
+
+    /**
+     * Only reads and checksums the log, without building the store that {@code replay} spends most of its time on.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long read(ReplayState state) throws IOException {
+        long[] checksum = new long[1];
+        ParticipationLog.open(state.file, Duration.ZERO,
+                (memberId, surveyId, statusId, length) -> checksum[0] += memberId ^ surveyId ^ statusId ^ length).close();
+        return checksum[0];
+    }
+
+    private static ParticipationStore randomRows(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        ParticipationStore.Builder rows = ParticipationStore.builder();
+        for (int i = 0; i < count; i++) {
+            rows.add(random.nextLong(1, 1_000_001L), random.nextLong(1, 1001L), (byte) random.nextInt(1, 5),
+                    random.nextInt(1, 60));
+        }
+        return rows.build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+package com.survey.service.benchmark;
+
+import com.survey.service.SurveyServiceApplication;
+import com.survey.service.data.SyntheticDataset;
+import com.survey.service.dto.ParticipationWriteRequest;
+import com.survey.service.exception.WriteQueueFullException;
+import com.survey.service.service.DataLoaderService;
+import com.survey.service.service.ParticipationWriteService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+/**
+ * Measures how many participations per second request threads can hand to {@link ParticipationWriteService}
+ * while the single writer publishes them on top of a synthetic dataset. Writes rejected because the queue is full
+ * are counted as operations too, so after each iteration the number of participations actually published is
+ * printed next to the queue backlog. Request threads do not wait for the acknowledgement, like many concurrent
+ * clients would, so they measure how fast writes are accepted rather than the latency of one write, e.g.
+ * {@code -Djmh.args="ParticipationWriteBenchmark -p participations=10000000"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xmx6g"})
+@Threads(4)
+@State(Scope.Benchmark)
+public class ParticipationWriteBenchmark {
+
+    private static final int REQUEST_SEQUENCE_LENGTH = 1 << 12;
+    private static final long REJECTED_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Param({"100000"})
+    private int members;
+
+    @Param({"1000"})
+    private int surveys;
+
+    @Param({"1000000"})
+    private long participations;
+
+    @Param({"1", "100"})
+    private int linesPerRequest;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private DataLoaderService dataLoaderService;
+    private ParticipationWriteService participationWriteService;
+    private MeterRegistry meterRegistry;
+    private List<List<ParticipationWriteRequest>> requests;
+    private int publishedBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("survey-benchmark");
+        SyntheticDataset.builder()
+                .members(members)
+                .surveys(surveys)
+                .participations(participations)
+                .build()
+                .write(directory);
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        context = new SpringApplicationBuilder(SurveyServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--data.directory=file:" + directory + "/",
+                        "--logging.level.root=WARN", "--logging.level.com.survey.service=WARN");
+        dataLoaderService = context.getBean(DataLoaderService.class);
+        participationWriteService = context.getBean(ParticipationWriteService.class);
+        meterRegistry = context.getBean(MeterRegistry.class);
+
+        SplittableRandom random = new SplittableRandom(7L);
+        requests = IntStream.range(0, REQUEST_SEQUENCE_LENGTH)
+                .mapToObj(i -> IntStream.range(0, linesPerRequest)
+                        .mapToObj(line -> new ParticipationWriteRequest(random.nextLong(1, members + 1L),
+                                random.nextLong(1, surveys + 1L), random.nextLong(1, 5), random.nextInt(1, 60)))
+                        .toList())
+                .toList();
+    }
+
+    @Setup(Level.Iteration)
+    public void markIteration() {
+        publishedBefore = dataLoaderService.getSnapshot().participations().size();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportIteration() {
+        int published = dataLoaderService.getSnapshot().participations().size() - publishedBefore;
+        Timer publishTimer = meterRegistry.get("survey.data.load").tag("type", "recorded").timer();
+        System.out.printf("%npublished %d participations in this iteration, %d publishes so far taking %.1f ms on average%n",
+                published, publishTimer.count(), publishTimer.mean(TimeUnit.MILLISECONDS));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public CompletableFuture<Integer> recordAll(RequestCursor cursor) {
+        try {
+            return participationWriteService.recordAll(requests.get(cursor.next()));
+        } catch (WriteQueueFullException e) {
+            // Back off like a client answered with 503 instead of spinning against the writer
+            LockSupport.parkNanos(REJECTED_BACKOFF_NANOS);
+            return null;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RequestCursor {
+
+        private int next;
+
+        int next() {
+            return next++ & (REQUEST_SEQUENCE_LENGTH - 1);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.survey.service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.survey.service.dto.SurveyStatisticsDto;
+import com.survey.service.model.Member;
+import com.survey.service.web.ContentCodings;
+import com.survey.service.web.ResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the CPU per request of sending a large JSON body as is, gzip-compressed on every request (what the
+ * container does at its default level) and precompressed from {@link ResponseCache}. The bytes on the wire of each
+ * variant are printed once per trial, e.g.
+ * {@code -Djmh.args="ResponseCompressionBenchmark -p payload=members -p items=100000"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class ResponseCompressionBenchmark {
+
+    private static final String REQUEST_KEY = "/api/surveys/1/invitable-members|application/json";
+
+    @Param({"statistics", "members"})
+    private String payload;
+
+    @Param({"1000", "10000"})
+    private int items;
+
+    private byte[] body;
+    private ResponseCache cache;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SplittableRandom random = new SplittableRandom(42);
+        Object value = switch (payload) {
+            case "statistics" -> IntStream.rangeClosed(1, items)
+                    .mapToObj(id -> new SurveyStatisticsDto((long) id, "Survey " + id, random.nextInt(1_000),
+                            random.nextInt(500), random.nextInt(500), random.nextInt(600, 1_800) / 60.0))
+                    .toList();
+            case "members" -> IntStream.rangeClosed(1, items)
+                    .mapToObj(id -> new Member((long) id, "Member " + id, "member" + id + "@example.com", true))
+                    .toList();
+            default -> throw new IllegalArgumentException("Unknown payload: " + payload);
+        };
+        body = objectMapper.writeValueAsBytes(value);
+
+        cache = new ResponseCache(Long.MAX_VALUE, new SimpleMeterRegistry());
+        byte[] gzipBody = ContentCodings.gzip(body);
+        cache.put(1L, REQUEST_KEY, new ResponseCache.CachedResponse("application/json", null, body, gzipBody));
+
+        System.out.printf("%n%s x %d: identity %d bytes, gzip per request %d bytes, precompressed gzip %d bytes%n",
+                payload, items, body.length, gzipPerRequest().length, gzipBody.length);
+    }
+
+    @Benchmark
+    public byte[] identity() {
+        return cache.get(1L, REQUEST_KEY).body();
+    }
+
+    @Benchmark
+    public byte[] gzipPerRequest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] precompressedGzip() {
+        ResponseCache.CachedResponse cached = cache.get(1L, REQUEST_KEY);
+        return ContentCodings.acceptsGzip("gzip, deflate, br") ? cached.gzipBody() : cached.body();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.survey.service.benchmark;
+
+import com.survey.service.SurveyServiceApplication;
+import com.survey.service.data.SyntheticDataset;
+import com.survey.service.dto.MemberPointsDto;
+import com.survey.service.dto.SurveyStatisticsDto;
+import com.survey.service.model.Member;
+import com.survey.service.model.Survey;
+import com.survey.service.service.CompletedRespondentsService;
+import com.survey.service.service.CompletedSurveysService;
+import com.survey.service.service.InvitableMembersService;
+import com.survey.service.service.MemberPointsService;
+import com.survey.service.service.SurveyStatisticsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every service hot path against a synthetic dataset loaded through the real loader, with ids
+ * drawn from a fixed random sequence so each invocation looks up a different member or survey.
+ * Scale with {@code -p members=1000000 -p participations=10000000} and add {@code -prof gc} for
+ * allocation rates. Survey statistics are cached per snapshot, so that benchmark measures the cache hit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+
+    private static final int ID_SEQUENCE_LENGTH = 1 << 12;
+
+    @Param({"100000"})
+    private int members;
+
+    @Param({"1000"})
+    private int surveys;
+
+    @Param({"1000000"})
+    private long participations;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private CompletedRespondentsService completedRespondentsService;
+    private CompletedSurveysService completedSurveysService;
+    private MemberPointsService memberPointsService;
+    private InvitableMembersService invitableMembersService;
+    private SurveyStatisticsService surveyStatisticsService;
+
+    private long[] memberIds;
+    private long[] surveyIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("survey-benchmark");
+        SyntheticDataset.builder()
+                .members(members)
+                .surveys(surveys)
+                .participations(participations)
+                .build()
+                .write(directory);
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        context = new SpringApplicationBuilder(SurveyServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--data.directory=file:" + directory + "/",
+                        "--logging.level.root=WARN", "--logging.level.com.survey.service=WARN");
+        completedRespondentsService = context.getBean(CompletedRespondentsService.class);
+        completedSurveysService = context.getBean(CompletedSurveysService.class);
+        memberPointsService = context.getBean(MemberPointsService.class);
+        invitableMembersService = context.getBean(InvitableMembersService.class);
+        surveyStatisticsService = context.getBean(SurveyStatisticsService.class);
+
+        SplittableRandom random = new SplittableRandom(7L);
+        memberIds = random.longs(ID_SEQUENCE_LENGTH, 1, members + 1L).toArray();
+        surveyIds = random.longs(ID_SEQUENCE_LENGTH, 1, surveys + 1L).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    private int nextIndex() {
+        return next++ & (ID_SEQUENCE_LENGTH - 1);
+    }
+
+    @Benchmark
+    public List<Member> fetchCompletedRespondentsBySurveyId() {
+        return completedRespondentsService.fetchCompletedRespondentsBySurveyId(surveyIds[nextIndex()]);
+    }
+
+    @Benchmark
+    public List<Survey> fetchCompletedSurveysByMemberId() {
+        return completedSurveysService.fetchCompletedSurveysByMemberId(memberIds[nextIndex()]);
+    }
+
+    @Benchmark
+    public List<MemberPointsDto> fetchMemberPoints() {
+        return memberPointsService.fetchMemberPoints(memberIds[nextIndex()]);
+    }
+
+    @Benchmark
+    public List<Member> fetchInvitableMembersForSurvey() {
+        return invitableMembersService.fetchInvitableMembersForSurvey(surveyIds[nextIndex()]);
+    }
+
+    @Benchmark
+    public List<SurveyStatisticsDto> fetchSurveyStatistics() {
+        return surveyStatisticsService.fetchSurveyStatistics();
+    }
+}
\ No newline at end of file
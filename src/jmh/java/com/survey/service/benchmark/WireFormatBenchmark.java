@@ -0,0 +1,109 @@
+package com.survey.service.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.survey.service.dto.MemberPointsDto;
+import com.survey.service.dto.SurveyStatisticsDto;
+import com.survey.service.model.Member;
+import com.survey.service.model.Survey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares encoding and decoding the response lists as JSON, CBOR and Smile, the formats selectable with
+ * {@code Accept}. The payload size of each format is printed once per trial, e.g.
+ * {@code -Djmh.args="WireFormatBenchmark -p payload=members -p items=100000"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    @Param({"members", "points", "statistics", "surveys"})
+    private String payload;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"10000"})
+    private int items;
+
+    private ObjectMapper mapper;
+    private JavaType type;
+    private List<?> value;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "json" -> new ObjectMapper();
+            case "cbor" -> new CBORMapper();
+            case "smile" -> new SmileMapper();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        SplittableRandom random = new SplittableRandom(42);
+        Class<?> elementType = switch (payload) {
+            case "members" -> {
+                value = IntStream.rangeClosed(1, items)
+                        .mapToObj(id -> new Member((long) id, "Member " + id, "member" + id + "@example.com", true))
+                        .toList();
+                yield Member.class;
+            }
+            case "points" -> {
+                value = IntStream.rangeClosed(1, items)
+                        .mapToObj(id -> new MemberPointsDto((long) id, random.nextInt(1, 50)))
+                        .toList();
+                yield MemberPointsDto.class;
+            }
+            case "statistics" -> {
+                value = IntStream.rangeClosed(1, items)
+                        .mapToObj(id -> new SurveyStatisticsDto((long) id, "Survey " + id, random.nextInt(1_000),
+                                random.nextInt(500), random.nextInt(500), random.nextInt(600, 1_800) / 60.0))
+                        .toList();
+                yield SurveyStatisticsDto.class;
+            }
+            case "surveys" -> {
+                value = IntStream.rangeClosed(1, items)
+                        .mapToObj(id -> new Survey((long) id, "Survey " + id, random.nextInt(10, 1_000),
+                                random.nextInt(1, 50), random.nextInt(1, 10)))
+                        .toList();
+                yield Survey.class;
+            }
+            default -> throw new IllegalArgumentException("Unknown payload: " + payload);
+        };
+        type = mapper.getTypeFactory().constructCollectionType(List.class, elementType);
+        encoded = mapper.writeValueAsBytes(value);
+
+        System.out.printf("%n%s x %d as %s: %d bytes%n", payload, items, format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public List<?> decode() throws IOException {
+        return mapper.readValue(encoded, type);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.survey.service.controller;
+
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.dto.DataCompactionDto;
+import com.survey.service.dto.DataReloadDto;
+import com.survey.service.service.DataLoaderService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Data maintenance operations. They are not authenticated and a full reload is expensive, so they are only served
+ * with {@code admin.api.enabled=true}, on deployments where the API port is not reachable by untrusted clients.
+ */
+@RestController
+@RequestMapping("/api/admin")
+@ConditionalOnProperty(name = "admin.api.enabled", havingValue = "true")
+public class AdminController {
+
+    private final DataLoaderService dataLoaderService;
+
+    public AdminController(DataLoaderService dataLoaderService) {
+        this.dataLoaderService = dataLoaderService;
+    }
+
+    @PostMapping("/data/reload")
+    public ResponseEntity<DataReloadDto> reloadData() {
+        return ResponseEntity.ok(toDto(dataLoaderService.reload(true)));
+    }
+
+    @PostMapping("/data/append")
+    public ResponseEntity<DataReloadDto> appendParticipations() {
+        return ResponseEntity.ok(toDto(dataLoaderService.appendParticipations()));
+    }
+
+    @PostMapping("/data/compact")
+    public ResponseEntity<DataCompactionDto> compactParticipationLog() {
+        int folded = dataLoaderService.compactParticipationLog();
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+        return ResponseEntity.ok(new DataCompactionDto(folded, snapshot.version(), snapshot.participations().size()));
+    }
+
+    private DataReloadDto toDto(DataSnapshot snapshot) {
+        return new DataReloadDto(snapshot.version(), snapshot.membersById().size(),
+                snapshot.surveysById().size(), snapshot.participations().size());
+    }
+}
\ No newline at end of file
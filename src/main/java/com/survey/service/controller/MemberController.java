@@ -1,15 +1,33 @@
 package com.survey.service.controller;
 
+import com.survey.service.dto.CompletedSurveysBatchEntryDto;
+import com.survey.service.dto.LeaderboardEntryDto;
+import com.survey.service.dto.MemberBatchGetRequest;
+import com.survey.service.dto.MemberPointsBatchEntryDto;
 import com.survey.service.dto.MemberPointsDto;
+import com.survey.service.dto.MemberPointsPage;
+import com.survey.service.dto.MemberPointsSummaryDto;
+import com.survey.service.dto.MemberRankDto;
+import com.survey.service.dto.MemberSearchPage;
+import com.survey.service.model.Member;
 import com.survey.service.model.Survey;
 import com.survey.service.service.CompletedSurveysService;
+import com.survey.service.service.LeaderboardService;
 import com.survey.service.service.MemberPointsService;
+import com.survey.service.service.MemberSearchService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -19,13 +37,45 @@ import java.util.List;
 @Validated
 public class MemberController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 10_000;
+    private static final int MAX_QUERY_LENGTH = 100;
+
     private final CompletedSurveysService completedSurveysService;
     private final MemberPointsService memberPointsService;
+    private final LeaderboardService leaderboardService;
+    private final MemberSearchService memberSearchService;
 
     public MemberController(CompletedSurveysService completedSurveysService,
-                            MemberPointsService memberPointsService) {
+                            MemberPointsService memberPointsService,
+                            LeaderboardService leaderboardService,
+                            MemberSearchService memberSearchService) {
         this.completedSurveysService = completedSurveysService;
         this.memberPointsService = memberPointsService;
+        this.leaderboardService = leaderboardService;
+        this.memberSearchService = memberSearchService;
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<Member>> searchMembers(
+            @RequestParam @NotBlank(message = "Query must not be blank")
+            @Size(max = MAX_QUERY_LENGTH, message = "Query must not exceed " + MAX_QUERY_LENGTH + " characters") String q,
+            @RequestParam(defaultValue = "20")
+            @Positive(message = "Limit must be a positive number")
+            @Max(value = MAX_PAGE_SIZE, message = "Limit must not exceed " + MAX_PAGE_SIZE) Integer limit,
+            @RequestParam(required = false) @Positive(message = "Cursor must be a positive number") Long cursor) {
+        MemberSearchPage page = memberSearchService.fetchMemberSearchPage(q, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().toString());
+        }
+        return response.body(page.members());
+    }
+
+    @GetMapping("/by-email/{email}")
+    public ResponseEntity<Member> getMemberByEmail(@PathVariable String email) {
+        Member member = memberSearchService.fetchMemberByEmail(email);
+        return ResponseEntity.ok(member);
     }
 
     @GetMapping("/{memberId}/completed-surveys")
@@ -35,10 +85,62 @@ public class MemberController {
         return ResponseEntity.ok(surveys);
     }
 
+    @PostMapping("/completed-surveys:batchGet")
+    public ResponseEntity<List<CompletedSurveysBatchEntryDto>> batchGetCompletedSurveys(
+            @RequestBody @Valid MemberBatchGetRequest request) {
+        List<CompletedSurveysBatchEntryDto> results =
+                completedSurveysService.fetchCompletedSurveysBatch(request.memberIds());
+        return ResponseEntity.ok(results);
+    }
+
     @GetMapping("/{memberId}/points")
     public ResponseEntity<List<MemberPointsDto>> getMemberPoints(
+            @PathVariable @Positive(message = "Member ID must be a positive number") Long memberId,
+            @RequestParam(required = false)
+            @Positive(message = "Limit must be a positive number")
+            @Max(value = MAX_PAGE_SIZE, message = "Limit must not exceed " + MAX_PAGE_SIZE) Integer limit,
+            @RequestParam(required = false) @Positive(message = "Cursor must be a positive number") Long cursor) {
+        if (limit == null && cursor == null) {
+            List<MemberPointsDto> points = memberPointsService.fetchMemberPoints(memberId);
+            return ResponseEntity.ok(points);
+        }
+
+        MemberPointsPage page = memberPointsService.fetchMemberPointsPage(
+                memberId, cursor, limit != null ? limit : MAX_PAGE_SIZE);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().toString());
+        }
+        return response.body(page.points());
+    }
+
+    @PostMapping("/points:batchGet")
+    public ResponseEntity<List<MemberPointsBatchEntryDto>> batchGetMemberPoints(
+            @RequestBody @Valid MemberBatchGetRequest request) {
+        List<MemberPointsBatchEntryDto> results = memberPointsService.fetchMemberPointsBatch(request.memberIds());
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/{memberId}/points/summary")
+    public ResponseEntity<MemberPointsSummaryDto> getMemberPointsSummary(
+            @PathVariable @Positive(message = "Member ID must be a positive number") Long memberId) {
+        MemberPointsSummaryDto summary = memberPointsService.fetchMemberPointsSummary(memberId);
+        return ResponseEntity.ok(summary);
+    }
+
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntryDto>> getLeaderboard(
+            @RequestParam(defaultValue = "100")
+            @Positive(message = "Limit must be a positive number")
+            @Max(value = MAX_PAGE_SIZE, message = "Limit must not exceed " + MAX_PAGE_SIZE) Integer limit) {
+        List<LeaderboardEntryDto> leaderboard = leaderboardService.fetchLeaderboard(limit);
+        return ResponseEntity.ok(leaderboard);
+    }
+
+    @GetMapping("/{memberId}/rank")
+    public ResponseEntity<MemberRankDto> getMemberRank(
             @PathVariable @Positive(message = "Member ID must be a positive number") Long memberId) {
-        List<MemberPointsDto> points = memberPointsService.fetchMemberPoints(memberId);
-        return ResponseEntity.ok(points);
+        MemberRankDto rank = leaderboardService.fetchMemberRank(memberId);
+        return ResponseEntity.ok(rank);
     }
 }
\ No newline at end of file
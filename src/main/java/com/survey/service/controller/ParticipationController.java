@@ -0,0 +1,110 @@
+package com.survey.service.controller;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.survey.service.dto.ParticipationWriteRequest;
+import com.survey.service.dto.ParticipationsAcceptedDto;
+import com.survey.service.exception.InvalidParticipationException;
+import com.survey.service.service.ParticipationWriteService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Accepts participations as they happen. Both endpoints validate the participations and queue them, then answer
+ * {@code 202 Accepted} asynchronously once the writer has published them with the next snapshot and, with the
+ * participation log enabled, forced them to disk. A publish only recomputes the surveys and members it touches.
+ * With a positive {@code data.wal.fsync-interval} the answer waits for the next sync, so while writes keep arriving
+ * the interval adds up to its own length plus one batch to the response time.
+ */
+@RestController
+@RequestMapping("/api/participations")
+public class ParticipationController {
+
+    static final int MAX_BULK_SIZE = 100_000;
+
+    private final ParticipationWriteService participationWriteService;
+    private final ObjectReader requestReader;
+    private final Validator validator;
+
+    public ParticipationController(ParticipationWriteService participationWriteService,
+                                   ObjectMapper objectMapper,
+                                   Validator validator) {
+        this.participationWriteService = participationWriteService;
+        this.requestReader = objectMapper.readerFor(ParticipationWriteRequest.class);
+        this.validator = validator;
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<ParticipationsAcceptedDto>> recordParticipation(
+            @RequestBody @Valid ParticipationWriteRequest request) {
+        return participationWriteService.record(request).thenApply(ParticipationController::accepted);
+    }
+
+    /**
+     * Takes one participation per line and accepts all of them or, if any line is invalid, none.
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public CompletableFuture<ResponseEntity<ParticipationsAcceptedDto>> recordParticipations(InputStream body)
+            throws IOException {
+        List<ParticipationWriteRequest> requests = new ArrayList<>();
+        try (MappingIterator<ParticipationWriteRequest> lines = requestReader.readValues(body)) {
+            while (hasNextLine(lines, requests.size() + 1)) {
+                if (requests.size() == MAX_BULK_SIZE) {
+                    throw new InvalidParticipationException(
+                            "At most " + MAX_BULK_SIZE + " participations can be written at once");
+                }
+                ParticipationWriteRequest request = nextLine(lines, requests.size() + 1);
+                Set<ConstraintViolation<ParticipationWriteRequest>> violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    throw new InvalidParticipationException("Participation " + (requests.size() + 1) + ": "
+                            + violations.iterator().next().getMessage());
+                }
+                requests.add(request);
+            }
+        }
+        if (requests.isEmpty()) {
+            throw new InvalidParticipationException("Request body must contain at least one participation");
+        }
+
+        return participationWriteService.recordAll(requests).thenApply(ParticipationController::accepted);
+    }
+
+    private static ResponseEntity<ParticipationsAcceptedDto> accepted(int accepted) {
+        return ResponseEntity.accepted().body(new ParticipationsAcceptedDto(accepted));
+    }
+
+    private static boolean hasNextLine(MappingIterator<ParticipationWriteRequest> lines, int position) {
+        try {
+            return lines.hasNextValue();
+        } catch (IOException e) {
+            throw notJson(position);
+        }
+    }
+
+    private static ParticipationWriteRequest nextLine(MappingIterator<ParticipationWriteRequest> lines, int position) {
+        try {
+            return lines.nextValue();
+        } catch (IOException e) {
+            throw notJson(position);
+        }
+    }
+
+    private static InvalidParticipationException notJson(int position) {
+        return new InvalidParticipationException("Participation " + position + ": not a valid JSON object");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.survey.service.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+/**
+ * Writes lazily produced elements straight to the response, either as a JSON array or as
+ * newline-delimited JSON. Elements are serialized one at a time through a single generator,
+ * so heap use per request stays flat regardless of the result size.
+ */
+class StreamingResponses {
+
+    private final ObjectMapper objectMapper;
+
+    StreamingResponses(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    <T> ResponseEntity<StreamingResponseBody> jsonArray(Stream<T> elements, Class<T> type) {
+        ObjectWriter writer = elementWriter(type);
+        StreamingResponseBody body = outputStream -> {
+            try (elements; JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                elements.forEachOrdered(element -> write(writer, generator, element));
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    <T> ResponseEntity<StreamingResponseBody> ndjson(Stream<T> elements, Class<T> type) {
+        ObjectWriter writer = elementWriter(type);
+        StreamingResponseBody body = outputStream -> {
+            try (elements; JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                elements.forEachOrdered(element -> {
+                    write(writer, generator, element);
+                    writeNewline(generator);
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    // The generator buffers and flushes on its own; flushing after every element would defeat that
+    private ObjectWriter elementWriter(Class<?> type) {
+        return objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private static <T> void write(ObjectWriter writer, JsonGenerator generator, T element) {
+        try {
+            writer.writeValue(generator, element);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeNewline(JsonGenerator generator) {
+        try {
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
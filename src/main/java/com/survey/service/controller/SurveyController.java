@@ -1,35 +1,64 @@
 package com.survey.service.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.survey.service.dto.InvitableMembersPage;
+import com.survey.service.dto.LeaderboardEntryDto;
+import com.survey.service.dto.SurveyQuotaDto;
 import com.survey.service.dto.SurveyStatisticsDto;
 import com.survey.service.model.Member;
 import com.survey.service.service.CompletedRespondentsService;
 import com.survey.service.service.InvitableMembersService;
+import com.survey.service.service.LeaderboardService;
+import com.survey.service.service.SurveyQuotaService;
 import com.survey.service.service.SurveyStatisticsService;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/surveys")
 @Validated
 public class SurveyController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 10_000;
+    private static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
     private final CompletedRespondentsService completedRespondentsService;
     private final InvitableMembersService invitableMembersService;
     private final SurveyStatisticsService surveyStatisticsService;
+    private final LeaderboardService leaderboardService;
+    private final SurveyQuotaService surveyQuotaService;
+    private final StreamingResponses streamingResponses;
 
     public SurveyController(CompletedRespondentsService completedRespondentsService,
                             InvitableMembersService invitableMembersService,
-                            SurveyStatisticsService surveyStatisticsService) {
+                            SurveyStatisticsService surveyStatisticsService,
+                            LeaderboardService leaderboardService,
+                            SurveyQuotaService surveyQuotaService,
+                            ObjectMapper objectMapper) {
         this.completedRespondentsService = completedRespondentsService;
         this.invitableMembersService = invitableMembersService;
         this.surveyStatisticsService = surveyStatisticsService;
+        this.leaderboardService = leaderboardService;
+        this.surveyQuotaService = surveyQuotaService;
+        this.streamingResponses = new StreamingResponses(objectMapper);
     }
 
     @GetMapping("/{surveyId}/completed-respondents")
@@ -39,17 +68,112 @@ public class SurveyController {
         return ResponseEntity.ok(respondents);
     }
 
+    @GetMapping(value = "/{surveyId}/completed-respondents", params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCompletedRespondents(
+            @PathVariable @Positive(message = "Survey ID must be a positive number") Long surveyId) {
+        Stream<Member> respondents = completedRespondentsService.streamCompletedRespondentsBySurveyId(surveyId);
+        return streamingResponses.jsonArray(respondents, Member.class);
+    }
+
+    @GetMapping(value = "/{surveyId}/completed-respondents", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCompletedRespondentsNdjson(
+            @PathVariable @Positive(message = "Survey ID must be a positive number") Long surveyId) {
+        Stream<Member> respondents = completedRespondentsService.streamCompletedRespondentsBySurveyId(surveyId);
+        return streamingResponses.ndjson(respondents, Member.class);
+    }
+
     @GetMapping("/{surveyId}/invitable-members")
     public ResponseEntity<List<Member>> getInvitableMembers(
+            @PathVariable @Positive(message = "Survey ID must be a positive number") Long surveyId,
+            @RequestParam(required = false)
+            @Positive(message = "Limit must be a positive number")
+            @Max(value = MAX_PAGE_SIZE, message = "Limit must not exceed " + MAX_PAGE_SIZE) Integer limit,
+            @RequestParam(required = false) @Positive(message = "Cursor must be a positive number") Long cursor) {
+        if (limit == null && cursor == null) {
+            List<Member> members = invitableMembersService.fetchInvitableMembersForSurvey(surveyId);
+            return ResponseEntity.ok(members);
+        }
+
+        InvitableMembersPage page = invitableMembersService.fetchInvitableMembersPage(
+                surveyId, cursor, limit != null ? limit : MAX_PAGE_SIZE);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().toString());
+        }
+        return response.body(page.members());
+    }
+
+    @GetMapping(value = "/{surveyId}/invitable-members", params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamInvitableMembers(
+            @PathVariable @Positive(message = "Survey ID must be a positive number") Long surveyId) {
+        Stream<Member> members = invitableMembersService.streamInvitableMembersForSurvey(surveyId);
+        return streamingResponses.jsonArray(members, Member.class);
+    }
+
+    @GetMapping(value = "/{surveyId}/invitable-members", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamInvitableMembersNdjson(
             @PathVariable @Positive(message = "Survey ID must be a positive number") Long surveyId) {
-        List<Member> members = invitableMembersService.fetchInvitableMembersForSurvey(surveyId);
-        return ResponseEntity.ok(members);
+        Stream<Member> members = invitableMembersService.streamInvitableMembersForSurvey(surveyId);
+        return streamingResponses.ndjson(members, Member.class);
+    }
+
+    @GetMapping("/{surveyId}/leaderboard")
+    public ResponseEntity<List<LeaderboardEntryDto>> getSurveyLeaderboard(
+            @PathVariable @Positive(message = "Survey ID must be a positive number") Long surveyId,
+            @RequestParam(defaultValue = "100")
+            @Positive(message = "Limit must be a positive number")
+            @Max(value = MAX_PAGE_SIZE, message = "Limit must not exceed " + MAX_PAGE_SIZE) Integer limit) {
+        List<LeaderboardEntryDto> leaderboard = leaderboardService.fetchSurveyLeaderboard(surveyId, limit);
+        return ResponseEntity.ok(leaderboard);
+    }
+
+    @GetMapping("/quotas")
+    public ResponseEntity<List<SurveyQuotaDto>> getSurveyQuotas() {
+        List<SurveyQuotaDto> quotas = surveyQuotaService.fetchSurveyQuotas();
+        return ResponseEntity.ok(quotas);
     }
 
-    @GetMapping("/statistics")
-    public ResponseEntity<List<SurveyStatisticsDto>> getSurveyStatistics() {
+    @GetMapping("/{surveyId}/quota")
+    public ResponseEntity<SurveyQuotaDto> getSurveyQuota(
+            @PathVariable @Positive(message = "Survey ID must be a positive number") Long surveyId) {
+        SurveyQuotaDto quota = surveyQuotaService.fetchSurveyQuota(surveyId);
+        return ResponseEntity.ok(quota);
+    }
+
+    /**
+     * JSON stays the default and is written from the pre-serialized body; CBOR and Smile are written from the DTOs
+     * only when the client prefers one of them over JSON.
+     */
+    @GetMapping(value = "/statistics",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<?> getSurveyStatistics(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        MediaType binaryFormat = preferredBinaryFormat(accept);
+        if (binaryFormat == null) {
+            byte[] statistics = surveyStatisticsService.fetchSurveyStatisticsJson();
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(statistics);
+        }
         List<SurveyStatisticsDto> statistics = surveyStatisticsService.fetchSurveyStatistics();
-        return ResponseEntity.ok(statistics);
+        return ResponseEntity.ok().contentType(binaryFormat).body(statistics);
+    }
+
+    private static MediaType preferredBinaryFormat(String accept) {
+        if (accept == null) {
+            return null;
+        }
+        List<MediaType> acceptedTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        acceptedTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.includes(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+            if (acceptedType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return MediaType.APPLICATION_CBOR;
+            }
+            if (acceptedType.isCompatibleWith(APPLICATION_SMILE)) {
+                return APPLICATION_SMILE;
+            }
+        }
+        return null;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.survey.service.data;
+
+import com.survey.service.model.Member;
+import com.survey.service.model.Survey;
+
+import java.util.Map;
+
+/**
+ * Immutable, versioned view of the loaded dataset.
+ * A snapshot is built once and then handed out by reference, so readers never copy
+ * and always see a consistent set of members, surveys and participations.
+ */
+public final class DataSnapshot {
+
+    public static final DataSnapshot EMPTY = new DataSnapshot(0L, Map.of(), Map.of(), ParticipationStore.EMPTY);
+
+    private final long version;
+    private final Map<Long, Member> membersById;
+    private final Map<Long, Survey> surveysById;
+    private final ParticipationStore participations;
+    private final SurveyAggregates surveyAggregates;
+    private final MemberIndex memberIndex;
+    private final MemberSearchIndex memberSearchIndex;
+    private final MemberEmailIndex memberEmailIndex;
+    private final ParticipationBitsets participationBitsets;
+    private final PointsLedger pointsLedger;
+    private final Leaderboard leaderboard;
+
+    public DataSnapshot(long version,
+                        Map<Long, Member> membersById,
+                        Map<Long, Survey> surveysById,
+                        ParticipationStore participations) {
+        this(version, membersById, surveysById, participations,
+                SurveyAggregates.from(surveysById.keySet(), participations));
+    }
+
+    public DataSnapshot(long version,
+                        Map<Long, Member> membersById,
+                        Map<Long, Survey> surveysById,
+                        ParticipationStore participations,
+                        SurveyAggregates surveyAggregates) {
+        this.version = version;
+        this.membersById = Map.copyOf(membersById);
+        this.surveysById = Map.copyOf(surveysById);
+        this.participations = participations;
+        this.surveyAggregates = surveyAggregates;
+        this.memberIndex = MemberIndex.of(this.membersById);
+        this.memberSearchIndex = MemberSearchIndex.of(memberIndex);
+        this.memberEmailIndex = MemberEmailIndex.of(memberIndex);
+        this.participationBitsets = ParticipationBitsets.of(memberIndex, participations);
+        this.pointsLedger = PointsLedger.of(participations, this.surveysById);
+        this.leaderboard = Leaderboard.of(pointsLedger);
+    }
+
+    /**
+     * Reassembles a snapshot from parts that were persisted together, without recomputing indexes.
+     */
+    DataSnapshot(long version, Map<Long, Member> membersById, Map<Long, Survey> surveysById,
+                 ParticipationStore participations, SurveyAggregates surveyAggregates,
+                 MemberIndex memberIndex, MemberSearchIndex memberSearchIndex, MemberEmailIndex memberEmailIndex,
+                 ParticipationBitsets participationBitsets, PointsLedger pointsLedger, Leaderboard leaderboard) {
+        this.version = version;
+        this.membersById = Map.copyOf(membersById);
+        this.surveysById = Map.copyOf(surveysById);
+        this.participations = participations;
+        this.surveyAggregates = surveyAggregates;
+        this.memberIndex = memberIndex;
+        this.memberSearchIndex = memberSearchIndex;
+        this.memberEmailIndex = memberEmailIndex;
+        this.participationBitsets = participationBitsets;
+        this.pointsLedger = pointsLedger;
+        this.leaderboard = leaderboard;
+    }
+
+    private DataSnapshot(long version, DataSnapshot base, ParticipationStore participations,
+                         SurveyAggregates surveyAggregates, ParticipationBitsets participationBitsets,
+                         PointsLedger pointsLedger, Leaderboard leaderboard) {
+        this.version = version;
+        this.membersById = base.membersById;
+        this.surveysById = base.surveysById;
+        this.participations = participations;
+        this.surveyAggregates = surveyAggregates;
+        this.memberIndex = base.memberIndex;
+        this.memberSearchIndex = base.memberSearchIndex;
+        this.memberEmailIndex = base.memberEmailIndex;
+        this.participationBitsets = participationBitsets;
+        this.pointsLedger = pointsLedger;
+        this.leaderboard = leaderboard;
+    }
+
+    /**
+     * Returns a new snapshot with {@code delta} appended to the participations. Members, surveys and
+     * their indexes are shared with this snapshot; aggregates, bitsets, the points ledger and the leaderboard
+     * are extended rather than rebuilt, so only the surveys and members in the delta are recomputed and the rest
+     * is copied. This snapshot stays untouched for readers still holding it.
+     */
+    public DataSnapshot withAppendedParticipations(long version, ParticipationStore delta) {
+        ParticipationStore merged = participations.withAppended(delta);
+        SurveyAggregates.Builder aggregates = surveyAggregates.toBuilder();
+        for (int row = 0; row < delta.size(); row++) {
+            aggregates.add(delta.surveyId(row), delta.statusId(row), delta.length(row));
+        }
+        PointsLedger earned = PointsLedger.of(delta, surveysById);
+        PointsLedger ledger = pointsLedger.withAppended(earned);
+        return new DataSnapshot(version, this, merged, aggregates.build(),
+                participationBitsets.withAppended(merged, delta), ledger, leaderboard.withAppended(ledger, earned));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Map<Long, Member> membersById() {
+        return membersById;
+    }
+
+    public Map<Long, Survey> surveysById() {
+        return surveysById;
+    }
+
+    public ParticipationStore participations() {
+        return participations;
+    }
+
+    public SurveyAggregates surveyAggregates() {
+        return surveyAggregates;
+    }
+
+    public MemberIndex memberIndex() {
+        return memberIndex;
+    }
+
+    public MemberSearchIndex memberSearchIndex() {
+        return memberSearchIndex;
+    }
+
+    public MemberEmailIndex memberEmailIndex() {
+        return memberEmailIndex;
+    }
+
+    public ParticipationBitsets participationBitsets() {
+        return participationBitsets;
+    }
+
+    public PointsLedger pointsLedger() {
+        return pointsLedger;
+    }
+
+    public Leaderboard leaderboard() {
+        return leaderboard;
+    }
+}
\ No newline at end of file
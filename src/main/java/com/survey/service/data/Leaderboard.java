@@ -0,0 +1,425 @@
+package com.survey.service.data;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Members ranked by points, computed once per snapshot from the {@link PointsLedger}: one global
+ * ranking by total points and, CSR-style, one ranking per survey by the points earned in it.
+ * Rankings are ordered by points descending, ties by member id ascending, so every member has
+ * a distinct rank and top-K is a prefix read. When participations are appended, only the members
+ * that earned points move; see {@link #withAppended(PointsLedger, PointsLedger)}.
+ */
+public final class Leaderboard {
+
+    public static final Leaderboard EMPTY = of(PointsLedger.EMPTY);
+
+    // Points of a member that was not ranked before
+    private static final long ABSENT = Long.MIN_VALUE;
+
+    private final PointsLedger ledger;
+
+    // Global ranking, in rank order
+    private final long[] rankedMemberIds;
+    private final long[] rankedTotals;
+
+    // Survey rankings: distinct sorted ids and ranked slices [surveyOffsets[slot], surveyOffsets[slot + 1])
+    private final long[] surveyIds;
+    private final int[] surveyOffsets;
+    private final long[] surveyMemberIds;
+    private final long[] surveyPoints;
+
+    private Leaderboard(PointsLedger ledger, long[] rankedMemberIds, long[] rankedTotals,
+                        long[] surveyIds, int[] surveyOffsets, long[] surveyMemberIds, long[] surveyPoints) {
+        this.ledger = ledger;
+        this.rankedMemberIds = rankedMemberIds;
+        this.rankedTotals = rankedTotals;
+        this.surveyIds = surveyIds;
+        this.surveyOffsets = surveyOffsets;
+        this.surveyMemberIds = surveyMemberIds;
+        this.surveyPoints = surveyPoints;
+    }
+
+    public static Leaderboard of(PointsLedger ledger) {
+        int memberCount = ledger.memberCount();
+        long[] totals = new long[memberCount];
+        for (int slot = 0; slot < memberCount; slot++) {
+            totals[slot] = ledger.total(slot);
+        }
+        // Ledger slots are in member id order, which the stable sort keeps for equal totals
+        int[] order = descendingOrder(totals);
+        long[] rankedMemberIds = new long[memberCount];
+        long[] rankedTotals = new long[memberCount];
+        for (int rank = 0; rank < memberCount; rank++) {
+            rankedMemberIds[rank] = ledger.memberId(order[rank]);
+            rankedTotals[rank] = totals[order[rank]];
+        }
+
+        // One item per member and survey; repeated entries for the same survey are adjacent and summed
+        int entryCount = memberCount == 0 ? 0 : ledger.entryEnd(memberCount - 1);
+        long[] itemMemberIds = new long[entryCount];
+        long[] itemSurveyIds = new long[entryCount];
+        long[] itemPoints = new long[entryCount];
+        int items = 0;
+        for (int slot = 0; slot < memberCount; slot++) {
+            for (int entry = ledger.entryStart(slot); entry < ledger.entryEnd(slot); entry++) {
+                long surveyId = ledger.entrySurveyId(entry);
+                if (entry > ledger.entryStart(slot) && itemSurveyIds[items - 1] == surveyId) {
+                    itemPoints[items - 1] += ledger.entryPoints(entry);
+                    continue;
+                }
+                itemMemberIds[items] = ledger.memberId(slot);
+                itemSurveyIds[items] = surveyId;
+                itemPoints[items] = ledger.entryPoints(entry);
+                items++;
+            }
+        }
+        itemMemberIds = Arrays.copyOf(itemMemberIds, items);
+        itemSurveyIds = Arrays.copyOf(itemSurveyIds, items);
+        itemPoints = Arrays.copyOf(itemPoints, items);
+
+        // Rank all items by points, then counting sort them by survey, which keeps the ranking within each survey
+        int[] itemOrder = descendingOrder(itemPoints);
+        long[] surveyIds = distinctSorted(itemSurveyIds);
+        int[] itemSurveySlots = new int[items];
+        for (int item = 0; item < items; item++) {
+            itemSurveySlots[item] = Arrays.binarySearch(surveyIds, itemSurveyIds[item]);
+        }
+        int[] surveyOffsets = ParticipationStore.Builder.offsets(itemSurveySlots, surveyIds.length);
+        int[] cursor = Arrays.copyOf(surveyOffsets, surveyIds.length);
+        long[] surveyMemberIds = new long[items];
+        long[] surveyPoints = new long[items];
+        for (int item : itemOrder) {
+            int position = cursor[itemSurveySlots[item]]++;
+            surveyMemberIds[position] = itemMemberIds[item];
+            surveyPoints[position] = itemPoints[item];
+        }
+
+        return new Leaderboard(ledger, rankedMemberIds, rankedTotals,
+                surveyIds, surveyOffsets, surveyMemberIds, surveyPoints);
+    }
+
+    /**
+     * Returns the rankings for {@code ledger}, which is this leaderboard's ledger extended by {@code delta}, as
+     * {@link #of} would compute them. Only the members of {@code delta} move: each is taken out of the global
+     * ranking and the rankings of the surveys it earned points in, and put back at its new place by binary search.
+     * The rest of the rankings is copied in runs, so nothing is sorted again.
+     */
+    public Leaderboard withAppended(PointsLedger ledger, PointsLedger delta) {
+        int changedCount = delta.memberCount();
+        if (changedCount == 0) {
+            return this;
+        }
+        long[] changedMemberIds = new long[changedCount];
+        long[] previousTotals = new long[changedCount];
+        long[] changedTotals = new long[changedCount];
+        int newlyRanked = 0;
+        for (int slot = 0; slot < changedCount; slot++) {
+            long memberId = delta.memberId(slot);
+            int previousSlot = this.ledger.slot(memberId);
+            changedMemberIds[slot] = memberId;
+            previousTotals[slot] = previousSlot >= 0 ? this.ledger.total(previousSlot) : ABSENT;
+            changedTotals[slot] = ledger.total(ledger.slot(memberId));
+            newlyRanked += previousSlot < 0 ? 1 : 0;
+        }
+        // Sized exactly, so the filled arrays are used as they are
+        Ranking global = new Ranking(rankedMemberIds.length + newlyRanked);
+        global.merge(rankedMemberIds, rankedTotals, 0, rankedMemberIds.length,
+                changedMemberIds, previousTotals, changedTotals, 0, changedCount);
+
+        // One change per member and survey it earned points in, grouped by survey and in member id order within
+        int entryCount = delta.entryEnd(changedCount - 1);
+        long[] itemMemberIds = new long[entryCount];
+        long[] itemSurveyIds = new long[entryCount];
+        int items = 0;
+        for (int slot = 0; slot < changedCount; slot++) {
+            for (int entry = delta.entryStart(slot); entry < delta.entryEnd(slot); entry++) {
+                if (entry > delta.entryStart(slot) && itemSurveyIds[items - 1] == delta.entrySurveyId(entry)) {
+                    continue;
+                }
+                itemMemberIds[items] = delta.memberId(slot);
+                itemSurveyIds[items++] = delta.entrySurveyId(entry);
+            }
+        }
+        long[] changedSurveyIds = distinctSorted(Arrays.copyOf(itemSurveyIds, items));
+        int[] itemSurveySlots = new int[items];
+        for (int item = 0; item < items; item++) {
+            itemSurveySlots[item] = Arrays.binarySearch(changedSurveyIds, itemSurveyIds[item]);
+        }
+        int[] changeOffsets = ParticipationStore.Builder.offsets(itemSurveySlots, changedSurveyIds.length);
+        int[] cursor = Arrays.copyOf(changeOffsets, changedSurveyIds.length);
+        long[] surveyChangeMemberIds = new long[items];
+        long[] previousSurveyPoints = new long[items];
+        long[] changedSurveyPoints = new long[items];
+        int newSurveyEntries = 0;
+        for (int item = 0; item < items; item++) {
+            int position = cursor[itemSurveySlots[item]]++;
+            surveyChangeMemberIds[position] = itemMemberIds[item];
+            previousSurveyPoints[position] = surveyPoints(this.ledger, itemMemberIds[item], itemSurveyIds[item]);
+            changedSurveyPoints[position] = surveyPoints(ledger, itemMemberIds[item], itemSurveyIds[item]);
+            newSurveyEntries += previousSurveyPoints[position] == ABSENT ? 1 : 0;
+        }
+
+        long[] mergedSurveyIds = new long[surveyIds.length + changedSurveyIds.length];
+        int[] mergedSurveyOffsets = new int[mergedSurveyIds.length + 1];
+        Ranking surveys = new Ranking(surveyMemberIds.length + newSurveyEntries);
+        int surveyCount = 0;
+        int slot = 0;
+        for (int changed = 0; changed < changedSurveyIds.length; changed++) {
+            long surveyId = changedSurveyIds[changed];
+            int position = Arrays.binarySearch(surveyIds, slot, surveyIds.length, surveyId);
+            int runEnd = position >= 0 ? position : -position - 1;
+            surveyCount = copySurveys(slot, runEnd, surveyCount, mergedSurveyIds, mergedSurveyOffsets, surveys);
+            slot = runEnd;
+            int from = position >= 0 ? surveyOffsets[slot] : 0;
+            int to = position >= 0 ? surveyOffsets[++slot] : 0;
+            surveys.merge(surveyMemberIds, surveyPoints, from, to, surveyChangeMemberIds,
+                    previousSurveyPoints, changedSurveyPoints, changeOffsets[changed], changeOffsets[changed + 1]);
+            mergedSurveyIds[surveyCount] = surveyId;
+            mergedSurveyOffsets[++surveyCount] = surveys.size;
+        }
+        surveyCount = copySurveys(slot, surveyIds.length, surveyCount, mergedSurveyIds, mergedSurveyOffsets, surveys);
+
+        return new Leaderboard(ledger, global.memberIds, global.points,
+                Arrays.copyOf(mergedSurveyIds, surveyCount), Arrays.copyOf(mergedSurveyOffsets, surveyCount + 1),
+                surveys.memberIds, surveys.points);
+    }
+
+    /**
+     * Copies the survey rankings of slots [from, to) behind the {@code surveyCount} survey rankings already copied.
+     *
+     * @return the number of copied survey rankings afterwards
+     */
+    private int copySurveys(int from, int to, int surveyCount, long[] mergedSurveyIds, int[] mergedSurveyOffsets,
+                            Ranking surveys) {
+        if (from == to) {
+            return surveyCount;
+        }
+        System.arraycopy(surveyIds, from, mergedSurveyIds, surveyCount, to - from);
+        int shift = surveys.size - surveyOffsets[from];
+        surveys.append(surveyMemberIds, surveyPoints, surveyOffsets[from], surveyOffsets[to]);
+        for (int slot = from; slot < to; slot++) {
+            mergedSurveyOffsets[++surveyCount] = surveyOffsets[slot + 1] + shift;
+        }
+        return surveyCount;
+    }
+
+    /**
+     * @return the points the member earned in the survey, or {@link #ABSENT} if it earned none
+     */
+    private static long surveyPoints(PointsLedger ledger, long memberId, long surveyId) {
+        int slot = ledger.slot(memberId);
+        if (slot < 0) {
+            return ABSENT;
+        }
+        int entry = ledger.ceilingEntry(slot, surveyId);
+        if (entry == ledger.entryEnd(slot) || ledger.entrySurveyId(entry) != surveyId) {
+            return ABSENT;
+        }
+        long points = 0;
+        for (; entry < ledger.entryEnd(slot) && ledger.entrySurveyId(entry) == surveyId; entry++) {
+            points += ledger.entryPoints(entry);
+        }
+        return points;
+    }
+
+    /**
+     * Stable ordering of the indexes of {@code values} by descending value: a counting sort over the
+     * distinct values, so no index is boxed.
+     */
+    private static int[] descendingOrder(long[] values) {
+        long[] distinct = distinctSorted(values);
+        int[] buckets = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            buckets[i] = distinct.length - 1 - Arrays.binarySearch(distinct, values[i]);
+        }
+        int[] cursor = ParticipationStore.Builder.offsets(buckets, distinct.length);
+        int[] order = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            order[cursor[buckets[i]]++] = i;
+        }
+        return order;
+    }
+
+    private static long[] distinctSorted(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, distinct);
+    }
+
+    /**
+     * @return the first position in [from, to) whose entry does not rank before the given member and points
+     */
+    private static int position(long[] memberIds, long[] points, int from, int to, long point, long memberId) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (points[mid] > point || (points[mid] == point && memberIds[mid] < memberId)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the number of ranked members, i.e. members that earned points
+     */
+    public int size() {
+        return rankedMemberIds.length;
+    }
+
+    public long memberId(int rankIndex) {
+        return rankedMemberIds[rankIndex];
+    }
+
+    public long total(int rankIndex) {
+        return rankedTotals[rankIndex];
+    }
+
+    /**
+     * Binary searches the global ranking for the member's position, in O(log n).
+     *
+     * @return the zero-based rank index, or a negative value if the member earned no points
+     */
+    public int rankIndex(long memberId) {
+        int slot = ledger.slot(memberId);
+        if (slot < 0) {
+            return -1;
+        }
+        long total = ledger.total(slot);
+        int low = 0;
+        int high = rankedMemberIds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int order = rankedTotals[mid] != total
+                    ? Long.compare(total, rankedTotals[mid])
+                    : Long.compare(rankedMemberIds[mid], memberId);
+            if (order == 0) {
+                return mid;
+            } else if (order < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the survey slot, or a negative value if nobody earned points in the survey
+     */
+    public int surveySlot(long surveyId) {
+        return Arrays.binarySearch(surveyIds, surveyId);
+    }
+
+    public int surveyEntryStart(int surveySlot) {
+        return surveyOffsets[surveySlot];
+    }
+
+    public int surveyEntryEnd(int surveySlot) {
+        return surveyOffsets[surveySlot + 1];
+    }
+
+    public long surveyEntryMemberId(int entry) {
+        return surveyMemberIds[entry];
+    }
+
+    public long surveyEntryPoints(int entry) {
+        return surveyPoints[entry];
+    }
+
+    /**
+     * Approximate heap footprint of the rankings, including array headers.
+     */
+    public long estimatedBytes() {
+        return 16L * 6 + (long) rankedMemberIds.length * Long.BYTES * 2 + (long) surveyIds.length * Long.BYTES
+                + (long) surveyOffsets.length * Integer.BYTES + (long) surveyMemberIds.length * Long.BYTES * 2;
+    }
+
+    void writeTo(SnapshotOutput out) throws IOException {
+        out.writeLongArray(rankedMemberIds);
+        out.writeLongArray(rankedTotals);
+        out.writeLongArray(surveyIds);
+        out.writeIntArray(surveyOffsets);
+        out.writeLongArray(surveyMemberIds);
+        out.writeLongArray(surveyPoints);
+    }
+
+    static Leaderboard readFrom(SnapshotInput in, PointsLedger ledger) throws IOException {
+        return new Leaderboard(ledger, in.readLongArray(), in.readLongArray(),
+                in.readLongArray(), in.readIntArray(), in.readLongArray(), in.readLongArray());
+    }
+
+    /**
+     * Member ids and points in rank order, filled front to back.
+     */
+    private static final class Ranking {
+
+        private final long[] memberIds;
+        private final long[] points;
+        private int size;
+
+        private Ranking(int capacity) {
+            this.memberIds = new long[capacity];
+            this.points = new long[capacity];
+        }
+
+        private void append(long[] sourceMemberIds, long[] sourcePoints, int from, int to) {
+            System.arraycopy(sourceMemberIds, from, memberIds, size, to - from);
+            System.arraycopy(sourcePoints, from, points, size, to - from);
+            size += to - from;
+        }
+
+        /**
+         * Appends the ranking [from, to) of the source arrays with the changes [changedFrom, changedTo) applied: the
+         * entry of each changed member is dropped unless its previous points are {@link #ABSENT}, and an entry with
+         * its changed points is inserted at its new place. Changes must be in ascending member id order.
+         */
+        private void merge(long[] sourceMemberIds, long[] sourcePoints, int from, int to, long[] changedMemberIds,
+                           long[] previousPoints, long[] changedPoints, int changedFrom, int changedTo) {
+            int count = changedTo - changedFrom;
+            int[] removed = new int[count];
+            int removedCount = 0;
+            for (int change = changedFrom; change < changedTo; change++) {
+                if (previousPoints[change] != ABSENT) {
+                    removed[removedCount++] = position(sourceMemberIds, sourcePoints, from, to,
+                            previousPoints[change], changedMemberIds[change]);
+                }
+            }
+            Arrays.sort(removed, 0, removedCount);
+            int[] order = descendingOrder(Arrays.copyOfRange(changedPoints, changedFrom, changedTo));
+
+            int next = from;
+            int nextRemoved = 0;
+            for (int i = 0; i <= count; i++) {
+                int change = i < count ? changedFrom + order[i] : -1;
+                int insertAt = i < count
+                        ? position(sourceMemberIds, sourcePoints, from, to, changedPoints[change], changedMemberIds[change])
+                        : to;
+                while (next < insertAt) {
+                    if (nextRemoved < removedCount && removed[nextRemoved] == next) {
+                        next++;
+                        nextRemoved++;
+                        continue;
+                    }
+                    int runEnd = nextRemoved < removedCount ? Math.min(insertAt, removed[nextRemoved]) : insertAt;
+                    append(sourceMemberIds, sourcePoints, next, runEnd);
+                    next = runEnd;
+                }
+                if (i < count) {
+                    memberIds[size] = changedMemberIds[change];
+                    points[size++] = changedPoints[change];
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.survey.service.data;
+
+import com.survey.service.model.Member;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Open-addressing hash index from e-mail address to member ordinal, built once per snapshot. Addresses are matched
+ * case-insensitively and without surrounding whitespace, like the member search. Each slot is a hash and an ordinal
+ * in two primitive arrays, probed linearly; the address itself is only read from the member when the hashes match,
+ * so no key is copied.
+ * <p>
+ * An address shared by several members maps to the one with the lowest id, and the others are kept as duplicates.
+ */
+public final class MemberEmailIndex {
+
+    private static final int EMPTY = -1;
+
+    private final MemberIndex memberIndex;
+    private final int[] hashes;
+    private final int[] ordinals;
+    private final long[] duplicateMemberIds;
+
+    private MemberEmailIndex(MemberIndex memberIndex, int[] hashes, int[] ordinals, long[] duplicateMemberIds) {
+        this.memberIndex = memberIndex;
+        this.hashes = hashes;
+        this.ordinals = ordinals;
+        this.duplicateMemberIds = duplicateMemberIds;
+    }
+
+    public static MemberEmailIndex of(MemberIndex memberIndex) {
+        int keyCount = 0;
+        for (int ordinal = 0; ordinal < memberIndex.size(); ordinal++) {
+            if (hasEmail(memberIndex.member(ordinal))) {
+                keyCount++;
+            }
+        }
+
+        int[] hashes = new int[tableSize(keyCount)];
+        int[] ordinals = new int[hashes.length];
+        Arrays.fill(ordinals, EMPTY);
+        List<Long> duplicates = new ArrayList<>();
+        // Ordinals follow id order, so the first member of an address has the lowest id
+        for (int ordinal = 0; ordinal < memberIndex.size(); ordinal++) {
+            Member member = memberIndex.member(ordinal);
+            if (!hasEmail(member)) {
+                continue;
+            }
+            int hash = hash(member.email());
+            int slot = hash & (hashes.length - 1);
+            while (ordinals[slot] != EMPTY && !(hashes[slot] == hash
+                    && matches(memberIndex.member(ordinals[slot]).email(), MemberSearchIndex.normalize(member.email())))) {
+                slot = (slot + 1) & (hashes.length - 1);
+            }
+            if (ordinals[slot] != EMPTY) {
+                duplicates.add(member.id());
+            } else {
+                hashes[slot] = hash;
+                ordinals[slot] = ordinal;
+            }
+        }
+        return new MemberEmailIndex(memberIndex, hashes, ordinals,
+                duplicates.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    private static boolean hasEmail(Member member) {
+        return member.email() != null && !member.email().isBlank();
+    }
+
+    /**
+     * Smallest power of two keeping the table at most two-thirds full, with at least one empty slot.
+     */
+    private static int tableSize(int keyCount) {
+        long minimum = Math.max(2L, (long) keyCount * 3 / 2 + 1);
+        if (minimum > 1 << 30) {
+            throw new IllegalStateException("Too many member e-mail addresses: " + keyCount);
+        }
+        return Integer.highestOneBit((int) minimum - 1) << 1;
+    }
+
+    /**
+     * Hashes the address the way {@link MemberSearchIndex#normalize} would leave it, without building that string.
+     */
+    private static int hash(String email) {
+        int from = 0;
+        int to = email.length();
+        while (from < to && Character.isWhitespace(email.charAt(from))) {
+            from++;
+        }
+        while (to > from && Character.isWhitespace(email.charAt(to - 1))) {
+            to--;
+        }
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + Character.toLowerCase(email.charAt(i));
+        }
+        // Linear probing uses the low bits, so spread the high ones into them
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        return hash ^ hash >>> 16;
+    }
+
+    private static boolean matches(String email, String normalized) {
+        String stripped = email.strip();
+        if (stripped.length() != normalized.length()) {
+            return false;
+        }
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.toLowerCase(stripped.charAt(i)) != normalized.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the ordinal of the member with this e-mail address, or a negative value if there is none
+     */
+    public int ordinal(String email) {
+        String normalized = MemberSearchIndex.normalize(email);
+        if (normalized.isEmpty()) {
+            return EMPTY;
+        }
+        int hash = hash(normalized);
+        for (int slot = hash & (hashes.length - 1); ordinals[slot] != EMPTY; slot = (slot + 1) & (hashes.length - 1)) {
+            if (hashes[slot] == hash && matches(memberIndex.member(ordinals[slot]).email(), normalized)) {
+                return ordinals[slot];
+            }
+        }
+        return EMPTY;
+    }
+
+    /**
+     * Ids of the members whose e-mail address already belongs to a member with a lower id, in ascending order.
+     * They cannot be looked up by e-mail.
+     */
+    public long[] duplicateMemberIds() {
+        return duplicateMemberIds.clone();
+    }
+
+    public int duplicateCount() {
+        return duplicateMemberIds.length;
+    }
+
+    /**
+     * @return the number of hash table slots
+     */
+    public int capacity() {
+        return ordinals.length;
+    }
+
+    public long estimatedBytes() {
+        return 16L * 3 + (long) hashes.length * Integer.BYTES + (long) ordinals.length * Integer.BYTES
+                + (long) duplicateMemberIds.length * Long.BYTES;
+    }
+
+    void writeTo(SnapshotOutput out) throws IOException {
+        out.writeIntArray(hashes);
+        out.writeIntArray(ordinals);
+        out.writeLongArray(duplicateMemberIds);
+    }
+
+    static MemberEmailIndex readFrom(SnapshotInput in, MemberIndex memberIndex) throws IOException {
+        return new MemberEmailIndex(memberIndex, in.readIntArray(), in.readIntArray(), in.readLongArray());
+    }
+}
\ No newline at end of file
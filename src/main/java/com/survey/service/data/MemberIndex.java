@@ -0,0 +1,81 @@
+package com.survey.service.data;
+
+import com.survey.service.model.Member;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Maps members to dense ordinals in ascending id order and keeps a bitset of active members.
+ * Because ordinals follow id order, a member id is also a stable paging cursor across snapshots.
+ */
+public final class MemberIndex {
+
+    private final long[] memberIds;
+    private final Member[] members;
+    private final long[] activeWords;
+
+    private MemberIndex(long[] memberIds, Member[] members, long[] activeWords) {
+        this.memberIds = memberIds;
+        this.members = members;
+        this.activeWords = activeWords;
+    }
+
+    public static MemberIndex of(Map<Long, Member> membersById) {
+        Member[] members = membersById.values().toArray(Member[]::new);
+        Arrays.sort(members, Comparator.comparing(Member::id));
+
+        long[] memberIds = new long[members.length];
+        long[] activeWords = new long[wordCount(members.length)];
+        for (int ordinal = 0; ordinal < members.length; ordinal++) {
+            memberIds[ordinal] = members[ordinal].id();
+            if (Boolean.TRUE.equals(members[ordinal].isActive())) {
+                activeWords[ordinal >>> 6] |= 1L << ordinal;
+            }
+        }
+        return new MemberIndex(memberIds, members, activeWords);
+    }
+
+    static int wordCount(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    public int size() {
+        return members.length;
+    }
+
+    /**
+     * @return the ordinal of the member, or a negative value if the member is unknown
+     */
+    public int ordinal(long memberId) {
+        return Arrays.binarySearch(memberIds, memberId);
+    }
+
+    /**
+     * @return the ordinal of the first member whose id is greater than or equal to {@code memberId}
+     */
+    public int ceilingOrdinal(long memberId) {
+        int ordinal = Arrays.binarySearch(memberIds, memberId);
+        return ordinal >= 0 ? ordinal : -ordinal - 1;
+    }
+
+    public Member member(int ordinal) {
+        return members[ordinal];
+    }
+
+    public long memberId(int ordinal) {
+        return memberIds[ordinal];
+    }
+
+    public boolean isActive(int ordinal) {
+        return (activeWords[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Active-member bitset, one bit per ordinal. Shared, must not be modified.
+     */
+    long[] activeWords() {
+        return activeWords;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,411 @@
+package com.survey.service.data;
+
+import com.survey.service.model.Member;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Case-insensitive prefix index over member names and e-mail addresses, built once per snapshot. Each member has
+ * one key per word of the full name, the first one being the whole name, and one key for the e-mail address. Keys
+ * are not copied: an entry is a member ordinal plus the offset of the key in the member's own string, compared
+ * character by character in lower case. Entries are sorted by key, so the keys starting with a query are one
+ * contiguous range found by binary search.
+ * <p>
+ * Matches are ranked exact name or e-mail first, then name prefix, prefix of a later word of the name and e-mail
+ * prefix; within a rank by key, then member id. Each member is returned once, at its best rank.
+ */
+public final class MemberSearchIndex {
+
+    private static final int EXACT = 0;
+    private static final int NAME_PREFIX = 1;
+    private static final int WORD_PREFIX = 2;
+    private static final int EMAIL_PREFIX = 3;
+
+    // Key kinds and offsets share an unsigned byte: later words starting further in than FIRST_WORD_KEY are not indexed
+    private static final int EMAIL_KEY = 0xFF;
+    private static final int FIRST_WORD_KEY = 0xFE;
+
+    // Sort keys: PACKED_CHARS characters of a key, CODE_BITS each, above the entry number
+    private static final int PACKED_CHARS = 4;
+    private static final int CODE_BITS = 9;
+    private static final int INEXACT_CODE = (1 << CODE_BITS) - 1;
+    private static final int ENTRY_BITS = 27;
+
+    private final MemberIndex memberIndex;
+    private final int[] ordinals;
+    private final byte[] keyStarts;
+
+    private MemberSearchIndex(MemberIndex memberIndex, int[] ordinals, byte[] keyStarts) {
+        this.memberIndex = memberIndex;
+        this.ordinals = ordinals;
+        this.keyStarts = keyStarts;
+    }
+
+    public static MemberSearchIndex of(MemberIndex memberIndex) {
+        int entryCount = 0;
+        for (int ordinal = 0; ordinal < memberIndex.size(); ordinal++) {
+            entryCount += keyCount(memberIndex.member(ordinal));
+        }
+        if (entryCount >= 1 << ENTRY_BITS) {
+            throw new IllegalStateException("Too many member search keys: " + entryCount);
+        }
+
+        int[] entryOrdinals = new int[entryCount];
+        byte[] entryStarts = new byte[entryCount];
+        int entry = 0;
+        for (int ordinal = 0; ordinal < memberIndex.size(); ordinal++) {
+            Member member = memberIndex.member(ordinal);
+            String name = member.fullName();
+            if (name != null && nameStart(name) < name.length()) {
+                entryOrdinals[entry] = ordinal;
+                entryStarts[entry++] = (byte) FIRST_WORD_KEY;
+                for (int start = nameStart(name) + 1; start < Math.min(name.length(), FIRST_WORD_KEY); start++) {
+                    if (isWordStart(name, start)) {
+                        entryOrdinals[entry] = ordinal;
+                        entryStarts[entry++] = (byte) start;
+                    }
+                }
+            }
+            if (member.email() != null && !member.email().isEmpty()) {
+                entryOrdinals[entry] = ordinal;
+                entryStarts[entry++] = (byte) EMAIL_KEY;
+            }
+        }
+
+        MemberSearchIndex unsorted = new MemberSearchIndex(memberIndex, entryOrdinals, entryStarts);
+        int[] order = unsorted.sortedEntries();
+        int[] ordinals = new int[entryCount];
+        byte[] keyStarts = new byte[entryCount];
+        for (int i = 0; i < entryCount; i++) {
+            ordinals[i] = entryOrdinals[order[i]];
+            keyStarts[i] = entryStarts[order[i]];
+        }
+        return new MemberSearchIndex(memberIndex, ordinals, keyStarts);
+    }
+
+    private static int keyCount(Member member) {
+        int count = member.email() != null && !member.email().isEmpty() ? 1 : 0;
+        String name = member.fullName();
+        if (name != null && nameStart(name) < name.length()) {
+            count++;
+            for (int start = nameStart(name) + 1; start < Math.min(name.length(), FIRST_WORD_KEY); start++) {
+                if (isWordStart(name, start)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int nameStart(String name) {
+        int start = 0;
+        while (start < name.length() && Character.isWhitespace(name.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static boolean isWordStart(String name, int position) {
+        return !Character.isWhitespace(name.charAt(position))
+                && (position == 0 || Character.isWhitespace(name.charAt(position - 1)));
+    }
+
+    /**
+     * Sorts the entry numbers by key and member ordinal: a primitive sort on a packed key prefix, repeated on the
+     * next characters within runs that share it. Entries are numbered in ordinal order, so the entry number breaks
+     * ties between equal keys.
+     */
+    private int[] sortedEntries() {
+        int[] order = new int[ordinals.length];
+        Arrays.setAll(order, entry -> entry);
+        sortRange(order, 0, order.length, 0);
+        return order;
+    }
+
+    private void sortRange(int[] order, int from, int to, int depth) {
+        long[] packed = new long[to - from];
+        for (int i = from; i < to; i++) {
+            packed[i - from] = packedKey(order[i], depth * PACKED_CHARS) << ENTRY_BITS | order[i];
+        }
+        Arrays.sort(packed);
+
+        long entryMask = (1L << ENTRY_BITS) - 1;
+        for (int i = from; i < to; i++) {
+            order[i] = (int) (packed[i - from] & entryMask);
+        }
+        int runStart = from;
+        for (int i = from + 1; i <= to; i++) {
+            long prefix = packed[runStart - from] >>> ENTRY_BITS;
+            if (i < to && packed[i - from] >>> ENTRY_BITS == prefix) {
+                continue;
+            }
+            if (i - runStart > 1) {
+                if (!isExactPrefix(prefix)) {
+                    sortRun(order, runStart, i);
+                } else if ((prefix & INEXACT_CODE) != 0) {
+                    sortRange(order, runStart, i, depth + 1);
+                }
+            }
+            runStart = i;
+        }
+    }
+
+    /**
+     * Packs {@code PACKED_CHARS} characters of a key, from {@code skip} on, into codes that preserve their order, 0
+     * marking the end of the key. Characters from U+01FE on share one code, so packing stops after them and equal
+     * prefixes are left to the full comparison.
+     */
+    private long packedKey(int entry, int skip) {
+        String source = keySource(entry);
+        int offset = keyOffset(entry) + skip;
+        long packed = 0;
+        boolean exact = true;
+        for (int i = 0; i < PACKED_CHARS; i++) {
+            int code = 0;
+            if (exact && offset + i < source.length()) {
+                char c = Character.toLowerCase(source.charAt(offset + i));
+                exact = c < INEXACT_CODE - 1;
+                code = exact ? c + 1 : INEXACT_CODE;
+            } else {
+                exact = false;
+            }
+            packed = packed << CODE_BITS | code;
+        }
+        return packed;
+    }
+
+    private static boolean isExactPrefix(long prefix) {
+        for (int i = 0; i < PACKED_CHARS; i++, prefix >>>= CODE_BITS) {
+            if ((prefix & INEXACT_CODE) == INEXACT_CODE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void sortRun(int[] order, int from, int to) {
+        Integer[] run = new Integer[to - from];
+        for (int i = from; i < to; i++) {
+            run[i - from] = order[i];
+        }
+        Arrays.sort(run, this::compareEntries);
+        for (int i = from; i < to; i++) {
+            order[i] = run[i - from];
+        }
+    }
+
+    private int compareEntries(int left, int right) {
+        String leftSource = keySource(left);
+        String rightSource = keySource(right);
+        int leftOffset = keyOffset(left);
+        int rightOffset = keyOffset(right);
+        int leftLength = leftSource.length() - leftOffset;
+        int rightLength = rightSource.length() - rightOffset;
+        for (int i = 0; i < Math.min(leftLength, rightLength); i++) {
+            int difference = Character.toLowerCase(leftSource.charAt(leftOffset + i))
+                    - Character.toLowerCase(rightSource.charAt(rightOffset + i));
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return leftLength != rightLength ? leftLength - rightLength : Integer.compare(ordinals[left], ordinals[right]);
+    }
+
+    /**
+     * Lower-cases the query the same way as the keys, one character at a time, without surrounding whitespace.
+     */
+    public static String normalize(String query) {
+        String stripped = query.strip();
+        char[] chars = new char[stripped.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(stripped.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Returns the members matching {@code query} in rank order, skipping the first {@code offset} of them.
+     *
+     * @return at most {@code limit} members; empty for a blank query
+     */
+    public List<Member> search(String query, int offset, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int from = lowerBound(normalized);
+        int to = upperBound(normalized, from);
+        // Keys equal to the query sort before all longer ones
+        int exactTo = upperBound(normalized, from, to, false);
+
+        List<Member> members = new ArrayList<>(Math.min(limit, to - from));
+        int skipped = 0;
+        for (int rank = EXACT; rank <= EMAIL_PREFIX && members.size() < limit; rank++) {
+            int first = rank == NAME_PREFIX || rank == EMAIL_PREFIX ? exactTo : from;
+            int last = rank == EXACT ? exactTo : to;
+            for (int entry = first; entry < last && members.size() < limit; entry++) {
+                if (!hasRank(entry, rank) || !isBestEntry(entry, normalized, rank)) {
+                    continue;
+                }
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    members.add(memberIndex.member(ordinals[entry]));
+                }
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Checks the kind of key only; whether it equals the query follows from the range being scanned.
+     */
+    private boolean hasRank(int entry, int rank) {
+        int kind = keyStarts[entry] & 0xFF;
+        return switch (rank) {
+            case EXACT -> kind == FIRST_WORD_KEY || kind == EMAIL_KEY;
+            case NAME_PREFIX -> kind == FIRST_WORD_KEY;
+            case WORD_PREFIX -> kind < FIRST_WORD_KEY;
+            default -> kind == EMAIL_KEY;
+        };
+    }
+
+    /**
+     * True if the member has no better matching key than this one, so it is returned for this entry only.
+     */
+    private boolean isBestEntry(int entry, String query, int rank) {
+        Member member = memberIndex.member(ordinals[entry]);
+        String name = member.fullName() != null ? member.fullName() : "";
+        String email = member.email() != null ? member.email() : "";
+        int nameStart = nameStart(name);
+        boolean emailExact = email.length() == query.length() && startsWith(email, 0, query);
+        return switch (rank) {
+            case EXACT -> !isEmailKey(entry) || !(name.length() - nameStart == query.length()
+                    && startsWith(name, nameStart, query));
+            case NAME_PREFIX -> !emailExact;
+            case WORD_PREFIX -> !emailExact && !startsWith(name, nameStart, query)
+                    && !matchesWordBefore(name, nameStart + 1, keyOffset(entry), query);
+            default -> !startsWith(name, nameStart, query)
+                    && !matchesWordBefore(name, nameStart + 1, Math.min(name.length(), FIRST_WORD_KEY), query);
+        };
+    }
+
+    private static boolean matchesWordBefore(String name, int from, int to, String query) {
+        for (int start = from; start < to; start++) {
+            if (isWordStart(name, start) && startsWith(name, start, query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWith(String source, int offset, String query) {
+        if (source.length() - offset < query.length()) {
+            return false;
+        }
+        for (int i = 0; i < query.length(); i++) {
+            if (Character.toLowerCase(source.charAt(offset + i)) != query.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the first entry whose key is not less than the query
+     */
+    private int lowerBound(String query) {
+        int low = 0;
+        int high = ordinals.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareKey(middle, query, false) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the first entry from {@code from} on whose key does not start with the query
+     */
+    private int upperBound(String query, int from) {
+        return upperBound(query, from, ordinals.length, true);
+    }
+
+    /**
+     * @return the first entry in {@code [from, to)} whose key is greater than the query, or does not start with it
+     *         if {@code prefixOnly}
+     */
+    private int upperBound(String query, int from, int to, boolean prefixOnly) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareKey(middle, query, prefixOnly) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares the key of an entry with the query; with {@code prefixOnly} a key starting with the query is equal.
+     */
+    private int compareKey(int entry, String query, boolean prefixOnly) {
+        String source = keySource(entry);
+        int offset = keyOffset(entry);
+        int length = source.length() - offset;
+        for (int i = 0; i < Math.min(length, query.length()); i++) {
+            int difference = Character.toLowerCase(source.charAt(offset + i)) - query.charAt(i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return prefixOnly && length >= query.length() ? 0 : length - query.length();
+    }
+
+    private boolean isEmailKey(int entry) {
+        return (keyStarts[entry] & 0xFF) == EMAIL_KEY;
+    }
+
+    private String keySource(int entry) {
+        Member member = memberIndex.member(ordinals[entry]);
+        return isEmailKey(entry) ? member.email() : member.fullName();
+    }
+
+    private int keyOffset(int entry) {
+        int start = keyStarts[entry] & 0xFF;
+        return start == EMAIL_KEY ? 0 : start == FIRST_WORD_KEY ? nameStart(keySource(entry)) : start;
+    }
+
+    /**
+     * @return the number of indexed keys
+     */
+    public int size() {
+        return ordinals.length;
+    }
+
+    /**
+     * Approximate heap footprint of the entries; the keys themselves are the members' strings.
+     */
+    public long estimatedBytes() {
+        return 16L * 2 + (long) ordinals.length * Integer.BYTES + keyStarts.length;
+    }
+
+    void writeTo(SnapshotOutput out) throws IOException {
+        out.writeIntArray(ordinals);
+        out.writeByteArray(keyStarts);
+    }
+
+    static MemberSearchIndex readFrom(SnapshotInput in, MemberIndex memberIndex) throws IOException {
+        return new MemberSearchIndex(memberIndex, in.readIntArray(), in.readByteArray());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,418 @@
+package com.survey.service.data;
+
+import com.survey.service.enums.ParticipationStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Reads a participation CSV by memory-mapping it, splitting it into chunks on line boundaries and
+ * parsing the chunks in parallel on a fork-join pool. Fields are located by the header once and
+ * parsed with a hand-rolled numeric parser straight from the mapped bytes, so no strings or boxed
+ * numbers are created per record. Rows are handed to the sink in file order.
+ * <p>
+ * Only unquoted numeric fields (optionally wrapped in plain double quotes) are supported, which is
+ * all the participation file contains. Records that cannot be parsed are reported with the same
+ * 1-based record numbers commons-csv would use.
+ */
+public final class ParallelParticipationCsvReader {
+
+    public static final int DEFAULT_CHUNK_BYTES = 16 * 1024 * 1024;
+
+    // Smaller files are still split so every worker gets a few chunks, but never below this size
+    private static final long MIN_SPLIT_BYTES = 1024 * 1024;
+
+    private static final String MEMBER_ID_COLUMN = "Member Id";
+    private static final String SURVEY_ID_COLUMN = "Survey Id";
+    private static final String STATUS_COLUMN = "Status";
+    private static final String LENGTH_COLUMN = "Length";
+
+    private final ForkJoinPool pool;
+    private final int chunkBytes;
+
+    public ParallelParticipationCsvReader(ForkJoinPool pool, int chunkBytes) {
+        this.pool = pool;
+        this.chunkBytes = chunkBytes;
+    }
+
+    @FunctionalInterface
+    public interface RowSink {
+        void accept(long memberId, long surveyId, byte statusId, int length);
+    }
+
+    public record InvalidRecord(long recordNumber, String message) {
+    }
+
+    /**
+     * @param loadedCount    number of rows handed to the sink
+     * @param invalidRecords skipped records, numbered from the first record read
+     * @param recordCount    number of non-empty records read, valid or not
+     * @param endOffset      file offset just after the last consumed byte; pass it to the next tail read
+     */
+    public record Result(int loadedCount, List<InvalidRecord> invalidRecords, long recordCount, long endOffset) {
+    }
+
+    public Result read(Path file, RowSink sink) throws IOException {
+        return read(file, 0L, sink);
+    }
+
+    public Result read(Path file, long fromOffset, RowSink sink) throws IOException {
+        return read(file, fromOffset, false, sink);
+    }
+
+    /**
+     * Reads the records stored at or after {@code fromOffset}. The read stops after the last line break, so a
+     * line that is still being appended is left for the next read and {@link Result#endOffset()} never points
+     * into it. With {@code toEndOfFile} an unterminated last line is taken as a complete record instead; only
+     * pass it when the file is known to be fully written.
+     */
+    public Result read(Path file, long fromOffset, boolean toEndOfFile, RowSink sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            Header header = readHeader(channel);
+            if (header == null) {
+                return new Result(0, List.of(), 0L, size);
+            }
+            Columns columns = Columns.of(header.line());
+            long start = Math.max(fromOffset, header.dataStart());
+            long end = toEndOfFile ? size : endOfLastLine(channel, start, size);
+
+            List<Callable<Chunk>> tasks = new ArrayList<>();
+            for (long[] bounds : chunkBounds(channel, start, end)) {
+                tasks.add(() -> parseChunk(channel, bounds[0], bounds[1], columns));
+            }
+
+            return merge(pool.invokeAll(tasks), sink, Math.max(start, end));
+        }
+    }
+
+    private static long endOfLastLine(FileChannel channel, long start, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long blockEnd = size;
+        while (blockEnd > start) {
+            long blockStart = Math.max(start, blockEnd - buffer.capacity());
+            buffer.clear().limit((int) (blockEnd - blockStart));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, blockStart + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            for (int i = buffer.position() - 1; i >= 0; i--) {
+                if (buffer.get(i) == '\n') {
+                    return blockStart + i + 1;
+                }
+            }
+            blockEnd = blockStart;
+        }
+        return start;
+    }
+
+    private static Result merge(List<Future<Chunk>> futures, RowSink sink, long endOffset) throws IOException {
+        int loaded = 0;
+        long recordOffset = 0;
+        List<InvalidRecord> invalidRecords = new ArrayList<>();
+        for (Future<Chunk> future : futures) {
+            Chunk chunk = await(future);
+            for (int i = 0; i < chunk.size; i++) {
+                sink.accept(chunk.memberIds[i], chunk.surveyIds[i], chunk.statusIds[i], chunk.lengths[i]);
+            }
+            for (InvalidRecord invalid : chunk.invalidRecords) {
+                invalidRecords.add(new InvalidRecord(recordOffset + invalid.recordNumber(), invalid.message()));
+            }
+            loaded += chunk.size;
+            recordOffset += chunk.recordCount;
+        }
+        return new Result(loaded, invalidRecords, recordOffset, endOffset);
+    }
+
+    private static Chunk await(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing participation chunks", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Failed to parse participation chunk", e.getCause());
+        }
+    }
+
+    /**
+     * Reads the first line and returns it together with the offset of the first data byte.
+     */
+    private static Header readHeader(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        long position = 0;
+        int read;
+        while ((read = channel.read(buffer, position)) > 0) {
+            for (int i = 0; i < read; i++) {
+                byte b = buffer.get(i);
+                if (b == '\n') {
+                    return Header.of(line, position + i + 1);
+                }
+                line.write(b);
+            }
+            position += read;
+            buffer.clear();
+        }
+        return line.size() == 0 ? null : Header.of(line, position);
+    }
+
+    private record Header(String line, long dataStart) {
+
+        static Header of(ByteArrayOutputStream bytes, long dataStart) {
+            String line = bytes.toString(StandardCharsets.UTF_8);
+            if (line.endsWith("\r")) {
+                line = line.substring(0, line.length() - 1);
+            }
+            if (line.startsWith("\uFEFF")) {
+                line = line.substring(1);
+            }
+            return new Header(line, dataStart);
+        }
+    }
+
+    private List<long[]> chunkBounds(FileChannel channel, long start, long end) throws IOException {
+        List<long[]> bounds = new ArrayList<>();
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long targetBytes = Math.min(chunkBytes,
+                Math.max(MIN_SPLIT_BYTES, (end - start) / (pool.getParallelism() * 4L)));
+        long chunkStart = start;
+        while (chunkStart < end) {
+            long chunkEnd = Math.min(end, chunkStart + targetBytes);
+            // Move the boundary forward to just after the next line break
+            while (chunkEnd < end) {
+                probe.clear();
+                int read = channel.read(probe, chunkEnd);
+                int newline = -1;
+                for (int i = 0; i < read; i++) {
+                    if (probe.get(i) == '\n') {
+                        newline = i;
+                        break;
+                    }
+                }
+                if (newline >= 0) {
+                    chunkEnd = Math.min(end, chunkEnd + newline + 1);
+                    break;
+                }
+                chunkEnd = Math.min(end, chunkEnd + Math.max(read, 1));
+            }
+            bounds.add(new long[]{chunkStart, chunkEnd});
+            chunkStart = chunkEnd;
+        }
+        return bounds;
+    }
+
+    private static Chunk parseChunk(FileChannel channel, long start, long end, Columns columns) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        Chunk chunk = new Chunk((int) Math.max(16, (end - start) / 12));
+        int limit = buffer.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int contentEnd = lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+            if (contentEnd > lineStart) {
+                chunk.recordCount++;
+                parseLine(buffer, lineStart, contentEnd, columns, chunk);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return chunk;
+    }
+
+    private static void parseLine(ByteBuffer buffer, int start, int end, Columns columns, Chunk chunk) {
+        long memberId = 0;
+        long surveyId = 0;
+        long statusId = 0;
+        int length = ParticipationStore.NO_LENGTH;
+        int found = 0;
+
+        int fieldStart = start;
+        for (int column = 0; fieldStart <= end && column <= columns.lastColumn; column++) {
+            int fieldEnd = fieldStart;
+            while (fieldEnd < end && buffer.get(fieldEnd) != ',') {
+                fieldEnd++;
+            }
+            try {
+                if (column == columns.memberId) {
+                    memberId = parseLong(buffer, fieldStart, fieldEnd, MEMBER_ID_COLUMN);
+                    found++;
+                } else if (column == columns.surveyId) {
+                    surveyId = parseLong(buffer, fieldStart, fieldEnd, SURVEY_ID_COLUMN);
+                    found++;
+                } else if (column == columns.status) {
+                    statusId = parseLong(buffer, fieldStart, fieldEnd, STATUS_COLUMN);
+                    found++;
+                } else if (column == columns.length) {
+                    length = isBlank(buffer, fieldStart, fieldEnd)
+                            ? ParticipationStore.NO_LENGTH
+                            : Math.toIntExact(parseLong(buffer, fieldStart, fieldEnd, LENGTH_COLUMN));
+                    found++;
+                }
+            } catch (IllegalArgumentException | ArithmeticException e) {
+                chunk.invalid(e.getMessage());
+                return;
+            }
+            fieldStart = fieldEnd + 1;
+        }
+
+        if (found < 4) {
+            chunk.invalid("Record has fewer values than the header defines");
+            return;
+        }
+        try {
+            ParticipationStatus.fromId((int) Math.min(Integer.MAX_VALUE, Math.max(Integer.MIN_VALUE, statusId)));
+        } catch (IllegalArgumentException e) {
+            chunk.invalid("Unknown status ID: " + statusId);
+            return;
+        }
+        chunk.add(memberId, surveyId, (byte) statusId, length);
+    }
+
+    private static boolean isBlank(ByteBuffer buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b != ' ' && b != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a decimal long with the same acceptance rules as {@link Long#parseLong(String)},
+     * additionally unwrapping a field enclosed in double quotes.
+     */
+    static long parseLong(ByteBuffer buffer, int start, int end, String column) {
+        if (end - start >= 2 && buffer.get(start) == '"' && buffer.get(end - 1) == '"') {
+            start++;
+            end--;
+        }
+        if (start >= end) {
+            throw new NumberFormatException("For input string: \"\" in column '" + column + "'");
+        }
+        boolean negative = false;
+        int position = start;
+        byte first = buffer.get(position);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            position++;
+            if (position == end) {
+                throw invalidNumber(buffer, start, end, column);
+            }
+        }
+        long value = 0;
+        for (; position < end; position++) {
+            int digit = buffer.get(position) - '0';
+            if (digit < 0 || digit > 9) {
+                throw invalidNumber(buffer, start, end, column);
+            }
+            // Accumulate negatively so Long.MIN_VALUE parses without overflow
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                throw invalidNumber(buffer, start, end, column);
+            }
+            value = value * 10 - digit;
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                throw invalidNumber(buffer, start, end, column);
+            }
+            value = -value;
+        }
+        return value;
+    }
+
+    private static NumberFormatException invalidNumber(ByteBuffer buffer, int start, int end, String column) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new NumberFormatException("For input string: \"" + new String(bytes, StandardCharsets.UTF_8)
+                + "\" in column '" + column + "'");
+    }
+
+    /**
+     * Positions of the participation columns, resolved once from the header line.
+     */
+    private record Columns(int memberId, int surveyId, int status, int length, int lastColumn) {
+
+        static Columns of(String header) {
+            List<String> names = Arrays.stream(header.split(",", -1))
+                    .map(name -> name.length() >= 2 && name.startsWith("\"") && name.endsWith("\"")
+                            ? name.substring(1, name.length() - 1)
+                            : name)
+                    .toList();
+            int memberId = indexOf(names, MEMBER_ID_COLUMN);
+            int surveyId = indexOf(names, SURVEY_ID_COLUMN);
+            int status = indexOf(names, STATUS_COLUMN);
+            int length = indexOf(names, LENGTH_COLUMN);
+            int lastColumn = Math.max(Math.max(memberId, surveyId), Math.max(status, length));
+            return new Columns(memberId, surveyId, status, length, lastColumn);
+        }
+
+        private static int indexOf(List<String> names, String column) {
+            int index = names.indexOf(column);
+            if (index < 0) {
+                throw new IllegalArgumentException("Participation header is missing column '" + column + "'");
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Parsed rows of one chunk, kept in primitive columns until they are merged.
+     */
+    private static final class Chunk {
+
+        private long[] memberIds;
+        private long[] surveyIds;
+        private byte[] statusIds;
+        private int[] lengths;
+        private int size;
+        private int recordCount;
+        private final List<InvalidRecord> invalidRecords = new ArrayList<>();
+
+        private Chunk(int capacity) {
+            memberIds = new long[capacity];
+            surveyIds = new long[capacity];
+            statusIds = new byte[capacity];
+            lengths = new int[capacity];
+        }
+
+        private void add(long memberId, long surveyId, byte statusId, int length) {
+            if (size == statusIds.length) {
+                int capacity = size * 2;
+                memberIds = Arrays.copyOf(memberIds, capacity);
+                surveyIds = Arrays.copyOf(surveyIds, capacity);
+                statusIds = Arrays.copyOf(statusIds, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            memberIds[size] = memberId;
+            surveyIds[size] = surveyId;
+            statusIds[size] = statusId;
+            lengths[size] = length;
+            size++;
+        }
+
+        private void invalid(String message) {
+            invalidRecords.add(new InvalidRecord(recordCount, message));
+        }
+    }
+}
\ No newline at end of file
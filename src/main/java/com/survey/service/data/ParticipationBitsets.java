@@ -0,0 +1,292 @@
+package com.survey.service.data;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Per-survey sets of participating member ordinals, used to answer
+ * "active AND NOT participated" with word-level operations.
+ * Like a Roaring container, each survey picks the cheaper layout: a dense {@code long[]}
+ * bitset over all members, or a sorted {@code int[]} of ordinals when participation is sparse.
+ */
+public final class ParticipationBitsets {
+
+    private final MemberIndex memberIndex;
+    private final long[] surveyIds;
+    private final long[][] denseWords;
+    private final int[][] sparseOrdinals;
+
+    private ParticipationBitsets(MemberIndex memberIndex, long[] surveyIds, long[][] denseWords, int[][] sparseOrdinals) {
+        this.memberIndex = memberIndex;
+        this.surveyIds = surveyIds;
+        this.denseWords = denseWords;
+        this.sparseOrdinals = sparseOrdinals;
+    }
+
+    public static ParticipationBitsets of(MemberIndex memberIndex, ParticipationStore participations) {
+        int surveyCount = participations.surveyCount();
+        long[] surveyIds = new long[surveyCount];
+        long[][] denseWords = new long[surveyCount][];
+        int[][] sparseOrdinals = new int[surveyCount][];
+
+        for (int slot = 0; slot < surveyCount; slot++) {
+            surveyIds[slot] = participations.surveyId(participations.surveyRowStart(slot));
+            buildSlot(memberIndex, participations, slot, denseWords, sparseOrdinals);
+        }
+        return new ParticipationBitsets(memberIndex, surveyIds, denseWords, sparseOrdinals);
+    }
+
+    /**
+     * Returns the sets for {@code participations}, a store that extends the one these sets were built
+     * from by the rows in {@code delta}. Surveys touched by the delta get a copy of their set with the
+     * delta's members added; all other surveys share their arrays with this instance, which stays unchanged.
+     */
+    public ParticipationBitsets withAppended(ParticipationStore participations, ParticipationStore delta) {
+        if (delta.size() == 0) {
+            return this;
+        }
+        int surveyCount = participations.surveyCount();
+        long[] mergedSurveyIds = new long[surveyCount];
+        long[][] mergedDenseWords = new long[surveyCount][];
+        int[][] mergedSparseOrdinals = new int[surveyCount][];
+
+        for (int slot = 0; slot < surveyCount; slot++) {
+            long surveyId = participations.surveyId(participations.surveyRowStart(slot));
+            mergedSurveyIds[slot] = surveyId;
+            int previousSlot = Arrays.binarySearch(surveyIds, surveyId);
+            int deltaSlot = delta.surveySlot(surveyId);
+            if (previousSlot >= 0 && deltaSlot < 0) {
+                mergedDenseWords[slot] = denseWords[previousSlot];
+                mergedSparseOrdinals[slot] = sparseOrdinals[previousSlot];
+            } else if (previousSlot >= 0) {
+                int rowCount = participations.surveyRowEnd(slot) - participations.surveyRowStart(slot);
+                extendSlot(previousSlot, rowCount, delta, deltaSlot, slot, mergedDenseWords, mergedSparseOrdinals);
+            } else {
+                buildSlot(memberIndex, participations, slot, mergedDenseWords, mergedSparseOrdinals);
+            }
+        }
+        return new ParticipationBitsets(memberIndex, mergedSurveyIds, mergedDenseWords, mergedSparseOrdinals);
+    }
+
+    private static void buildSlot(MemberIndex memberIndex, ParticipationStore participations, int slot,
+                                  long[][] denseWords, int[][] sparseOrdinals) {
+        int start = participations.surveyRowStart(slot);
+        int end = participations.surveyRowEnd(slot);
+        int wordCount = MemberIndex.wordCount(memberIndex.size());
+
+        // A sorted int costs 32 bits per participant, a dense bitset one bit per member
+        if ((long) (end - start) * Integer.SIZE >= (long) wordCount * Long.SIZE) {
+            long[] words = new long[wordCount];
+            for (int row = start; row < end; row++) {
+                int ordinal = memberIndex.ordinal(participations.memberId(row));
+                if (ordinal >= 0) {
+                    words[ordinal >>> 6] |= 1L << ordinal;
+                }
+            }
+            denseWords[slot] = words;
+        } else {
+            sparseOrdinals[slot] = sortedOrdinals(memberIndex, participations, start, end);
+        }
+    }
+
+    /**
+     * Adds the members of the delta rows of a survey to a copy of its previous set. The layout is chosen from the
+     * survey's row count after the append, like {@link #buildSlot} does, so a sparse set turns dense once it grows.
+     */
+    private void extendSlot(int previousSlot, int rowCount, ParticipationStore delta, int deltaSlot, int slot,
+                            long[][] mergedDenseWords, int[][] mergedSparseOrdinals) {
+        int start = delta.surveyRowStart(deltaSlot);
+        int end = delta.surveyRowEnd(deltaSlot);
+        int wordCount = MemberIndex.wordCount(memberIndex.size());
+        long[] previousWords = denseWords[previousSlot];
+        int[] previousOrdinals = sparseOrdinals[previousSlot];
+
+        if (previousWords != null || (long) rowCount * Integer.SIZE >= (long) wordCount * Long.SIZE) {
+            long[] words;
+            if (previousWords != null) {
+                words = previousWords.clone();
+            } else {
+                words = new long[wordCount];
+                for (int ordinal : previousOrdinals) {
+                    words[ordinal >>> 6] |= 1L << ordinal;
+                }
+            }
+            for (int row = start; row < end; row++) {
+                int ordinal = memberIndex.ordinal(delta.memberId(row));
+                if (ordinal >= 0) {
+                    words[ordinal >>> 6] |= 1L << ordinal;
+                }
+            }
+            mergedDenseWords[slot] = words;
+        } else {
+            mergedSparseOrdinals[slot] = union(previousOrdinals, sortedOrdinals(memberIndex, delta, start, end));
+        }
+    }
+
+    /**
+     * Merges two sorted arrays of distinct ordinals.
+     */
+    private static int[] union(int[] first, int[] second) {
+        int[] merged = new int[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < first.length || j < second.length) {
+            if (j == second.length || (i < first.length && first[i] < second[j])) {
+                merged[count++] = first[i++];
+            } else if (i == first.length || second[j] < first[i]) {
+                merged[count++] = second[j++];
+            } else {
+                merged[count++] = first[i++];
+                j++;
+            }
+        }
+        return count == merged.length ? merged : Arrays.copyOf(merged, count);
+    }
+
+    private static int[] sortedOrdinals(MemberIndex memberIndex, ParticipationStore participations, int start, int end) {
+        int[] ordinals = new int[end - start];
+        int count = 0;
+        for (int row = start; row < end; row++) {
+            int ordinal = memberIndex.ordinal(participations.memberId(row));
+            if (ordinal >= 0) {
+                ordinals[count++] = ordinal;
+            }
+        }
+        Arrays.sort(ordinals, 0, count);
+        return Arrays.stream(ordinals, 0, count).distinct().toArray();
+    }
+
+    /**
+     * Streams ordinals of active members that did not participate in the survey, in ascending order.
+     *
+     * @param surveyId    the survey to invite members for
+     * @param fromOrdinal first ordinal to consider
+     * @param limit       maximum number of ordinals passed to {@code sink}
+     * @param sink        receives the invitable ordinals
+     * @return the ordinal the next page starts at, or -1 when the result is exhausted
+     */
+    public int forEachInvitable(long surveyId, int fromOrdinal, int limit, IntConsumer sink) {
+        InvitableOrdinals ordinals = new InvitableOrdinals(surveyId, fromOrdinal);
+        for (int emitted = 0; ordinals.hasNext(); emitted++) {
+            int ordinal = ordinals.nextInt();
+            if (emitted == limit) {
+                return ordinal;
+            }
+            sink.accept(ordinal);
+        }
+        return -1;
+    }
+
+    /**
+     * Lazily streams the invitable ordinals of a survey; nothing is materialized up front.
+     */
+    public IntStream invitableOrdinals(long surveyId) {
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(new InvitableOrdinals(surveyId, 0),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Walks the active bitset one word at a time, masking out the survey's participants.
+     */
+    private final class InvitableOrdinals implements PrimitiveIterator.OfInt {
+
+        private final long[] active = memberIndex.activeWords();
+        private final long[] dense;
+        private final int[] sparse;
+        private int sparsePosition;
+        private int wordIndex;
+        private long invitable;
+
+        private InvitableOrdinals(long surveyId, int fromOrdinal) {
+            int slot = Arrays.binarySearch(surveyIds, surveyId);
+            this.dense = slot >= 0 ? denseWords[slot] : null;
+            this.sparse = slot >= 0 ? sparseOrdinals[slot] : null;
+            this.wordIndex = fromOrdinal >>> 6;
+            this.sparsePosition = sparse != null ? ceiling(sparse, wordIndex << 6) : 0;
+            this.invitable = wordIndex < active.length ? invitableWord(wordIndex) & (-1L << fromOrdinal) : 0L;
+        }
+
+        private long invitableWord(int index) {
+            long participated = 0L;
+            if (dense != null) {
+                participated = dense[index];
+            } else if (sparse != null) {
+                while (sparsePosition < sparse.length && (sparse[sparsePosition] >>> 6) == index) {
+                    participated |= 1L << sparse[sparsePosition++];
+                }
+            }
+            return active[index] & ~participated;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (invitable == 0L && ++wordIndex < active.length) {
+                invitable = invitableWord(wordIndex);
+            }
+            return invitable != 0L;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int ordinal = (wordIndex << 6) + Long.numberOfTrailingZeros(invitable);
+            invitable &= invitable - 1;
+            return ordinal;
+        }
+    }
+
+    private static int ceiling(int[] sorted, int value) {
+        int position = Arrays.binarySearch(sorted, value);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    void writeTo(SnapshotOutput out) throws IOException {
+        out.writeLongArray(surveyIds);
+        for (int slot = 0; slot < surveyIds.length; slot++) {
+            boolean dense = denseWords[slot] != null;
+            out.writeBoolean(dense);
+            if (dense) {
+                out.writeLongArray(denseWords[slot]);
+            } else {
+                out.writeIntArray(sparseOrdinals[slot]);
+            }
+        }
+    }
+
+    static ParticipationBitsets readFrom(SnapshotInput in, MemberIndex memberIndex) throws IOException {
+        long[] surveyIds = in.readLongArray();
+        long[][] denseWords = new long[surveyIds.length][];
+        int[][] sparseOrdinals = new int[surveyIds.length][];
+        for (int slot = 0; slot < surveyIds.length; slot++) {
+            if (in.readBoolean()) {
+                denseWords[slot] = in.readLongArray();
+            } else {
+                sparseOrdinals[slot] = in.readIntArray();
+            }
+        }
+        return new ParticipationBitsets(memberIndex, surveyIds, denseWords, sparseOrdinals);
+    }
+
+    /**
+     * Approximate heap footprint of the participation sets, including array headers.
+     */
+    public long estimatedBytes() {
+        long bytes = 0;
+        for (int slot = 0; slot < surveyIds.length; slot++) {
+            bytes += denseWords[slot] != null
+                    ? 16L + (long) denseWords[slot].length * Long.BYTES
+                    : 16L + (long) sparseOrdinals[slot].length * Integer.BYTES;
+        }
+        return bytes;
+    }
+}
\ No newline at end of file
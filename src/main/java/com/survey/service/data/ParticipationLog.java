@@ -0,0 +1,284 @@
+package com.survey.service.data;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only write-ahead log of participations recorded through the API. Each append writes the rows as
+ * checksummed frames and forces them to disk at most once (group commit), so the cost of an fsync is shared by
+ * every row of the batch. With a positive fsync interval, appends within the interval only reach the page cache
+ * and are forced by the next append or {@link #sync()} after it.
+ * <p>
+ * Layout: magic, format version and a pending fold (the base file length before and after the rows are folded
+ * into it, -1 while none is pending), then frames of a row count, the rows (member ID, survey ID, status ID,
+ * length) and a CRC32C over both. A frame cut short by a crash fails its checksum and is truncated away when the
+ * log is opened again. Not thread-safe; the owner serializes all calls.
+ */
+public final class ParticipationLog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticipationLog.class);
+
+    private static final int MAGIC = 0x53565057;
+    private static final int FORMAT_VERSION = 1;
+    private static final int FOLD_OFFSET = 2 * Integer.BYTES;
+    private static final int HEADER_BYTES = FOLD_OFFSET + 2 * Long.BYTES;
+    private static final int ROW_BYTES = 2 * Long.BYTES + Byte.BYTES + Integer.BYTES;
+    private static final int FRAME_OVERHEAD = 2 * Integer.BYTES;
+    private static final int MAX_FRAME_ROWS = 1 << 16;
+
+    /**
+     * Rows being folded into a base file that grows from {@code baseLength} to {@code foldedLength} bytes.
+     */
+    public record Fold(long baseLength, long foldedLength) {
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long fsyncIntervalNanos;
+    private final ByteBuffer frame = ByteBuffer.allocateDirect(FRAME_OVERHEAD + MAX_FRAME_ROWS * ROW_BYTES);
+    private final CRC32C crc = new CRC32C();
+    private Fold pendingFold;
+    private long size;
+    private long rowCount;
+    private long lastSyncNanos = System.nanoTime();
+    private boolean dirty;
+
+    private ParticipationLog(Path path, FileChannel channel, Duration fsyncInterval) {
+        this.path = path;
+        this.channel = channel;
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+    }
+
+    /**
+     * Opens the log, creating it if it does not exist, and replays its rows into {@code replay} in append order.
+     * A torn last frame is truncated.
+     *
+     * @throws IOException if the file is not a participation log of this format or cannot be read
+     */
+    public static ParticipationLog open(Path path, Duration fsyncInterval,
+                                        ParallelParticipationCsvReader.RowSink replay) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        ParticipationLog log = new ParticipationLog(path, channel, fsyncInterval);
+        try {
+            if (channel.size() < HEADER_BYTES) {
+                log.reset();
+            } else {
+                log.replay(replay);
+            }
+            return log;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the rows as one group and forces them to disk unless the fsync interval has not elapsed yet. A failed
+     * write is cut off again, so an append that throws leaves the log as it was. Callers append only rows they are
+     * about to publish, as the log cannot take them back afterwards.
+     */
+    public void append(ParticipationStore rows) throws IOException {
+        long start = size;
+        try {
+            for (int from = 0; from < rows.size(); from += MAX_FRAME_ROWS) {
+                writeFrame(rows, from, Math.min(rows.size(), from + MAX_FRAME_ROWS));
+            }
+            dirty = true;
+            if (fsyncIntervalNanos <= 0 || System.nanoTime() - lastSyncNanos >= fsyncIntervalNanos) {
+                sync();
+            }
+        } catch (IOException e) {
+            channel.truncate(start);
+            size = start;
+            throw e;
+        }
+        rowCount += rows.size();
+    }
+
+    /**
+     * Forces appended rows to disk if any were written since the last sync.
+     */
+    public void sync() throws IOException {
+        if (dirty) {
+            channel.force(false);
+            dirty = false;
+        }
+        lastSyncNanos = System.nanoTime();
+    }
+
+    /**
+     * @return true if rows were appended since the log was last forced to disk
+     */
+    public boolean hasUnsyncedRows() {
+        return dirty;
+    }
+
+    /**
+     * Durably records that the rows of this log are about to be appended to a base file, so that after a crash
+     * they are neither lost nor applied twice.
+     */
+    public void beginFold(Fold fold) throws IOException {
+        sync();
+        writeHeader(fold);
+        pendingFold = fold;
+    }
+
+    /**
+     * @return the fold recorded by {@link #beginFold} that was not followed by {@link #reset()}
+     */
+    public Optional<Fold> pendingFold() {
+        return Optional.ofNullable(pendingFold);
+    }
+
+    /**
+     * Drops all rows and any pending fold.
+     */
+    public void reset() throws IOException {
+        channel.truncate(0L);
+        writeHeader(null);
+        pendingFold = null;
+        size = HEADER_BYTES;
+        rowCount = 0;
+        dirty = false;
+    }
+
+    /**
+     * Forgets a pending fold but keeps the rows, e.g. because the base file was not extended after all.
+     */
+    public void cancelFold() throws IOException {
+        writeHeader(null);
+        pendingFold = null;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * @return the length of the log in bytes, header included
+     */
+    public long size() {
+        return size;
+    }
+
+    public long rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeFrame(ParticipationStore rows, int from, int to) throws IOException {
+        frame.clear();
+        frame.putInt(to - from);
+        for (int row = from; row < to; row++) {
+            frame.putLong(rows.memberId(row))
+                    .putLong(rows.surveyId(row))
+                    .put(rows.statusId(row))
+                    .putInt(rows.length(row));
+        }
+        crc.reset();
+        crc.update(frame.flip());
+        frame.limit(frame.capacity()).putInt((int) crc.getValue()).flip();
+        while (frame.hasRemaining()) {
+            size += channel.write(frame, size);
+        }
+    }
+
+    private void writeHeader(Fold fold) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(fold != null ? fold.baseLength() : -1L)
+                .putLong(fold != null ? fold.foldedLength() : -1L)
+                .flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Reads the header and all complete frames, then cuts off whatever follows the last of them.
+     */
+    private void replay(ParallelParticipationCsvReader.RowSink sink) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(header, 0L);
+        if (header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != FORMAT_VERSION) {
+            throw new IOException(path + " is not a participation log of format version " + FORMAT_VERSION);
+        }
+        long baseLength = header.getLong(FOLD_OFFSET);
+        pendingFold = baseLength >= 0 ? new Fold(baseLength, header.getLong(FOLD_OFFSET + Long.BYTES)) : null;
+
+        long position = HEADER_BYTES;
+        while (true) {
+            frame.clear().limit(Integer.BYTES);
+            if (!readFully(frame, position)) {
+                break;
+            }
+            int rows = frame.getInt(0);
+            if (rows <= 0 || rows > MAX_FRAME_ROWS) {
+                break;
+            }
+            int length = FRAME_OVERHEAD + rows * ROW_BYTES;
+            if (!readFully(frame.limit(length), position)) {
+                break;
+            }
+            crc.reset();
+            crc.update(frame.flip().limit(length - Integer.BYTES));
+            if (frame.limit(length).getInt(length - Integer.BYTES) != (int) crc.getValue()) {
+                break;
+            }
+            frame.position(Integer.BYTES);
+            for (int row = 0; row < rows; row++) {
+                sink.accept(frame.getLong(), frame.getLong(), frame.get(), frame.getInt());
+            }
+            rowCount += rows;
+            position += length;
+        }
+
+        if (position < channel.size()) {
+            logger.warn("Truncating {} bytes of a torn write at the end of participation log {}",
+                    channel.size() - position, path);
+            channel.truncate(position);
+            channel.force(false);
+        }
+        size = position;
+    }
+
+    /**
+     * Fills the buffer from its position to its limit with the bytes at the same offsets from {@code position}.
+     *
+     * @return false if the file ended first
+     */
+    private boolean readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,394 @@
+package com.survey.service.data;
+
+import com.survey.service.model.Participation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar, primitive storage of participations.
+ * Rows are sorted by survey, so every survey resolves to a contiguous row range. Members are
+ * indexed CSR-style: {@code memberOffsets} delimits each member's slice of {@code memberRows},
+ * which holds row indexes into the survey-sorted columns. No lookup boxes ids or allocates.
+ */
+public final class ParticipationStore {
+
+    public static final int NO_LENGTH = Integer.MIN_VALUE;
+
+    public static final ParticipationStore EMPTY = builder().build();
+
+    // Survey index: distinct sorted ids and row ranges [surveyOffsets[slot], surveyOffsets[slot + 1])
+    private final long[] surveyIds;
+    private final int[] surveyOffsets;
+
+    // Member index: distinct sorted ids and CSR slices of memberRows
+    private final long[] memberIds;
+    private final int[] memberOffsets;
+    private final int[] memberRows;
+
+    // Row columns, sorted by survey
+    private final int[] rowMemberSlots;
+    private final int[] rowSurveySlots;
+    private final byte[] rowStatusIds;
+    private final int[] rowLengths;
+
+    private ParticipationStore(long[] surveyIds, int[] surveyOffsets,
+                               long[] memberIds, int[] memberOffsets, int[] memberRows,
+                               int[] rowMemberSlots, int[] rowSurveySlots, byte[] rowStatusIds, int[] rowLengths) {
+        this.surveyIds = surveyIds;
+        this.surveyOffsets = surveyOffsets;
+        this.memberIds = memberIds;
+        this.memberOffsets = memberOffsets;
+        this.memberRows = memberRows;
+        this.rowMemberSlots = rowMemberSlots;
+        this.rowSurveySlots = rowSurveySlots;
+        this.rowStatusIds = rowStatusIds;
+        this.rowLengths = rowLengths;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return rowStatusIds.length;
+    }
+
+    public int surveyCount() {
+        return surveyIds.length;
+    }
+
+    public int memberCount() {
+        return memberIds.length;
+    }
+
+    // Survey-keyed access
+
+    /**
+     * @return the survey slot, or a negative value if the survey has no participations
+     */
+    public int surveySlot(long surveyId) {
+        return Arrays.binarySearch(surveyIds, surveyId);
+    }
+
+    public int surveyRowStart(int surveySlot) {
+        return surveyOffsets[surveySlot];
+    }
+
+    public int surveyRowEnd(int surveySlot) {
+        return surveyOffsets[surveySlot + 1];
+    }
+
+    // Member-keyed access
+
+    /**
+     * @return the member slot, or a negative value if the member has no participations
+     */
+    public int memberSlot(long memberId) {
+        return Arrays.binarySearch(memberIds, memberId);
+    }
+
+    public int memberRowStart(int memberSlot) {
+        return memberOffsets[memberSlot];
+    }
+
+    public int memberRowEnd(int memberSlot) {
+        return memberOffsets[memberSlot + 1];
+    }
+
+    /**
+     * Maps a position inside a member range to the participation row it refers to.
+     */
+    public int memberRow(int position) {
+        return memberRows[position];
+    }
+
+    // Row columns
+
+    public long memberId(int row) {
+        return memberIds[rowMemberSlots[row]];
+    }
+
+    public long surveyId(int row) {
+        return surveyIds[rowSurveySlots[row]];
+    }
+
+    public int rowSurveySlot(int row) {
+        return rowSurveySlots[row];
+    }
+
+    public byte statusId(int row) {
+        return rowStatusIds[row];
+    }
+
+    public boolean hasLength(int row) {
+        return rowLengths[row] != NO_LENGTH;
+    }
+
+    public int length(int row) {
+        return rowLengths[row];
+    }
+
+    public Participation participation(int row) {
+        return new Participation(memberId(row), surveyId(row), (long) statusId(row),
+                hasLength(row) ? length(row) : null);
+    }
+
+    /**
+     * Materializes a member's participations as records. Allocates; not meant for request hot paths.
+     */
+    public List<Participation> participationsForMember(long memberId) {
+        int slot = memberSlot(memberId);
+        if (slot < 0) {
+            return List.of();
+        }
+        List<Participation> participations = new ArrayList<>(memberRowEnd(slot) - memberRowStart(slot));
+        for (int position = memberRowStart(slot); position < memberRowEnd(slot); position++) {
+            participations.add(participation(memberRow(position)));
+        }
+        return participations;
+    }
+
+    /**
+     * Materializes a survey's participations as records. Allocates; not meant for request hot paths.
+     */
+    public List<Participation> participationsForSurvey(long surveyId) {
+        int slot = surveySlot(surveyId);
+        if (slot < 0) {
+            return List.of();
+        }
+        List<Participation> participations = new ArrayList<>(surveyRowEnd(slot) - surveyRowStart(slot));
+        for (int row = surveyRowStart(slot); row < surveyRowEnd(slot); row++) {
+            participations.add(participation(row));
+        }
+        return participations;
+    }
+
+    /**
+     * Returns a new store holding this store's rows followed by the rows of {@code delta}; neither input
+     * is modified. Both inputs are already grouped by survey, so the rows are merged survey by survey
+     * without sorting, and appended rows stay behind the existing rows of their survey and member.
+     */
+    public ParticipationStore withAppended(ParticipationStore delta) {
+        if (delta.size() == 0) {
+            return this;
+        }
+        int[] baseSurveyMap = new int[surveyIds.length];
+        int[] deltaSurveyMap = new int[delta.surveyIds.length];
+        long[] mergedSurveyIds = union(surveyIds, delta.surveyIds, baseSurveyMap, deltaSurveyMap);
+        int[] baseMemberMap = new int[memberIds.length];
+        int[] deltaMemberMap = new int[delta.memberIds.length];
+        long[] mergedMemberIds = union(memberIds, delta.memberIds, baseMemberMap, deltaMemberMap);
+
+        int size = size() + delta.size();
+        int[] mergedSurveyOffsets = new int[mergedSurveyIds.length + 1];
+        int[] mergedMemberSlots = new int[size];
+        int[] mergedSurveySlots = new int[size];
+        byte[] mergedStatusIds = new byte[size];
+        int[] mergedLengths = new int[size];
+
+        int row = 0;
+        int baseSlot = 0;
+        int deltaSlot = 0;
+        for (int slot = 0; slot < mergedSurveyIds.length; slot++) {
+            mergedSurveyOffsets[slot] = row;
+            if (baseSlot < surveyIds.length && baseSurveyMap[baseSlot] == slot) {
+                row = copyRows(this, baseSlot++, baseMemberMap, slot, row,
+                        mergedMemberSlots, mergedSurveySlots, mergedStatusIds, mergedLengths);
+            }
+            if (deltaSlot < delta.surveyIds.length && deltaSurveyMap[deltaSlot] == slot) {
+                row = copyRows(delta, deltaSlot++, deltaMemberMap, slot, row,
+                        mergedMemberSlots, mergedSurveySlots, mergedStatusIds, mergedLengths);
+            }
+        }
+        mergedSurveyOffsets[mergedSurveyIds.length] = row;
+
+        int[] mergedMemberOffsets = Builder.offsets(mergedMemberSlots, mergedMemberIds.length);
+        int[] memberCursor = Arrays.copyOf(mergedMemberOffsets, mergedMemberIds.length);
+        int[] mergedMemberRows = new int[size];
+        for (int r = 0; r < size; r++) {
+            mergedMemberRows[memberCursor[mergedMemberSlots[r]]++] = r;
+        }
+
+        return new ParticipationStore(mergedSurveyIds, mergedSurveyOffsets,
+                mergedMemberIds, mergedMemberOffsets, mergedMemberRows,
+                mergedMemberSlots, mergedSurveySlots, mergedStatusIds, mergedLengths);
+    }
+
+    private static int copyRows(ParticipationStore source, int sourceSlot, int[] memberMap, int targetSlot, int row,
+                                int[] memberSlots, int[] surveySlots, byte[] statusIds, int[] lengths) {
+        int start = source.surveyOffsets[sourceSlot];
+        int count = source.surveyOffsets[sourceSlot + 1] - start;
+        System.arraycopy(source.rowStatusIds, start, statusIds, row, count);
+        System.arraycopy(source.rowLengths, start, lengths, row, count);
+        for (int i = 0; i < count; i++) {
+            memberSlots[row + i] = memberMap[source.rowMemberSlots[start + i]];
+            surveySlots[row + i] = targetSlot;
+        }
+        return row + count;
+    }
+
+    /**
+     * Merges two sorted distinct id arrays, recording where each input slot ends up.
+     */
+    private static long[] union(long[] first, long[] second, int[] firstMap, int[] secondMap) {
+        long[] merged = new long[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < first.length || j < second.length) {
+            if (j == second.length || (i < first.length && first[i] < second[j])) {
+                firstMap[i] = count;
+                merged[count++] = first[i++];
+            } else if (i == first.length || second[j] < first[i]) {
+                secondMap[j] = count;
+                merged[count++] = second[j++];
+            } else {
+                firstMap[i] = count;
+                secondMap[j++] = count;
+                merged[count++] = first[i++];
+            }
+        }
+        return Arrays.copyOf(merged, count);
+    }
+
+    void writeTo(SnapshotOutput out) throws IOException {
+        out.writeLongArray(surveyIds);
+        out.writeIntArray(surveyOffsets);
+        out.writeLongArray(memberIds);
+        out.writeIntArray(memberOffsets);
+        out.writeIntArray(memberRows);
+        out.writeIntArray(rowMemberSlots);
+        out.writeIntArray(rowSurveySlots);
+        out.writeByteArray(rowStatusIds);
+        out.writeIntArray(rowLengths);
+    }
+
+    static ParticipationStore readFrom(SnapshotInput in) throws IOException {
+        return new ParticipationStore(in.readLongArray(), in.readIntArray(),
+                in.readLongArray(), in.readIntArray(), in.readIntArray(),
+                in.readIntArray(), in.readIntArray(), in.readByteArray(), in.readIntArray());
+    }
+
+    /**
+     * Approximate heap footprint of the store, including array headers.
+     */
+    public long estimatedBytes() {
+        return arrayBytes(surveyIds.length, Long.BYTES) + arrayBytes(surveyOffsets.length, Integer.BYTES)
+                + arrayBytes(memberIds.length, Long.BYTES) + arrayBytes(memberOffsets.length, Integer.BYTES)
+                + arrayBytes(memberRows.length, Integer.BYTES)
+                + arrayBytes(rowMemberSlots.length, Integer.BYTES) + arrayBytes(rowSurveySlots.length, Integer.BYTES)
+                + arrayBytes(rowStatusIds.length, Byte.BYTES) + arrayBytes(rowLengths.length, Integer.BYTES);
+    }
+
+    private static long arrayBytes(int length, int elementBytes) {
+        return 16L + (long) length * elementBytes;
+    }
+
+    /**
+     * Accumulates rows in arrival order and sorts them into the columnar layout on {@link #build()}.
+     */
+    public static final class Builder {
+
+        private long[] memberIds = new long[16];
+        private long[] surveyIds = new long[16];
+        private byte[] statusIds = new byte[16];
+        private int[] lengths = new int[16];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(Participation participation) {
+            return add(participation.memberId(), participation.surveyId(), participation.statusId().byteValue(),
+                    participation.length() != null ? participation.length() : NO_LENGTH);
+        }
+
+        public Builder add(long memberId, long surveyId, byte statusId, int length) {
+            if (size == statusIds.length) {
+                grow();
+            }
+            memberIds[size] = memberId;
+            surveyIds[size] = surveyId;
+            statusIds[size] = statusId;
+            lengths[size] = length;
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        private void grow() {
+            int capacity = statusIds.length * 2;
+            memberIds = Arrays.copyOf(memberIds, capacity);
+            surveyIds = Arrays.copyOf(surveyIds, capacity);
+            statusIds = Arrays.copyOf(statusIds, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+
+        public ParticipationStore build() {
+            long[] distinctSurveyIds = distinctSorted(surveyIds, size);
+            long[] distinctMemberIds = distinctSorted(memberIds, size);
+
+            int[] inputSurveySlots = new int[size];
+            int[] inputMemberSlots = new int[size];
+            for (int i = 0; i < size; i++) {
+                inputSurveySlots[i] = Arrays.binarySearch(distinctSurveyIds, surveyIds[i]);
+                inputMemberSlots[i] = Arrays.binarySearch(distinctMemberIds, memberIds[i]);
+            }
+
+            // Counting sort by survey keeps arrival order within each survey
+            int[] surveyOffsets = offsets(inputSurveySlots, distinctSurveyIds.length);
+            int[] cursor = Arrays.copyOf(surveyOffsets, distinctSurveyIds.length);
+            int[] rowMemberSlots = new int[size];
+            int[] rowSurveySlots = new int[size];
+            byte[] rowStatusIds = new byte[size];
+            int[] rowLengths = new int[size];
+            for (int i = 0; i < size; i++) {
+                int row = cursor[inputSurveySlots[i]]++;
+                rowMemberSlots[row] = inputMemberSlots[i];
+                rowSurveySlots[row] = inputSurveySlots[i];
+                rowStatusIds[row] = statusIds[i];
+                rowLengths[row] = lengths[i];
+            }
+
+            int[] memberOffsets = offsets(rowMemberSlots, distinctMemberIds.length);
+            int[] memberCursor = Arrays.copyOf(memberOffsets, distinctMemberIds.length);
+            int[] memberRows = new int[size];
+            for (int row = 0; row < size; row++) {
+                memberRows[memberCursor[rowMemberSlots[row]]++] = row;
+            }
+
+            return new ParticipationStore(distinctSurveyIds, surveyOffsets,
+                    distinctMemberIds, memberOffsets, memberRows,
+                    rowMemberSlots, rowSurveySlots, rowStatusIds, rowLengths);
+        }
+
+        private static long[] distinctSorted(long[] values, int size) {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, distinct);
+        }
+
+        static int[] offsets(int[] slots, int slotCount) {
+            int[] offsets = new int[slotCount + 1];
+            for (int slot : slots) {
+                offsets[slot + 1]++;
+            }
+            for (int i = 0; i < slotCount; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+            return offsets;
+        }
+    }
+}
\ No newline at end of file
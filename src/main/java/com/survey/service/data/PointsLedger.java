@@ -0,0 +1,243 @@
+package com.survey.service.data;
+
+import com.survey.service.enums.ParticipationStatus;
+import com.survey.service.model.Survey;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Points earned per member, computed once per snapshot: a total per member and, CSR-style, the
+ * (survey id, points) entries behind it in ascending survey order. Only completed and filtered
+ * participations of known surveys earn points; members without such entries are not in the ledger.
+ * Appended participations are merged in through {@link #withAppended(PointsLedger)}, which only
+ * recomputes the members they touch.
+ */
+public final class PointsLedger {
+
+    public static final PointsLedger EMPTY = of(ParticipationStore.EMPTY, Map.of());
+
+    private final long[] memberIds;
+    private final long[] totals;
+    private final int[] entryOffsets;
+    private final long[] entrySurveyIds;
+    private final int[] entryPoints;
+
+    private PointsLedger(long[] memberIds, long[] totals, int[] entryOffsets, long[] entrySurveyIds, int[] entryPoints) {
+        this.memberIds = memberIds;
+        this.totals = totals;
+        this.entryOffsets = entryOffsets;
+        this.entrySurveyIds = entrySurveyIds;
+        this.entryPoints = entryPoints;
+    }
+
+    public static PointsLedger of(ParticipationStore participations, Map<Long, Survey> surveysById) {
+        // Points per survey and status, resolved once instead of per participation
+        int surveyCount = participations.surveyCount();
+        int[] completionPoints = new int[surveyCount];
+        int[] filteredPoints = new int[surveyCount];
+        boolean[] knownSurvey = new boolean[surveyCount];
+        for (int slot = 0; slot < surveyCount; slot++) {
+            Survey survey = surveysById.get(participations.surveyId(participations.surveyRowStart(slot)));
+            if (survey != null) {
+                knownSurvey[slot] = true;
+                completionPoints[slot] = survey.completionPoints();
+                filteredPoints[slot] = survey.filteredPoints();
+            }
+        }
+
+        int memberCount = participations.memberCount();
+        long[] memberIds = new long[memberCount];
+        long[] totals = new long[memberCount];
+        int[] entryOffsets = new int[memberCount + 1];
+        long[] entrySurveyIds = new long[participations.size()];
+        int[] entryPoints = new int[participations.size()];
+        int members = 0;
+        int entries = 0;
+
+        for (int memberSlot = 0; memberSlot < memberCount; memberSlot++) {
+            int firstEntry = entries;
+            long total = 0;
+            for (int position = participations.memberRowStart(memberSlot);
+                 position < participations.memberRowEnd(memberSlot); position++) {
+                int row = participations.memberRow(position);
+                int surveySlot = participations.rowSurveySlot(row);
+                ParticipationStatus status = ParticipationStatus.fromId(participations.statusId(row));
+                if (!knownSurvey[surveySlot] || !status.isEligibleForPoints()) {
+                    continue;
+                }
+                int points = status.isCompleted() ? completionPoints[surveySlot] : filteredPoints[surveySlot];
+                entrySurveyIds[entries] = participations.surveyId(row);
+                entryPoints[entries] = points;
+                entries++;
+                total += points;
+            }
+            if (entries > firstEntry) {
+                int firstRow = participations.memberRow(participations.memberRowStart(memberSlot));
+                memberIds[members] = participations.memberId(firstRow);
+                totals[members] = total;
+                entryOffsets[members + 1] = entries;
+                members++;
+            }
+        }
+
+        return new PointsLedger(Arrays.copyOf(memberIds, members), Arrays.copyOf(totals, members),
+                Arrays.copyOf(entryOffsets, members + 1),
+                Arrays.copyOf(entrySurveyIds, entries), Arrays.copyOf(entryPoints, entries));
+    }
+
+    /**
+     * Returns the ledger of this ledger's participations followed by those {@code delta} was built from, as
+     * {@link #of} would compute it from the merged store. Untouched members are copied in runs; only members in
+     * {@code delta} get their entries merged, the appended ones behind the existing ones of the same survey.
+     */
+    public PointsLedger withAppended(PointsLedger delta) {
+        if (delta.memberCount() == 0) {
+            return this;
+        }
+        int memberCapacity = memberIds.length + delta.memberIds.length;
+        long[] mergedMemberIds = new long[memberCapacity];
+        long[] mergedTotals = new long[memberCapacity];
+        int[] mergedEntryOffsets = new int[memberCapacity + 1];
+        int entryCount = entrySurveyIds.length + delta.entrySurveyIds.length;
+        long[] mergedEntrySurveyIds = new long[entryCount];
+        int[] mergedEntryPoints = new int[entryCount];
+
+        int members = 0;
+        int slot = 0;
+        for (int deltaSlot = 0; deltaSlot < delta.memberIds.length; deltaSlot++) {
+            long memberId = delta.memberIds[deltaSlot];
+            int position = Arrays.binarySearch(memberIds, slot, memberIds.length, memberId);
+            int runEnd = position >= 0 ? position : -position - 1;
+            members = copySlots(this, slot, runEnd, members,
+                    mergedMemberIds, mergedTotals, mergedEntryOffsets, mergedEntrySurveyIds, mergedEntryPoints);
+            slot = runEnd;
+            if (position < 0) {
+                members = copySlots(delta, deltaSlot, deltaSlot + 1, members,
+                        mergedMemberIds, mergedTotals, mergedEntryOffsets, mergedEntrySurveyIds, mergedEntryPoints);
+                continue;
+            }
+
+            // Both ledgers hold entries in survey order; on equal surveys the existing entries come first
+            int entries = mergedEntryOffsets[members];
+            int entry = entryStart(slot);
+            int deltaEntry = delta.entryStart(deltaSlot);
+            while (entry < entryEnd(slot) || deltaEntry < delta.entryEnd(deltaSlot)) {
+                if (deltaEntry == delta.entryEnd(deltaSlot)
+                        || (entry < entryEnd(slot) && entrySurveyIds[entry] <= delta.entrySurveyIds[deltaEntry])) {
+                    mergedEntrySurveyIds[entries] = entrySurveyIds[entry];
+                    mergedEntryPoints[entries++] = entryPoints[entry++];
+                } else {
+                    mergedEntrySurveyIds[entries] = delta.entrySurveyIds[deltaEntry];
+                    mergedEntryPoints[entries++] = delta.entryPoints[deltaEntry++];
+                }
+            }
+            mergedMemberIds[members] = memberId;
+            mergedTotals[members] = totals[slot] + delta.totals[deltaSlot];
+            mergedEntryOffsets[++members] = entries;
+            slot++;
+        }
+        members = copySlots(this, slot, memberIds.length, members,
+                mergedMemberIds, mergedTotals, mergedEntryOffsets, mergedEntrySurveyIds, mergedEntryPoints);
+
+        return new PointsLedger(Arrays.copyOf(mergedMemberIds, members), Arrays.copyOf(mergedTotals, members),
+                Arrays.copyOf(mergedEntryOffsets, members + 1), mergedEntrySurveyIds, mergedEntryPoints);
+    }
+
+    /**
+     * Copies the slots [from, to) of {@code source} behind the {@code members} slots already copied.
+     *
+     * @return the number of copied slots afterwards
+     */
+    private static int copySlots(PointsLedger source, int from, int to, int members,
+                                 long[] memberIds, long[] totals, int[] entryOffsets,
+                                 long[] entrySurveyIds, int[] entryPoints) {
+        if (from == to) {
+            return members;
+        }
+        int entries = entryOffsets[members];
+        int firstEntry = source.entryOffsets[from];
+        System.arraycopy(source.memberIds, from, memberIds, members, to - from);
+        System.arraycopy(source.totals, from, totals, members, to - from);
+        System.arraycopy(source.entrySurveyIds, firstEntry, entrySurveyIds, entries, source.entryOffsets[to] - firstEntry);
+        System.arraycopy(source.entryPoints, firstEntry, entryPoints, entries, source.entryOffsets[to] - firstEntry);
+        int shift = entries - firstEntry;
+        for (int slot = from; slot < to; slot++) {
+            entryOffsets[++members] = source.entryOffsets[slot + 1] + shift;
+        }
+        return members;
+    }
+
+    public int memberCount() {
+        return memberIds.length;
+    }
+
+    /**
+     * @return the ledger slot, or a negative value if the member earned no points
+     */
+    public int slot(long memberId) {
+        return Arrays.binarySearch(memberIds, memberId);
+    }
+
+    public long memberId(int slot) {
+        return memberIds[slot];
+    }
+
+    public long total(int slot) {
+        return totals[slot];
+    }
+
+    public int entryStart(int slot) {
+        return entryOffsets[slot];
+    }
+
+    public int entryEnd(int slot) {
+        return entryOffsets[slot + 1];
+    }
+
+    /**
+     * @return the first entry of the member whose survey id is greater than or equal to {@code surveyId}
+     */
+    public int ceilingEntry(int slot, long surveyId) {
+        int position = Arrays.binarySearch(entrySurveyIds, entryStart(slot), entryEnd(slot), surveyId);
+        if (position < 0) {
+            return -position - 1;
+        }
+        // Step back over repeated entries for the same survey
+        while (position > entryStart(slot) && entrySurveyIds[position - 1] == surveyId) {
+            position--;
+        }
+        return position;
+    }
+
+    public long entrySurveyId(int entry) {
+        return entrySurveyIds[entry];
+    }
+
+    public int entryPoints(int entry) {
+        return entryPoints[entry];
+    }
+
+    /**
+     * Approximate heap footprint of the ledger, including array headers.
+     */
+    public long estimatedBytes() {
+        return 16L * 5 + (long) memberIds.length * Long.BYTES + (long) totals.length * Long.BYTES
+                + (long) entryOffsets.length * Integer.BYTES + (long) entrySurveyIds.length * Long.BYTES
+                + (long) entryPoints.length * Integer.BYTES;
+    }
+
+    void writeTo(SnapshotOutput out) throws IOException {
+        out.writeLongArray(memberIds);
+        out.writeLongArray(totals);
+        out.writeIntArray(entryOffsets);
+        out.writeLongArray(entrySurveyIds);
+        out.writeIntArray(entryPoints);
+    }
+
+    static PointsLedger readFrom(SnapshotInput in) throws IOException {
+        return new PointsLedger(in.readLongArray(), in.readLongArray(), in.readIntArray(),
+                in.readLongArray(), in.readIntArray());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,219 @@
+package com.survey.service.data;
+
+import com.survey.service.model.Member;
+import com.survey.service.model.Survey;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * Versioned binary image of a {@link DataSnapshot}: members, surveys, the participation columns and the
+ * derived member search and e-mail indexes, survey aggregates, participation bitsets, points ledger and
+ * leaderboard. The file records the size, modification time and a sampled hash of every source CSV, so a stale
+ * image is detected from its header alone.
+ * <p>
+ * Layout: magic, format version, source fingerprints, participation tail position, then each part
+ * as length-prefixed primitive arrays. Files are written to a temporary sibling and moved into place,
+ * so readers never see a partially written image.
+ */
+public final class SnapshotFile {
+
+    private static final int MAGIC = 0x53565953;
+    private static final int FORMAT_VERSION = 5;
+    private static final int SAMPLE_BYTES = 64 * 1024;
+
+    private SnapshotFile() {
+    }
+
+    /**
+     * Identifies the content of a source file without reading it completely: the CRC is taken over its
+     * first and last {@value #SAMPLE_BYTES} bytes.
+     */
+    public record SourceFile(String location, long size, long lastModified, long sampleHash) {
+
+        public static SourceFile of(Resource resource) throws IOException {
+            return new SourceFile(resource.getDescription(), resource.contentLength(), resource.lastModified(),
+                    sampleHash(resource));
+        }
+
+        private static long sampleHash(Resource resource) throws IOException {
+            CRC32C crc = new CRC32C();
+            if (resource.isFile()) {
+                try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+                    long size = channel.size();
+                    update(crc, channel, 0L, Math.min(size, SAMPLE_BYTES));
+                    if (size > SAMPLE_BYTES) {
+                        long tailStart = Math.max(SAMPLE_BYTES, size - SAMPLE_BYTES);
+                        update(crc, channel, tailStart, size - tailStart);
+                    }
+                }
+            } else {
+                try (InputStream input = resource.getInputStream()) {
+                    crc.update(input.readNBytes(SAMPLE_BYTES));
+                }
+            }
+            return crc.getValue();
+        }
+
+        private static void update(CRC32C crc, FileChannel channel, long position, long length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate((int) length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+            crc.update(buffer);
+        }
+    }
+
+    /**
+     * A snapshot together with the sources it was loaded from and how far the participation file
+     * was consumed, so appends can continue after a restart.
+     */
+    public record Contents(DataSnapshot snapshot, List<SourceFile> sources,
+                           long participationOffset, long participationRecordCount) {
+    }
+
+    public static void write(Path file, Contents contents) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (SnapshotOutput out = new SnapshotOutput(temporary)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            writeSources(out, contents.sources());
+            out.writeLong(contents.participationOffset());
+            out.writeLong(contents.participationRecordCount());
+
+            DataSnapshot snapshot = contents.snapshot();
+            writeMembers(out, snapshot.membersById());
+            writeSurveys(out, snapshot.surveysById());
+            snapshot.participations().writeTo(out);
+            snapshot.surveyAggregates().writeTo(out);
+            snapshot.memberSearchIndex().writeTo(out);
+            snapshot.memberEmailIndex().writeTo(out);
+            snapshot.participationBitsets().writeTo(out);
+            snapshot.pointsLedger().writeTo(out);
+            snapshot.leaderboard().writeTo(out);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps the snapshot file and restores it as a snapshot with the given version.
+     *
+     * @return the contents, or empty if the file is missing, has another format version,
+     * or was written from sources other than {@code sources}
+     */
+    public static Optional<Contents> read(Path file, long version, List<SourceFile> sources) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (SnapshotInput in = new SnapshotInput(file)) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            List<SourceFile> recordedSources = readSources(in);
+            if (!recordedSources.equals(sources)) {
+                return Optional.empty();
+            }
+            long participationOffset = in.readLong();
+            long participationRecordCount = in.readLong();
+
+            Map<Long, Member> membersById = readMembers(in);
+            Map<Long, Survey> surveysById = readSurveys(in);
+            ParticipationStore participations = ParticipationStore.readFrom(in);
+            SurveyAggregates surveyAggregates = SurveyAggregates.readFrom(in);
+            MemberIndex memberIndex = MemberIndex.of(membersById);
+            MemberSearchIndex memberSearchIndex = MemberSearchIndex.readFrom(in, memberIndex);
+            MemberEmailIndex memberEmailIndex = MemberEmailIndex.readFrom(in, memberIndex);
+            ParticipationBitsets participationBitsets = ParticipationBitsets.readFrom(in, memberIndex);
+            PointsLedger pointsLedger = PointsLedger.readFrom(in);
+            Leaderboard leaderboard = Leaderboard.readFrom(in, pointsLedger);
+
+            DataSnapshot snapshot = new DataSnapshot(version, membersById, surveysById, participations,
+                    surveyAggregates, memberIndex, memberSearchIndex, memberEmailIndex, participationBitsets,
+                    pointsLedger, leaderboard);
+            return Optional.of(new Contents(snapshot, recordedSources, participationOffset, participationRecordCount));
+        }
+    }
+
+    private static void writeSources(SnapshotOutput out, List<SourceFile> sources) throws IOException {
+        out.writeInt(sources.size());
+        for (SourceFile source : sources) {
+            out.writeString(source.location());
+            out.writeLong(source.size());
+            out.writeLong(source.lastModified());
+            out.writeLong(source.sampleHash());
+        }
+    }
+
+    private static List<SourceFile> readSources(SnapshotInput in) throws IOException {
+        int count = in.readInt();
+        List<SourceFile> sources = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sources.add(new SourceFile(in.readString(), in.readLong(), in.readLong(), in.readLong()));
+        }
+        return sources;
+    }
+
+    private static void writeMembers(SnapshotOutput out, Map<Long, Member> membersById) throws IOException {
+        List<Member> members = membersById.values().stream().sorted(Comparator.comparing(Member::id)).toList();
+        out.writeInt(members.size());
+        for (Member member : members) {
+            out.writeLong(member.id());
+            out.writeString(member.fullName());
+            out.writeString(member.email());
+            out.writeBoolean(Boolean.TRUE.equals(member.isActive()));
+        }
+    }
+
+    private static Map<Long, Member> readMembers(SnapshotInput in) throws IOException {
+        int count = in.readInt();
+        Map<Long, Member> membersById = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            Member member = new Member(in.readLong(), in.readString(), in.readString(), in.readBoolean());
+            membersById.put(member.id(), member);
+        }
+        return membersById;
+    }
+
+    private static void writeSurveys(SnapshotOutput out, Map<Long, Survey> surveysById) throws IOException {
+        List<Survey> surveys = surveysById.values().stream().sorted(Comparator.comparing(Survey::id)).toList();
+        out.writeInt(surveys.size());
+        for (Survey survey : surveys) {
+            out.writeLong(survey.id());
+            out.writeString(survey.name());
+            out.writeInt(survey.expectedCompletes());
+            out.writeInt(survey.completionPoints());
+            out.writeInt(survey.filteredPoints());
+        }
+    }
+
+    private static Map<Long, Survey> readSurveys(SnapshotInput in) throws IOException {
+        int count = in.readInt();
+        Map<Long, Survey> surveysById = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            Survey survey = new Survey(in.readLong(), in.readString(), in.readInt(), in.readInt(), in.readInt());
+            surveysById.put(survey.id(), survey);
+        }
+        return surveysById;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.survey.service.data;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequential reader over a memory-mapped snapshot file. The file is mapped in windows, so files larger
+ * than a single {@code MappedByteBuffer} can hold are read the same way; arrays are copied out of the
+ * mapping in bulk.
+ */
+final class SnapshotInput implements Closeable {
+
+    private static final long WINDOW_BYTES = 256L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private long windowStart;
+    private ByteBuffer window;
+
+    SnapshotInput(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        map(0L);
+    }
+
+    byte readByte() throws IOException {
+        return buffer(Byte.BYTES).get();
+    }
+
+    boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    int readInt() throws IOException {
+        return buffer(Integer.BYTES).getInt();
+    }
+
+    long readLong() throws IOException {
+        return buffer(Long.BYTES).getLong();
+    }
+
+    String readString() throws IOException {
+        int length = readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(readBytes(length), StandardCharsets.UTF_8);
+    }
+
+    byte[] readByteArray() throws IOException {
+        return readBytes(readLength());
+    }
+
+    int[] readIntArray() throws IOException {
+        int[] values = new int[readLength()];
+        int done = 0;
+        while (done < values.length) {
+            ByteBuffer buffer = buffer(Integer.BYTES);
+            int count = Math.min(values.length - done, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().get(values, done, count);
+            buffer.position(buffer.position() + count * Integer.BYTES);
+            done += count;
+        }
+        return values;
+    }
+
+    long[] readLongArray() throws IOException {
+        long[] values = new long[readLength()];
+        int done = 0;
+        while (done < values.length) {
+            ByteBuffer buffer = buffer(Long.BYTES);
+            int count = Math.min(values.length - done, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().get(values, done, count);
+            buffer.position(buffer.position() + count * Long.BYTES);
+            done += count;
+        }
+        return values;
+    }
+
+    private int readLength() throws IOException {
+        int length = readInt();
+        if (length < 0) {
+            throw new IOException("Corrupt snapshot file: negative array length " + length);
+        }
+        return length;
+    }
+
+    private byte[] readBytes(int length) throws IOException {
+        byte[] values = new byte[length];
+        int done = 0;
+        while (done < length) {
+            ByteBuffer buffer = buffer(Byte.BYTES);
+            int count = Math.min(length - done, buffer.remaining());
+            buffer.get(values, done, count);
+            done += count;
+        }
+        return values;
+    }
+
+    /**
+     * Returns the current window with at least {@code bytes} remaining, moving the window if needed.
+     */
+    private ByteBuffer buffer(int bytes) throws IOException {
+        if (window.remaining() < bytes) {
+            long position = windowStart + window.position();
+            if (size - position < bytes) {
+                throw new EOFException("Unexpected end of snapshot file at offset " + position);
+            }
+            map(position);
+        }
+        return window;
+    }
+
+    private void map(long position) throws IOException {
+        windowStart = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_BYTES, size - position));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.survey.service.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequential big-endian writer for snapshot files. Primitive arrays are written length-prefixed
+ * through a direct buffer, so large columns go to the channel in bulk.
+ */
+final class SnapshotOutput implements Closeable {
+
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+    SnapshotOutput(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    void writeByte(byte value) throws IOException {
+        ensure(Byte.BYTES);
+        buffer.put(value);
+    }
+
+    void writeBoolean(boolean value) throws IOException {
+        writeByte(value ? (byte) 1 : (byte) 0);
+    }
+
+    void writeInt(int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void writeLong(long value) throws IOException {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    /**
+     * Writes a length-prefixed UTF-8 string; {@code null} is written as length -1.
+     */
+    void writeString(String value) throws IOException {
+        if (value == null) {
+            writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        writeBytes(bytes);
+    }
+
+    void writeByteArray(byte[] values) throws IOException {
+        writeInt(values.length);
+        writeBytes(values);
+    }
+
+    void writeIntArray(int[] values) throws IOException {
+        writeInt(values.length);
+        int done = 0;
+        while (done < values.length) {
+            ensure(Integer.BYTES);
+            int count = Math.min(values.length - done, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, done, count);
+            buffer.position(buffer.position() + count * Integer.BYTES);
+            done += count;
+        }
+    }
+
+    void writeLongArray(long[] values) throws IOException {
+        writeInt(values.length);
+        int done = 0;
+        while (done < values.length) {
+            ensure(Long.BYTES);
+            int count = Math.min(values.length - done, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(values, done, count);
+            buffer.position(buffer.position() + count * Long.BYTES);
+            done += count;
+        }
+    }
+
+    private void writeBytes(byte[] values) throws IOException {
+        int done = 0;
+        while (done < values.length) {
+            ensure(Byte.BYTES);
+            int count = Math.min(values.length - done, buffer.remaining());
+            buffer.put(values, done, count);
+            done += count;
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+}
\ No newline at end of file
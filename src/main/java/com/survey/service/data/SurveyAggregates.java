@@ -0,0 +1,126 @@
+package com.survey.service.data;
+
+import com.survey.service.enums.ParticipationStatus;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Per-survey participation aggregates: a counter per status, plus the sum and count of
+ * recorded lengths. Built while participations are loaded and extended through
+ * {@link #toBuilder()} when new rows arrive, so statistics never rescan participations.
+ */
+public final class SurveyAggregates {
+
+    private static final int STATUS_SLOTS = ParticipationStatus.values().length + 1;
+
+    private final long[] surveyIds;
+    private final int[] statusCounts;
+    private final long[] lengthSums;
+    private final int[] lengthCounts;
+
+    private SurveyAggregates(long[] surveyIds, int[] statusCounts, long[] lengthSums, int[] lengthCounts) {
+        this.surveyIds = surveyIds;
+        this.statusCounts = statusCounts;
+        this.lengthSums = lengthSums;
+        this.lengthCounts = lengthCounts;
+    }
+
+    /**
+     * Starts aggregating for the given surveys; rows of any other survey are ignored.
+     */
+    public static Builder builder(Collection<Long> surveyIds) {
+        long[] ids = surveyIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new Builder(ids, new int[ids.length * STATUS_SLOTS], new long[ids.length], new int[ids.length]);
+    }
+
+    public static SurveyAggregates from(Collection<Long> surveyIds, ParticipationStore participations) {
+        Builder builder = builder(surveyIds);
+        for (int row = 0; row < participations.size(); row++) {
+            builder.add(participations.surveyId(row), participations.statusId(row), participations.length(row));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Copies the aggregates into a builder so a delta can be applied without touching this instance.
+     */
+    public Builder toBuilder() {
+        return new Builder(surveyIds, statusCounts.clone(), lengthSums.clone(), lengthCounts.clone());
+    }
+
+    public int surveyCount() {
+        return surveyIds.length;
+    }
+
+    public long surveyId(int slot) {
+        return surveyIds[slot];
+    }
+
+    /**
+     * @return the survey slot, or a negative value if the survey is not aggregated
+     */
+    public int slot(long surveyId) {
+        return Arrays.binarySearch(surveyIds, surveyId);
+    }
+
+    public int count(int slot, ParticipationStatus status) {
+        return statusCounts[slot * STATUS_SLOTS + status.getId().intValue()];
+    }
+
+    public long lengthSum(int slot) {
+        return lengthSums[slot];
+    }
+
+    public int lengthCount(int slot) {
+        return lengthCounts[slot];
+    }
+
+    public double averageLength(int slot) {
+        return lengthCounts[slot] > 0 ? (double) lengthSums[slot] / lengthCounts[slot] : 0.0;
+    }
+
+    void writeTo(SnapshotOutput out) throws IOException {
+        out.writeLongArray(surveyIds);
+        out.writeIntArray(statusCounts);
+        out.writeLongArray(lengthSums);
+        out.writeIntArray(lengthCounts);
+    }
+
+    static SurveyAggregates readFrom(SnapshotInput in) throws IOException {
+        return new SurveyAggregates(in.readLongArray(), in.readIntArray(), in.readLongArray(), in.readIntArray());
+    }
+
+    public static final class Builder {
+
+        private final long[] surveyIds;
+        private final int[] statusCounts;
+        private final long[] lengthSums;
+        private final int[] lengthCounts;
+
+        private Builder(long[] surveyIds, int[] statusCounts, long[] lengthSums, int[] lengthCounts) {
+            this.surveyIds = surveyIds;
+            this.statusCounts = statusCounts;
+            this.lengthSums = lengthSums;
+            this.lengthCounts = lengthCounts;
+        }
+
+        public Builder add(long surveyId, byte statusId, int length) {
+            int slot = Arrays.binarySearch(surveyIds, surveyId);
+            if (slot < 0) {
+                return this;
+            }
+            statusCounts[slot * STATUS_SLOTS + statusId]++;
+            if (length != ParticipationStore.NO_LENGTH) {
+                lengthSums[slot] += length;
+                lengthCounts[slot]++;
+            }
+            return this;
+        }
+
+        public SurveyAggregates build() {
+            return new SurveyAggregates(surveyIds, statusCounts.clone(), lengthSums.clone(), lengthCounts.clone());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.survey.service.dto;
+
+import com.survey.service.model.Survey;
+
+import java.util.List;
+
+public record CompletedSurveysBatchEntryDto(
+        Long memberId,
+        Boolean found,
+        List<Survey> surveys
+) {
+}
\ No newline at end of file
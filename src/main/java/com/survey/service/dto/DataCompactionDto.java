@@ -0,0 +1,8 @@
+package com.survey.service.dto;
+
+public record DataCompactionDto(
+        Integer foldedParticipations,
+        Long version,
+        Integer participations
+) {
+}
\ No newline at end of file
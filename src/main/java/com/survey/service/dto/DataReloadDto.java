@@ -0,0 +1,9 @@
+package com.survey.service.dto;
+
+public record DataReloadDto(
+        Long version,
+        Integer members,
+        Integer surveys,
+        Integer participations
+) {
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.survey.service.dto;
+
+import com.survey.service.model.Member;
+
+import java.util.List;
+
+public record InvitableMembersPage(
+        List<Member> members,
+        Long nextCursor
+) {
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.survey.service.dto;
+
+public record LeaderboardEntryDto(
+        Integer rank,
+        Long memberId,
+        Long points
+) {
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.survey.service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record MemberBatchGetRequest(
+        @NotEmpty(message = "Member IDs must not be empty")
+        @Size(max = MemberBatchGetRequest.MAX_BATCH_SIZE,
+                message = "At most " + MemberBatchGetRequest.MAX_BATCH_SIZE + " member IDs can be requested at once")
+        List<@NotNull(message = "Member ID must not be null")
+        @Positive(message = "Member ID must be a positive number") Long> memberIds
+) {
+    public static final int MAX_BATCH_SIZE = 1_000;
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.survey.service.dto;
+
+import java.util.List;
+
+public record MemberPointsBatchEntryDto(
+        Long memberId,
+        Boolean found,
+        List<MemberPointsDto> points
+) {
+}
\ No newline at end of file
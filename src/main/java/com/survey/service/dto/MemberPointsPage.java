@@ -0,0 +1,9 @@
+package com.survey.service.dto;
+
+import java.util.List;
+
+public record MemberPointsPage(
+        List<MemberPointsDto> points,
+        Long nextCursor
+) {
+}
\ No newline at end of file
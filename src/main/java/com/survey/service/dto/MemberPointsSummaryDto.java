@@ -0,0 +1,8 @@
+package com.survey.service.dto;
+
+public record MemberPointsSummaryDto(
+        Long memberId,
+        Long totalPoints,
+        Integer entryCount
+) {
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.survey.service.dto;
+
+public record MemberRankDto(
+        Long memberId,
+        Integer rank,
+        Long totalPoints,
+        Integer rankedMembers
+) {
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.survey.service.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public record ParticipationWriteRequest(
+        @NotNull(message = "Member ID must not be null")
+        @Positive(message = "Member ID must be a positive number") Long memberId,
+        @NotNull(message = "Survey ID must not be null")
+        @Positive(message = "Survey ID must be a positive number") Long surveyId,
+        @NotNull(message = "Status ID must not be null") Long statusId,
+        @PositiveOrZero(message = "Length must not be negative") Integer length
+) {
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.survey.service.dto;
+
+public record ParticipationsAcceptedDto(
+        Integer accepted
+) {
+}
\ No newline at end of file
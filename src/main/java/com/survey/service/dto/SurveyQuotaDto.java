@@ -0,0 +1,12 @@
+package com.survey.service.dto;
+
+public record SurveyQuotaDto(
+        Long surveyId,
+        String surveyName,
+        Integer expectedCompletes,
+        Long numberOfCompletes,
+        Long remainingCompletes,
+        Double fillRatio,
+        Boolean overQuota
+) {
+}
\ No newline at end of file
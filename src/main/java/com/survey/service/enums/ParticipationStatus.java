@@ -10,6 +10,8 @@ public enum ParticipationStatus {
     FILTERED(3L, "Filtered"),        // Status ID 3: Member didn't match target criteria
     COMPLETED(4L, "Completed");      // Status ID 4: Member completed the survey
 
+    private static final ParticipationStatus[] BY_ID = {null, NOT_ASKED, REJECTED, FILTERED, COMPLETED};
+
     private final Long id;
     private final String name;
 
@@ -35,6 +37,16 @@ public enum ParticipationStatus {
         throw new IllegalArgumentException("Unknown status ID: " + id);
     }
 
+    /**
+     * Allocation-free lookup for the primitive status IDs kept in the participation store.
+     */
+    public static ParticipationStatus fromId(int id) {
+        if (id <= 0 || id >= BY_ID.length) {
+            throw new IllegalArgumentException("Unknown status ID: " + id);
+        }
+        return BY_ID[id];
+    }
+
     public boolean isEligibleForPoints() {
         return this == COMPLETED || this == FILTERED;
     }
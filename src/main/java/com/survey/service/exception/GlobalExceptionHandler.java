@@ -5,7 +5,11 @@ import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
@@ -14,6 +18,9 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Error bodies are always written as JSON, also for clients that asked for a streaming format such as NDJSON.
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -34,7 +41,7 @@ public class GlobalExceptionHandler {
                 message
         );
 
-        return ResponseEntity.badRequest().body(errorResponse);
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(errorResponse);
     }
 
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
@@ -47,7 +54,38 @@ public class GlobalExceptionHandler {
                 String.format("Parameter '%s' must be a valid number", ex.getName())
         );
 
-        return ResponseEntity.badRequest().body(errorResponse);
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<Map<String, Object>> handleMethodArgumentNotValid(MethodArgumentNotValidException ex) {
+        logger.warn("Invalid request body: {}", ex.getMessage());
+
+        String message = ex.getBindingResult().getAllErrors().stream()
+                .findFirst()
+                .map(ObjectError::getDefaultMessage)
+                .orElse("Invalid request body");
+
+        Map<String, Object> errorResponse = createErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                "Invalid request body",
+                message
+        );
+
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<Map<String, Object>> handleHttpMessageNotReadable(HttpMessageNotReadableException ex) {
+        logger.warn("Unreadable request body: {}", ex.getMessage());
+
+        Map<String, Object> errorResponse = createErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                "Invalid request body",
+                "Request body is missing or is not valid JSON"
+        );
+
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(errorResponse);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
@@ -60,7 +98,7 @@ public class GlobalExceptionHandler {
                 ex.getMessage()
         );
 
-        return ResponseEntity.badRequest().body(errorResponse);
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(errorResponse);
     }
 
     @ExceptionHandler(SurveyNotFoundException.class)
@@ -73,7 +111,60 @@ public class GlobalExceptionHandler {
                 ex.getMessage()
         );
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+
+    @ExceptionHandler(MemberNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleMemberNotFound(MemberNotFoundException ex) {
+        logger.warn("Member not found: {}", ex.getMessage());
+
+        Map<String, Object> errorResponse = createErrorResponse(
+                HttpStatus.NOT_FOUND,
+                "Member not found",
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+
+    @ExceptionHandler(ReloadInProgressException.class)
+    public ResponseEntity<Map<String, Object>> handleReloadInProgress(ReloadInProgressException ex) {
+        logger.warn("Reload rejected: {}", ex.getMessage());
+
+        Map<String, Object> errorResponse = createErrorResponse(
+                HttpStatus.CONFLICT,
+                "Reload in progress",
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidParticipationException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidParticipation(InvalidParticipationException ex) {
+        logger.warn("Invalid participation: {}", ex.getMessage());
+
+        Map<String, Object> errorResponse = createErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                "Invalid participation",
+                ex.getMessage()
+        );
+
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+
+    @ExceptionHandler(WriteQueueFullException.class)
+    public ResponseEntity<Map<String, Object>> handleWriteQueueFull(WriteQueueFullException ex) {
+        logger.warn("Write rejected: {}", ex.getMessage());
+
+        Map<String, Object> errorResponse = createErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "Write queue full",
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).contentType(MediaType.APPLICATION_JSON)
+                .body(errorResponse);
     }
 
     private Map<String, Object> createErrorResponse(HttpStatus status, String error, String message) {
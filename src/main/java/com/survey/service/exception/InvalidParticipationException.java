@@ -0,0 +1,7 @@
+package com.survey.service.exception;
+
+public class InvalidParticipationException extends RuntimeException {
+    public InvalidParticipationException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
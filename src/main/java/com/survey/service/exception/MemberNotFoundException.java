@@ -0,0 +1,7 @@
+package com.survey.service.exception;
+
+public class MemberNotFoundException extends RuntimeException {
+    public MemberNotFoundException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.survey.service.exception;
+
+public class ReloadInProgressException extends RuntimeException {
+    public ReloadInProgressException() {
+        super("A data reload is already in progress. Please try again once it has finished.");
+    }
+}
\ No newline at end of file
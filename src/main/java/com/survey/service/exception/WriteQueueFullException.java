@@ -0,0 +1,7 @@
+package com.survey.service.exception;
+
+public class WriteQueueFullException extends RuntimeException {
+    public WriteQueueFullException() {
+        super("Too many participations are waiting to be written. Please try again shortly.");
+    }
+}
\ No newline at end of file
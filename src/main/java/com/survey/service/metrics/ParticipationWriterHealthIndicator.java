@@ -0,0 +1,27 @@
+package com.survey.service.metrics;
+
+import com.survey.service.service.ParticipationWriteService;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the participation writer as down while its last attempt to publish a batch failed, so accepted writes
+ * that are stuck in the queue show up under /actuator/health as {@code participationWriter}.
+ */
+@Component
+public class ParticipationWriterHealthIndicator implements HealthIndicator {
+
+    private final ParticipationWriteService participationWriteService;
+
+    public ParticipationWriterHealthIndicator(ParticipationWriteService participationWriteService) {
+        this.participationWriteService = participationWriteService;
+    }
+
+    @Override
+    public Health health() {
+        RuntimeException failure = participationWriteService.lastPublishFailure();
+        Health.Builder health = failure == null ? Health.up() : Health.down(failure);
+        return health.withDetail("pending", participationWriteService.pendingCount()).build();
+    }
+}
\ No newline at end of file
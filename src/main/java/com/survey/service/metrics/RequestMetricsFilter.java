@@ -0,0 +1,87 @@
+package com.survey.service.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Times every request per matched URI pattern and outcome as {@code survey.requests}, with a percentile histogram.
+ * The time includes serializing the response body; streamed and asynchronous responses are timed until the
+ * handler hands them over to the container.
+ * <p>
+ * This replaces the observation-based {@code http.server.requests} timer, which builds a context and a tag set
+ * for every request. Here a pattern's timers are registered on its first request and looked up by the pattern
+ * string Spring MVC already resolved, so recording a request allocates nothing.
+ */
+public class RequestMetricsFilter implements Filter {
+
+    static final String METER_NAME = "survey.requests";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    // Indexed by the status code series, 0 for codes outside 1xx-5xx
+    private static final String[] OUTCOMES =
+            {"UNKNOWN", "INFORMATIONAL", "SUCCESS", "REDIRECTION", "CLIENT_ERROR", "SERVER_ERROR"};
+    private static final int SERVER_ERROR = 5;
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, AtomicReferenceArray<Timer>> timersByUri = new ConcurrentHashMap<>();
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            int outcome = failed ? SERVER_ERROR : outcome(((HttpServletResponse) response).getStatus());
+            timer(pattern instanceof String uri ? uri : UNKNOWN_URI, outcome).record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static int outcome(int status) {
+        int series = status / 100;
+        return series >= 1 && series < OUTCOMES.length ? series : 0;
+    }
+
+    private Timer timer(String uri, int outcome) {
+        AtomicReferenceArray<Timer> timers = timersByUri.get(uri);
+        if (timers == null) {
+            timers = timersByUri.computeIfAbsent(uri, key -> new AtomicReferenceArray<>(OUTCOMES.length));
+        }
+        Timer timer = timers.get(outcome);
+        if (timer == null) {
+            // Threads racing here get the same timer back from the registry
+            timer = Timer.builder(METER_NAME)
+                    .description("Time spent serving a request, including serialization of the response body")
+                    .tag("uri", uri)
+                    .tag("outcome", OUTCOMES[outcome])
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(100_000))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry);
+            timers.set(outcome, timer);
+        }
+        return timer;
+    }
+}
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.survey.service.service;
 
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.ParticipationStore;
 import com.survey.service.enums.ParticipationStatus;
 import com.survey.service.model.Member;
-import com.survey.service.model.Participation;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Service
 public class CompletedRespondentsService {
@@ -18,29 +21,32 @@ public class CompletedRespondentsService {
     }
 
     public List<Member> fetchCompletedRespondentsBySurveyId(Long surveyId) {
-        List<Participation> surveyParticipations = getSurveyParticipations(surveyId);
-        if (surveyParticipations.isEmpty()) {
-            return List.of();
-        }
-
-        return getCompletedRespondents(surveyParticipations);
+        return streamCompletedRespondentsBySurveyId(surveyId).toList();
     }
 
-    private List<Participation> getSurveyParticipations(Long surveyId) {
-        List<Participation> participations = dataLoaderService.getParticipationsBySurveyId().get(surveyId);
-        return participations != null ? participations : List.of();
-    }
+    /**
+     * Lazily streams the completed respondents straight from the participation index of the
+     * current snapshot, so large results can be written out without building a list.
+     */
+    public Stream<Member> streamCompletedRespondentsBySurveyId(Long surveyId) {
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+        ParticipationStore participations = snapshot.participations();
+        int surveySlot = participations.surveySlot(surveyId);
+        if (surveySlot < 0) {
+            return Stream.empty();
+        }
 
-    private List<Member> getCompletedRespondents(List<Participation> participations) {
-        Map<Long, Member> membersById = dataLoaderService.getMembersById();
+        return getCompletedRespondents(snapshot.membersById(), participations, surveySlot);
+    }
 
-        return participations.stream()
-                .filter(this::isCompletedParticipation)
-                .map(p -> membersById.get(p.memberId()))
-                .toList();
+    private Stream<Member> getCompletedRespondents(Map<Long, Member> membersById, ParticipationStore participations,
+                                                   int surveySlot) {
+        return IntStream.range(participations.surveyRowStart(surveySlot), participations.surveyRowEnd(surveySlot))
+                .filter(row -> isCompletedParticipation(participations, row))
+                .mapToObj(row -> membersById.get(participations.memberId(row)));
     }
 
-    private boolean isCompletedParticipation(Participation participation) {
-        return ParticipationStatus.fromId(participation.statusId()).isCompleted();
+    private boolean isCompletedParticipation(ParticipationStore participations, int row) {
+        return ParticipationStatus.fromId(participations.statusId(row)).isCompleted();
     }
 }
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.survey.service.service;
 
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.ParticipationStore;
+import com.survey.service.dto.CompletedSurveysBatchEntryDto;
 import com.survey.service.enums.ParticipationStatus;
-import com.survey.service.model.Participation;
 import com.survey.service.model.Survey;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 @Service
 public class CompletedSurveysService {
@@ -18,30 +21,50 @@ public class CompletedSurveysService {
     }
 
     public List<Survey> fetchCompletedSurveysByMemberId(Long memberId) {
-        List<Participation> memberParticipations = getMemberParticipations(memberId);
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+        ParticipationStore participations = snapshot.participations();
+        int memberSlot = participations.memberSlot(memberId);
 
-        if (memberParticipations.isEmpty()) {
+        if (memberSlot < 0) {
             return List.of();
         }
 
-        return getCompletedSurveys(memberParticipations);
+        return getCompletedSurveys(snapshot.surveysById(), participations, memberSlot);
     }
 
-    private List<Participation> getMemberParticipations(Long memberId) {
-        List<Participation> participations = dataLoaderService.getParticipationsByMemberId().get(memberId);
-        return participations != null ? participations : List.of();
-    }
+    /**
+     * Resolves all members against one snapshot, in request order. Unknown members are reported
+     * as not found instead of failing the batch.
+     */
+    public List<CompletedSurveysBatchEntryDto> fetchCompletedSurveysBatch(List<Long> memberIds) {
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+        Map<Long, Survey> surveysById = snapshot.surveysById();
+        ParticipationStore participations = snapshot.participations();
 
-    private List<Survey> getCompletedSurveys(List<Participation> participations) {
-        Map<Long, Survey> surveysById = dataLoaderService.getSurveysById();
+        return memberIds.stream()
+                .map(memberId -> {
+                    if (!snapshot.membersById().containsKey(memberId)) {
+                        return new CompletedSurveysBatchEntryDto(memberId, false, List.of());
+                    }
+                    int memberSlot = participations.memberSlot(memberId);
+                    List<Survey> surveys = memberSlot < 0
+                            ? List.of()
+                            : getCompletedSurveys(surveysById, participations, memberSlot);
+                    return new CompletedSurveysBatchEntryDto(memberId, true, surveys);
+                })
+                .toList();
+    }
 
-        return participations.stream()
-                .filter(this::isCompletedParticipation)
-                .map(p -> surveysById.get(p.surveyId()))
+    private List<Survey> getCompletedSurveys(Map<Long, Survey> surveysById, ParticipationStore participations,
+                                             int memberSlot) {
+        return IntStream.range(participations.memberRowStart(memberSlot), participations.memberRowEnd(memberSlot))
+                .map(participations::memberRow)
+                .filter(row -> isCompletedParticipation(participations, row))
+                .mapToObj(row -> surveysById.get(participations.surveyId(row)))
                 .toList();
     }
 
-    private boolean isCompletedParticipation(Participation participation) {
-        return ParticipationStatus.fromId(participation.statusId()).isCompleted();
+    private boolean isCompletedParticipation(ParticipationStore participations, int row) {
+        return ParticipationStatus.fromId(participations.statusId(row)).isCompleted();
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.survey.service.service;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Modification time and length of a data file, cheap enough to take on every poll of the file watcher.
+ */
+record DataFileState(String description, long lastModified, long contentLength) {
+
+    static DataFileState of(Resource resource) {
+        try {
+            return new DataFileState(resource.getDescription(), resource.lastModified(), resource.contentLength());
+        } catch (IOException e) {
+            // A file that is missing for a moment (e.g. being replaced) is just another state
+            return new DataFileState(Objects.toString(resource.getDescription()), -1L, -1L);
+        }
+    }
+
+    static List<DataFileState> of(List<Resource> resources) {
+        return resources.stream()
+                .map(DataFileState::of)
+                .toList();
+    }
+}
\ No newline at end of file
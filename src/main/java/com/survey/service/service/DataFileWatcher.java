@@ -0,0 +1,106 @@
+package com.survey.service.service;
+
+import com.survey.service.exception.ReloadInProgressException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the configured data files and reloads the dataset once a change has settled, i.e. the files
+ * looked the same on two consecutive polls. When only the participation file grew, just the appended
+ * rows are loaded. Polling is used instead of a {@code WatchService} so that
+ * classpath locations and network file systems behave the same way.
+ * <p>
+ * Changes are detected against the files as the published snapshot read them, so a change that was already
+ * loaded some other way, e.g. by an admin reload, is not loaded again.
+ */
+@Component
+@ConditionalOnProperty(name = "data.reload.watch.enabled", havingValue = "true")
+public class DataFileWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataFileWatcher.class);
+
+    private final DataLoaderService dataLoaderService;
+    private final Duration interval;
+    private final boolean virtualThreads;
+    private ScheduledExecutorService scheduler;
+
+    private List<DataFileState> lastSeenState;
+    // Files whose load failed; not retried until they change again
+    private List<DataFileState> failedState;
+
+    public DataFileWatcher(DataLoaderService dataLoaderService,
+                           @Value("${data.reload.watch.interval:PT5S}") Duration interval,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.dataLoaderService = dataLoaderService;
+        this.interval = interval;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @PostConstruct
+    public void start() {
+        lastSeenState = currentState();
+        // A reload blocks the poller for its whole duration, so in virtual-thread mode it does not hold a carrier
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("data-file-watcher").factory()
+                : Thread.ofPlatform().name("data-file-watcher").daemon(true).factory();
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        scheduler.scheduleWithFixedDelay(this::poll, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        logger.info("Watching data files for changes every {}", interval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    void poll() {
+        try {
+            List<DataFileState> state = currentState();
+            boolean settled = state.equals(lastSeenState);
+            lastSeenState = state;
+            List<DataFileState> loadedState = dataLoaderService.getLoadedFileStates();
+            if (!settled || state.equals(loadedState) || state.equals(failedState)) {
+                return;
+            }
+            if (isAppendOnly(state, loadedState)) {
+                logger.info("Participation file grew, loading the appended rows");
+                dataLoaderService.appendParticipations();
+            } else {
+                logger.info("Data files changed, reloading");
+                dataLoaderService.reload();
+            }
+        } catch (ReloadInProgressException e) {
+            logger.debug("Reload already running, checking again on the next poll");
+        } catch (RuntimeException e) {
+            // Keep the old snapshot and retry only when the files change again
+            failedState = lastSeenState;
+            logger.error("Reloading changed data files failed, keeping the current snapshot", e);
+        }
+    }
+
+    /**
+     * True when only the participation file, the last data resource, changed and it got longer.
+     */
+    private static boolean isAppendOnly(List<DataFileState> state, List<DataFileState> loadedState) {
+        int last = state.size() - 1;
+        return last >= 0 && state.size() == loadedState.size()
+                && state.subList(0, last).equals(loadedState.subList(0, last))
+                && state.get(last).contentLength() > loadedState.get(last).contentLength();
+    }
+
+    private List<DataFileState> currentState() {
+        return DataFileState.of(dataLoaderService.getDataResources());
+    }
+}
\ No newline at end of file
@@ -1,33 +1,66 @@
 package com.survey.service.service;
 
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.ParallelParticipationCsvReader;
+import com.survey.service.data.ParticipationLog;
+import com.survey.service.data.ParticipationStore;
+import com.survey.service.data.SnapshotFile;
+import com.survey.service.data.SurveyAggregates;
+import com.survey.service.enums.ParticipationStatus;
+import com.survey.service.exception.ReloadInProgressException;
 import com.survey.service.model.Member;
 import com.survey.service.model.Participation;
 import com.survey.service.model.Survey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 @Service
 public class DataLoaderService {
 
     private static final Logger logger = LoggerFactory.getLogger(DataLoaderService.class);
 
+    private static final String PARTICIPATION_HEADER = "Member Id,Survey Id,Status,Length\n";
+
     private final ResourceLoader resourceLoader;
 
     @Value("${data.members.file}")
@@ -40,44 +73,768 @@ public class DataLoaderService {
     @Value("${data.participation.file}")
     private String participationFilePath;
 
-    public DataLoaderService(ResourceLoader resourceLoader) {
+    @Value("${data.ingestion.parallel:true}")
+    private boolean parallelIngestion;
+
+    @Value("${data.ingestion.parallelism:0}")
+    private int ingestionParallelism;
+
+    @Value("${data.ingestion.chunk-size-bytes:" + ParallelParticipationCsvReader.DEFAULT_CHUNK_BYTES + "}")
+    private int ingestionChunkBytes;
+
+    @Value("${data.snapshot.file:}")
+    private String snapshotFilePath;
+
+    @Value("${data.wal.file:}")
+    private String participationLogPath;
+
+    @Value("${data.wal.fsync-interval:PT0S}")
+    private Duration participationLogFsyncInterval;
+
+    @Value("${data.wal.compacted-file:}")
+    private String compactedFilePath;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    // Guards against overlapping loads and appends; readers never look at it
+    private final AtomicBoolean loading = new AtomicBoolean();
+
+    // Published dataset; replaced as a whole, never mutated in place
+    private volatile DataSnapshot snapshot = DataSnapshot.EMPTY;
+
+    // How far the participation file has been consumed; -1 when the last load cannot be continued by tailing.
+    // Only touched while holding the loading flag.
+    private long participationOffset = -1L;
+    private long participationRecordCount;
+
+    // Source fingerprints of the published snapshot and the version last written to the snapshot file.
+    // Only touched while holding the loading flag.
+    private List<SnapshotFile.SourceFile> publishedSources = List.of();
+    private long persistedVersion;
+
+    // Modification time and length of the data files as the published snapshot read them
+    private volatile List<DataFileState> loadedFileStates = List.of();
+
+    // Participations written through the API; not part of the files, so every full load applies them again.
+    // Only touched while holding the loading flag.
+    private ParticipationStore recordedParticipations = ParticipationStore.EMPTY;
+
+    // Write-ahead log of the recorded participations, null when disabled. Only touched while holding the loading flag.
+    private ParticipationLog participationLog;
+    // Set when an append within the fsync interval left rows that are not forced to disk yet
+    private volatile boolean participationLogUnsynced;
+
+    private final Timer fullLoadTimer;
+    private final Timer appendTimer;
+    private final Timer recordTimer;
+    private final Timer snapshotFileTimer;
+    private final Timer snapshotWriteTimer;
+    private final Timer compactionTimer;
+    private final Counter loadFailures;
+    private final FileLoadMetrics membersFileMetrics;
+    private final FileLoadMetrics surveysFileMetrics;
+    private final FileLoadMetrics participationFileMetrics;
+    private final FileLoadMetrics compactedFileMetrics;
+
+    public DataLoaderService(ResourceLoader resourceLoader, MeterRegistry meterRegistry) {
         this.resourceLoader = resourceLoader;
+        this.fullLoadTimer = Timer.builder("survey.data.load")
+                .description("Time spent building and publishing a data snapshot")
+                .tag("type", "full")
+                .register(meterRegistry);
+        this.appendTimer = Timer.builder("survey.data.load")
+                .description("Time spent building and publishing a data snapshot")
+                .tag("type", "append")
+                .register(meterRegistry);
+        this.recordTimer = Timer.builder("survey.data.load")
+                .description("Time spent building and publishing a data snapshot")
+                .tag("type", "recorded")
+                .register(meterRegistry);
+        this.snapshotFileTimer = Timer.builder("survey.data.load")
+                .description("Time spent building and publishing a data snapshot")
+                .tag("type", "snapshot-file")
+                .register(meterRegistry);
+        this.snapshotWriteTimer = Timer.builder("survey.data.snapshot.write")
+                .description("Time spent serializing a data snapshot to the snapshot file")
+                .register(meterRegistry);
+        this.compactionTimer = Timer.builder("survey.data.wal.compaction")
+                .description("Time spent folding the participation log into the compacted participation file")
+                .register(meterRegistry);
+        this.loadFailures = Counter.builder("survey.data.load.failures")
+                .description("Data loads that failed and left the previous snapshot in place")
+                .register(meterRegistry);
+        Gauge.builder("survey.data.snapshot.version", this, service -> service.snapshot.version())
+                .description("Version of the currently published data snapshot")
+                .register(meterRegistry);
+        this.membersFileMetrics = new FileLoadMetrics(meterRegistry, "members");
+        this.surveysFileMetrics = new FileLoadMetrics(meterRegistry, "surveys");
+        this.participationFileMetrics = new FileLoadMetrics(meterRegistry, "participations");
+        this.compactedFileMetrics = new FileLoadMetrics(meterRegistry, "compacted-participations");
+        registerDatasetGauges(meterRegistry);
     }
 
-    // Data storage maps
-    private final Map<Long, Member> membersById = new HashMap<>();
-    private final Map<Long, Survey> surveysById = new HashMap<>();
-    private final Map<Long, List<Participation>> participationsByMemberId = new HashMap<>();
-    private final Map<Long, List<Participation>> participationsBySurveyId = new HashMap<>();
+    /**
+     * Gauges read from the published snapshot on each scrape, so they never lag behind a reload.
+     */
+    private void registerDatasetGauges(MeterRegistry meterRegistry) {
+        Gauge.builder("survey.data.members", this, service -> service.snapshot.membersById().size())
+                .description("Members in the currently published data snapshot")
+                .register(meterRegistry);
+        Gauge.builder("survey.data.surveys", this, service -> service.snapshot.surveysById().size())
+                .description("Surveys in the currently published data snapshot")
+                .register(meterRegistry);
+        Gauge.builder("survey.data.participations", this, service -> service.snapshot.participations().size())
+                .description("Participations in the currently published data snapshot")
+                .register(meterRegistry);
+        Gauge.builder("survey.data.members.duplicate.emails", this,
+                        service -> service.snapshot.memberEmailIndex().duplicateCount())
+                .description("Members whose e-mail address belongs to a member with a lower ID, so they cannot be "
+                        + "looked up by e-mail")
+                .register(meterRegistry);
+        Map<String, ToLongFunction<DataSnapshot>> structures = Map.of(
+                "participations", published -> published.participations().estimatedBytes(),
+                "member-search", published -> published.memberSearchIndex().estimatedBytes(),
+                "member-email", published -> published.memberEmailIndex().estimatedBytes(),
+                "invitation-bitsets", published -> published.participationBitsets().estimatedBytes(),
+                "points-ledger", published -> published.pointsLedger().estimatedBytes(),
+                "leaderboard", published -> published.leaderboard().estimatedBytes());
+        structures.forEach((structure, estimate) ->
+                Gauge.builder("survey.data.estimated.size", this, service -> estimate.applyAsLong(service.snapshot))
+                        .description("Estimated heap size of an index of the currently published data snapshot")
+                        .tag("structure", structure)
+                        .baseUnit(BaseUnits.BYTES)
+                        .register(meterRegistry));
+    }
 
     @PostConstruct
     public void loadData() {
+        if (participationLogEnabled() && participationLog == null) {
+            openParticipationLog();
+        }
+        if (!snapshotFileEnabled() || !restoreSnapshotFile()) {
+            reload();
+        }
+    }
+
+    /**
+     * Writes a snapshot that was extended by appends since the last full load, so the next start
+     * can map it instead of parsing the CSV files, and closes the participation log.
+     */
+    @PreDestroy
+    public void persistOnShutdown() {
+        if (loading.compareAndSet(false, true)) {
+            try {
+                if (snapshotFileEnabled() && snapshot.version() != persistedVersion) {
+                    writeSnapshotFile(snapshot);
+                }
+                closeParticipationLog();
+            } finally {
+                loading.set(false);
+            }
+        }
+    }
+
+    /**
+     * Builds a complete new snapshot from the configured files and publishes it with a single
+     * reference swap. Requests already running keep the snapshot they started with.
+     * If loading fails the previous snapshot stays published. The participation file is read up to its last line
+     * break; an unterminated last line may still be being written and is left for the next tail read.
+     *
+     * @throws ReloadInProgressException if another load is still running
+     */
+    public DataSnapshot reload() {
+        return reload(false);
+    }
+
+    /**
+     * Like {@link #reload()}, but with {@code toEndOfFile} an unterminated last line of the participation file is
+     * loaded as a complete row, for files that are known to be fully written.
+     *
+     * @throws ReloadInProgressException if another load is still running
+     */
+    public DataSnapshot reload(boolean toEndOfFile) {
+        acquireLoading();
+        try {
+            return loadAndPublish(toEndOfFile);
+        } catch (RuntimeException e) {
+            loadFailures.increment();
+            throw e;
+        } finally {
+            loading.set(false);
+        }
+    }
+
+    /**
+     * Reads only the rows appended to the participation file since the last load and publishes them
+     * as a new snapshot that shares members, surveys and untouched indexes with the current one.
+     * Falls back to a full reload when the file cannot be tailed, e.g. because it shrank or lives
+     * inside a jar. Returns the current snapshot unchanged when nothing complete was appended.
+     *
+     * @throws ReloadInProgressException if another load is still running
+     */
+    public DataSnapshot appendParticipations() {
+        acquireLoading();
+        try {
+            Resource resource = resourceLoader.getResource(participationFilePath);
+            if (participationOffset < 0 || !resource.isFile() || resource.contentLength() < participationOffset) {
+                logger.info("Participation file cannot be tailed, falling back to a full reload");
+                return loadAndPublish(false);
+            }
+            long start = System.nanoTime();
+            List<SnapshotFile.SourceFile> sources = fingerprintSources();
+            List<DataFileState> fileStates = DataFileState.of(getDataResources());
+
+            ParticipationStore.Builder delta = ParticipationStore.builder();
+            ParallelParticipationCsvReader.Result result = readParticipations(resource, participationOffset,
+                    participationRecordCount, false, delta::add);
+            participationOffset = result.endOffset();
+            participationRecordCount += result.recordCount();
+            if (delta.size() == 0) {
+                loadedFileStates = fileStates;
+                return snapshot;
+            }
+
+            ParticipationStore appendedRows = delta.build();
+            DataSnapshot appended = snapshot.withAppendedParticipations(versionSequence.incrementAndGet(), appendedRows);
+            snapshot = appended;
+            publishedSources = sources;
+            loadedFileStates = fileStates;
+
+            long elapsed = System.nanoTime() - start;
+            appendTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            logger.info("Appended {} participations in {} ms, {} in total (snapshot version {})",
+                    delta.size(), TimeUnit.NANOSECONDS.toMillis(elapsed), appended.participations().size(),
+                    appended.version());
+            return appended;
+        } catch (IOException e) {
+            loadFailures.increment();
+            throw new RuntimeException("Failed to append participations data", e);
+        } catch (RuntimeException e) {
+            loadFailures.increment();
+            throw e;
+        } finally {
+            loading.set(false);
+        }
+    }
+
+    /**
+     * Publishes participations written through the API as a new snapshot on top of the current one. They are
+     * kept apart from the participation file and applied again by every later full load, so a reload does not
+     * drop them. The new snapshot is built first; with the participation log enabled the rows are then written to
+     * it as one group commit, and only then published. If either step fails nothing is logged or published, so a
+     * retried batch is never logged twice.
+     *
+     * @throws ReloadInProgressException if a load is running; the caller keeps the rows and retries
+     */
+    public DataSnapshot appendRecordedParticipations(ParticipationStore delta) {
+        acquireLoading();
+        try {
+            long start = System.nanoTime();
+            DataSnapshot appended = snapshot.withAppendedParticipations(versionSequence.incrementAndGet(), delta);
+            ParticipationStore recorded = recordedParticipations.withAppended(delta);
+            // Logged only once nothing but the reference swaps is left, so a failed merge leaves no rows behind
+            if (participationLog != null) {
+                try {
+                    participationLog.append(delta);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to write participation log", e);
+                }
+                participationLogUnsynced = participationLog.hasUnsyncedRows();
+            }
+            snapshot = appended;
+            recordedParticipations = recorded;
+
+            long elapsed = System.nanoTime() - start;
+            recordTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            logger.debug("Published {} recorded participations in {} ms (snapshot version {})",
+                    delta.size(), TimeUnit.NANOSECONDS.toMillis(elapsed), appended.version());
+            return appended;
+        } catch (RuntimeException e) {
+            loadFailures.increment();
+            throw e;
+        } finally {
+            loading.set(false);
+        }
+    }
+
+    /**
+     * Forces participations that were logged within the fsync interval to disk. Called by the writer when it
+     * runs out of work; does nothing while a load holds the flag, as the next call catches up.
+     */
+    public void syncParticipationLog() {
+        if (!participationLogUnsynced || !loading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (participationLog != null) {
+                participationLog.sync();
+            }
+            participationLogUnsynced = false;
+        } catch (IOException e) {
+            logger.warn("Could not sync participation log {}", participationLogPath, e);
+        } finally {
+            loading.set(false);
+        }
+    }
+
+    /**
+     * @return true if recorded participations were published that the participation log has not forced to disk yet
+     */
+    public boolean hasUnsyncedParticipations() {
+        return participationLogUnsynced;
+    }
+
+    /**
+     * Folds the participations recorded through the API into the compacted participation file, then empties the
+     * participation log. The published snapshot already contains them, so nothing is rebuilt, but the snapshot file
+     * is written again. The compacted file belongs to the service alone: the fold writes a copy of it with the rows
+     * appended and renames the copy over it, so the participation file, which other processes append to, is never
+     * written. The fold is recorded in the log header before the rename, so a crash midway is completed or rolled
+     * back on the next start.
+     *
+     * @return the number of folded participations, 0 if there were none
+     * @throws ReloadInProgressException if a load is running
+     */
+    public int compactParticipationLog() {
+        acquireLoading();
+        try {
+            ParticipationStore recorded = recordedParticipations;
+            if (participationLog == null || recorded.size() == 0) {
+                return 0;
+            }
+
+            long start = System.nanoTime();
+            Path compactedFile = compactedParticipationFile();
+            long baseLength = Files.exists(compactedFile) ? Files.size(compactedFile) : 0L;
+            byte[] rows = toCsvRows(recorded, baseLength == 0);
+            foldIntoCompactedFile(compactedFile, new ParticipationLog.Fold(baseLength, baseLength + rows.length), rows);
+            recordedParticipations = ParticipationStore.EMPTY;
+            participationLogUnsynced = false;
+            if (!publishedSources.isEmpty()) {
+                publishedSources = withCompactedFileSource(publishedSources.subList(0, getDataResources().size()));
+            }
+
+            long elapsed = System.nanoTime() - start;
+            compactionTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            logger.info("Folded {} recorded participations into {} in {} ms",
+                    recorded.size(), compactedFile, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            writeSnapshotFile(snapshot);
+            return recorded.size();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to compact participation log", e);
+        } finally {
+            loading.set(false);
+        }
+    }
+
+    private void foldIntoCompactedFile(Path compactedFile, ParticipationLog.Fold fold, byte[] rows)
+            throws IOException {
+        Path staged = stagedCompactedFile(compactedFile);
+        try (FileChannel channel = FileChannel.open(staged, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            if (fold.baseLength() > 0) {
+                try (FileChannel base = FileChannel.open(compactedFile, StandardOpenOption.READ)) {
+                    for (long copied = 0; copied < fold.baseLength(); ) {
+                        copied += base.transferTo(copied, fold.baseLength() - copied, channel);
+                    }
+                }
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(rows);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(staged);
+            throw e;
+        }
+
+        participationLog.beginFold(fold);
+        try {
+            Files.move(staged, compactedFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // The compacted file is unchanged, the rows stay in the log
+            Files.deleteIfExists(staged);
+            participationLog.cancelFold();
+            throw e;
+        }
+        // The rename has to be on disk before the log is emptied
+        forceDirectory(compactedFile.toAbsolutePath().getParent());
+        participationLog.reset();
+    }
+
+    private static Path stagedCompactedFile(Path compactedFile) {
+        return compactedFile.resolveSibling(compactedFile.getFileName() + ".tmp");
+    }
+
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not every platform can open a directory, e.g. Windows; the rename is durable there on its own
+            logger.debug("Could not force directory {}", directory, e);
+        }
+    }
+
+    private static byte[] toCsvRows(ParticipationStore rows, boolean header) {
+        StringBuilder csv = new StringBuilder(rows.size() * 16 + PARTICIPATION_HEADER.length());
+        if (header) {
+            csv.append(PARTICIPATION_HEADER);
+        }
+        for (int row = 0; row < rows.size(); row++) {
+            csv.append(rows.memberId(row)).append(',').append(rows.surveyId(row)).append(',')
+                    .append(rows.statusId(row)).append(',');
+            if (rows.hasLength(row)) {
+                csv.append(rows.length(row));
+            }
+            csv.append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * The CSV file the participation log is folded into; {@code data.wal.compacted-file}, or the log path with
+     * {@code .csv} appended when that is not set.
+     */
+    private Path compactedParticipationFile() {
+        return Path.of(compactedFilePath.isBlank() ? participationLogPath + ".csv" : compactedFilePath);
+    }
+
+    private boolean participationLogEnabled() {
+        return !participationLogPath.isBlank();
+    }
+
+    /**
+     * Opens the participation log and replays it as the recorded participations, which the first load applies on
+     * top of the files. A fold interrupted by a crash is finished first: if the compacted file was already replaced
+     * by the one holding the folded rows, the log is dropped, otherwise the unused copy is deleted.
+     */
+    private void openParticipationLog() {
+        acquireLoading();
+        try {
+            long start = System.nanoTime();
+            ParticipationStore.Builder replayed = ParticipationStore.builder();
+            ParticipationLog log = ParticipationLog.open(Path.of(participationLogPath), participationLogFsyncInterval,
+                    replayed::add);
+            participationLog = log;
+            Optional<ParticipationLog.Fold> fold = log.pendingFold();
+            if (fold.isPresent() && recoverFold(log, fold.get())) {
+                replayed = ParticipationStore.builder();
+            }
+            recordedParticipations = replayed.build();
+            logger.info("Replayed {} participations from participation log {} in {} ms", replayed.size(),
+                    participationLogPath, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open participation log " + participationLogPath, e);
+        } finally {
+            loading.set(false);
+        }
+    }
+
+    /**
+     * @return true if the compacted file already holds the rows of the log
+     */
+    private boolean recoverFold(ParticipationLog log, ParticipationLog.Fold fold) throws IOException {
+        Path compactedFile = compactedParticipationFile();
+        long length = Files.exists(compactedFile) ? Files.size(compactedFile) : 0L;
+        if (length == fold.foldedLength()) {
+            logger.info("Participation log was folded into {} before the last shutdown, dropping it", compactedFile);
+            log.reset();
+            return true;
+        }
+        if (Files.deleteIfExists(stagedCompactedFile(compactedFile))) {
+            logger.warn("Deleted the copy of {} left by an interrupted fold", compactedFile);
+        }
+        log.cancelFold();
+        return false;
+    }
+
+    private void closeParticipationLog() {
+        if (participationLog == null) {
+            return;
+        }
+        try {
+            participationLog.close();
+        } catch (IOException e) {
+            logger.warn("Could not close participation log {}", participationLogPath, e);
+        }
+        participationLog = null;
+    }
+
+    private void acquireLoading() {
+        if (!loading.compareAndSet(false, true)) {
+            throw new ReloadInProgressException();
+        }
+    }
+
+    private DataSnapshot loadAndPublish(boolean toEndOfFile) {
         logger.info("Starting data loading from CSV files...");
+        long start = System.nanoTime();
+        // Fingerprint before reading, so a file that changes during the load makes the image stale
+        List<SnapshotFile.SourceFile> sources = fingerprintSources();
+        List<DataFileState> fileStates = DataFileState.of(getDataResources());
+
+        Staging staging = new Staging();
+        loadMembers(staging);
+        loadSurveys(staging);
+        loadParticipations(staging, toEndOfFile);
+        loadCompactedParticipations(staging);
+        addRecordedParticipations(staging);
+        DataSnapshot loaded = new DataSnapshot(versionSequence.incrementAndGet(), staging.membersById,
+                staging.surveysById, staging.participations.build(), staging.surveyAggregates.build());
+        snapshot = loaded;
+        participationOffset = staging.participationOffset;
+        participationRecordCount = staging.participationRecordCount;
+        publishedSources = sources;
+        loadedFileStates = fileStates;
+
+        long elapsed = System.nanoTime() - start;
+        fullLoadTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        logger.info("Data loading completed in {} ms. Loaded {} members, {} surveys, {} participations (snapshot version {})",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), loaded.membersById().size(), loaded.surveysById().size(),
+                loaded.participations().size(), loaded.version());
+        logDuplicateEmails(loaded);
+        logParticipationFootprint(loaded);
+        writeSnapshotFile(loaded);
+        return loaded;
+    }
+
+    private boolean snapshotFileEnabled() {
+        return !snapshotFilePath.isBlank();
+    }
+
+    /**
+     * Publishes the binary snapshot file if it was written from the current source files.
+     *
+     * @return false if the file is missing, stale or unreadable and the CSV files have to be loaded
+     */
+    private boolean restoreSnapshotFile() {
+        acquireLoading();
+        try {
+            long start = System.nanoTime();
+            List<SnapshotFile.SourceFile> sources = fingerprintSources();
+            List<DataFileState> fileStates = DataFileState.of(getDataResources());
+            Optional<SnapshotFile.Contents> contents = sources.isEmpty()
+                    ? Optional.empty()
+                    : SnapshotFile.read(Path.of(snapshotFilePath), versionSequence.get() + 1, sources);
+            if (contents.isEmpty()) {
+                logger.info("Snapshot file {} is missing or stale, loading CSV files", snapshotFilePath);
+                return false;
+            }
+
+            DataSnapshot restored = contents.get().snapshot();
+            if (recordedParticipations.size() > 0) {
+                restored = restored.withAppendedParticipations(restored.version(), recordedParticipations);
+            }
+            versionSequence.incrementAndGet();
+            snapshot = restored;
+            participationOffset = contents.get().participationOffset();
+            participationRecordCount = contents.get().participationRecordCount();
+            publishedSources = sources;
+            loadedFileStates = fileStates;
+            persistedVersion = restored.version();
+
+            long elapsed = System.nanoTime() - start;
+            snapshotFileTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            logger.info("Restored snapshot file {} in {} ms. Loaded {} members, {} surveys, {} participations (snapshot version {})",
+                    snapshotFilePath, TimeUnit.NANOSECONDS.toMillis(elapsed), restored.membersById().size(),
+                    restored.surveysById().size(), restored.participations().size(), restored.version());
+            logDuplicateEmails(restored);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not read snapshot file {}, loading CSV files", snapshotFilePath, e);
+            return false;
+        } finally {
+            loading.set(false);
+        }
+    }
+
+    private void writeSnapshotFile(DataSnapshot published) {
+        if (!snapshotFileEnabled() || publishedSources.isEmpty()) {
+            return;
+        }
+        // The file must only hold what the source files produce, or a restore would skip reapplying them
+        if (recordedParticipations.size() > 0) {
+            logger.debug("Not writing snapshot file, it would contain {} recorded participations",
+                    recordedParticipations.size());
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            SnapshotFile.write(Path.of(snapshotFilePath), new SnapshotFile.Contents(published, publishedSources,
+                    participationOffset, participationRecordCount));
+            persistedVersion = published.version();
+            long elapsed = System.nanoTime() - start;
+            snapshotWriteTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            logger.info("Wrote snapshot file {} in {} ms", snapshotFilePath, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        } catch (IOException | RuntimeException e) {
+            // The CSV files stay authoritative; the next start simply parses them again
+            logger.warn("Could not write snapshot file {}", snapshotFilePath, e);
+        }
+    }
+
+    /**
+     * @return fingerprints of the data files and the compacted participation file, or an empty list if the snapshot
+     * file is disabled or a file could not be inspected
+     */
+    private List<SnapshotFile.SourceFile> fingerprintSources() {
+        if (!snapshotFileEnabled()) {
+            return List.of();
+        }
+        List<SnapshotFile.SourceFile> sources = new ArrayList<>();
+        for (Resource resource : getDataResources()) {
+            try {
+                sources.add(SnapshotFile.SourceFile.of(resource));
+            } catch (IOException e) {
+                logger.warn("Could not fingerprint {}, skipping the snapshot file", resource.getDescription(), e);
+                return List.of();
+            }
+        }
+        return withCompactedFileSource(sources);
+    }
+
+    /**
+     * Appends the fingerprint of the compacted participation file, if there is one, to the fingerprints of the data
+     * files. Compaction only changes that file, so it keeps the data file fingerprints of the last read: a file that
+     * grew since then has to make the snapshot file stale.
+     *
+     * @return the fingerprints, or an empty list if the compacted file could not be inspected
+     */
+    private List<SnapshotFile.SourceFile> withCompactedFileSource(List<SnapshotFile.SourceFile> dataSources) {
+        List<SnapshotFile.SourceFile> sources = new ArrayList<>(dataSources);
+        if (participationLogEnabled() && Files.exists(compactedParticipationFile())) {
+            try {
+                sources.add(SnapshotFile.SourceFile.of(new FileSystemResource(compactedParticipationFile())));
+            } catch (IOException e) {
+                logger.warn("Could not fingerprint {}, skipping the snapshot file", compactedParticipationFile(), e);
+                return List.of();
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * The files a snapshot is built from, in load order.
+     */
+    public List<Resource> getDataResources() {
+        return Stream.of(membersFilePath, surveysFilePath, participationFilePath)
+                .map(resourceLoader::getResource)
+                .toList();
+    }
+
+    private void loadMembers(Staging staging) {
+        loadCsvData(membersFilePath, "members", membersFileMetrics, this::parseMemberRecord, staging.membersById::put);
+    }
 
-        loadMembers();
-        loadSurveys();
-        loadParticipations();
+    private void loadSurveys(Staging staging) {
+        loadCsvData(surveysFilePath, "surveys", surveysFileMetrics, this::parseSurveyRecord, staging.surveysById::put);
+    }
+
+
+    private void loadParticipations(Staging staging, boolean toEndOfFile) {
+        staging.surveyAggregates = SurveyAggregates.builder(staging.surveysById.keySet());
+        Resource resource = resourceLoader.getResource(participationFilePath);
+        // Memory mapping needs a real file; resources packed inside a jar go through commons-csv
+        if (parallelIngestion && resource.isFile()) {
+            try {
+                ParallelParticipationCsvReader.Result result = readParticipations(resource, 0L, 0L, toEndOfFile,
+                        (memberId, surveyId, statusId, length) -> {
+                            staging.participations.add(memberId, surveyId, statusId, length);
+                            staging.surveyAggregates.add(surveyId, statusId, length);
+                        });
+                staging.participationOffset = result.endOffset();
+                staging.participationRecordCount = result.recordCount();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to load participations data", e);
+            }
+        } else {
+            loadCsvData(participationFilePath, "participations", participationFileMetrics, this::parseParticipationRecord,
+                    (id, participation) -> storeParticipation(staging, participation));
+        }
+    }
 
-        logger.info("Data loading completed. Loaded {} members, {} surveys, {} participations",
-                membersById.size(), surveysById.size(),
-                participationsByMemberId.values().stream().mapToInt(List::size).sum());
+    private void loadCompactedParticipations(Staging staging) {
+        if (!participationLogEnabled() || !Files.exists(compactedParticipationFile())) {
+            return;
+        }
+        loadCsvData("file:" + compactedParticipationFile(), "compacted participations", compactedFileMetrics,
+                this::parseParticipationRecord, (id, participation) -> storeParticipation(staging, participation));
     }
 
-    private void loadMembers() {
-        loadCsvData(membersFilePath, "members", this::parseMemberRecord, membersById::put);
+    private void addRecordedParticipations(Staging staging) {
+        ParticipationStore recorded = recordedParticipations;
+        for (int row = 0; row < recorded.size(); row++) {
+            staging.participations.add(recorded.memberId(row), recorded.surveyId(row), recorded.statusId(row),
+                    recorded.length(row));
+            staging.surveyAggregates.add(recorded.surveyId(row), recorded.statusId(row), recorded.length(row));
+        }
     }
 
-    private void loadSurveys() {
-        loadCsvData(surveysFilePath, "surveys", this::parseSurveyRecord, surveysById::put);
+    /**
+     * Parses the participation file from {@code fromOffset} with the parallel reader, up to its last line break
+     * unless {@code toEndOfFile} is set. Skipped records are logged with their position in the whole file,
+     * continuing from {@code recordBase} earlier records.
+     */
+    private ParallelParticipationCsvReader.Result readParticipations(Resource resource, long fromOffset, long recordBase,
+                                                                     boolean toEndOfFile,
+                                                                     ParallelParticipationCsvReader.RowSink sink)
+            throws IOException {
+        int parallelism = ingestionParallelism > 0 ? ingestionParallelism : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long start = System.nanoTime();
+            ParallelParticipationCsvReader reader = new ParallelParticipationCsvReader(pool, ingestionChunkBytes);
+            Path file = resource.getFile().toPath();
+            ParallelParticipationCsvReader.Result result = reader.read(file, fromOffset, toEndOfFile, sink);
+            participationFileMetrics.record(System.nanoTime() - start, result.loadedCount(),
+                    result.invalidRecords().size());
+
+            result.invalidRecords().forEach(invalid -> logger.warn("Skipping invalid {} record at line {}: {}",
+                    "participations", recordBase + invalid.recordNumber(), invalid.message()));
+            logger.info("Loaded {} {}, skipped {} invalid records",
+                    result.loadedCount(), "participations", result.invalidRecords().size());
+            if (result.endOffset() < Files.size(file)) {
+                logger.info("Leaving the unterminated last line of {} for a later read", participationFilePath);
+            }
+            return result;
+        } catch (IOException | RuntimeException e) {
+            logger.error("Error loading {} from file: {}", "participations", participationFilePath, e);
+            throw e;
+        } finally {
+            pool.shutdown();
+        }
     }
 
+    private void logDuplicateEmails(DataSnapshot snapshot) {
+        long[] duplicates = snapshot.memberEmailIndex().duplicateMemberIds();
+        if (duplicates.length > 0) {
+            long[] sample = Arrays.copyOf(duplicates, Math.min(duplicates.length, 10));
+            logger.warn("{} members share their e-mail address with a member with a lower ID and cannot be looked up "
+                    + "by e-mail: {}{}", duplicates.length, Arrays.toString(sample),
+                    duplicates.length > sample.length ? " and more" : "");
+        }
+    }
 
-    private void loadParticipations() {
-        loadCsvData(participationFilePath, "participations", this::parseParticipationRecord, this::storeParticipation);
+    private void logParticipationFootprint(DataSnapshot snapshot) {
+        ParticipationStore store = snapshot.participations();
+        long bytes = store.estimatedBytes();
+        logger.info("Participation store uses ~{} bytes ({} bytes per participation) for {} surveys and {} members",
+                bytes, store.size() > 0 ? String.format("%.1f", (double) bytes / store.size()) : "0",
+                store.surveyCount(), store.memberCount());
+        logger.info("Member search index uses ~{} bytes for {} keys", snapshot.memberSearchIndex().estimatedBytes(),
+                snapshot.memberSearchIndex().size());
+        logger.info("Member e-mail index uses ~{} bytes for {} slots", snapshot.memberEmailIndex().estimatedBytes(),
+                snapshot.memberEmailIndex().capacity());
+        logger.info("Invitation bitsets use ~{} bytes", snapshot.participationBitsets().estimatedBytes());
+        logger.info("Points ledger uses ~{} bytes for {} members", snapshot.pointsLedger().estimatedBytes(),
+                snapshot.pointsLedger().memberCount());
+        logger.info("Leaderboard uses ~{} bytes", snapshot.leaderboard().estimatedBytes());
     }
 
-    private <T> void loadCsvData(String filePath, String entityType, Function<CSVRecord, T> parser, BiConsumer<Long, T> storer) {
+    private <T> void loadCsvData(String filePath, String entityType, FileLoadMetrics metrics,
+                                 Function<CSVRecord, T> parser, BiConsumer<Long, T> storer) {
         try {
+            long start = System.nanoTime();
             Resource resource = resourceLoader.getResource(filePath);
             try (InputStreamReader reader = new InputStreamReader(resource.getInputStream());
                  CSVParser csvParser = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader)) {
@@ -98,6 +855,7 @@ public class DataLoaderService {
                     }
                 }
 
+                metrics.record(System.nanoTime() - start, loadedCount, skippedCount);
                 logger.info("Loaded {} {}, skipped {} invalid records", loadedCount, entityType, skippedCount);
             }
         } catch (IOException e) {
@@ -127,7 +885,7 @@ public class DataLoaderService {
     private Participation parseParticipationRecord(CSVRecord record) {
         Long memberId = Long.parseLong(record.get("Member Id"));
         Long surveyId = Long.parseLong(record.get("Survey Id"));
-        Long statusId = Long.parseLong(record.get("Status"));
+        Long statusId = ParticipationStatus.fromId(Long.valueOf(record.get("Status"))).getId();
 
         Integer length = parseLength(record.get("Length"));
 
@@ -150,26 +908,49 @@ public class DataLoaderService {
         };
     }
 
-    private void storeParticipation(Long id, Participation participation) {
-        participationsByMemberId.computeIfAbsent(participation.memberId(), k -> new ArrayList<>()).add(participation);
-        participationsBySurveyId.computeIfAbsent(participation.surveyId(), k -> new ArrayList<>()).add(participation);
+    private void storeParticipation(Staging staging, Participation participation) {
+        staging.participations.add(participation);
+        staging.surveyAggregates.add(participation.surveyId(), participation.statusId().byteValue(),
+                participation.length() != null ? participation.length() : ParticipationStore.NO_LENGTH);
     }
 
-    // Getter methods for accessing data
-    public Map<Long, Member> getMembersById() {
-        return Map.copyOf(membersById);
+    /**
+     * State of one load, only touched by the loading thread before publication.
+     */
+    private static final class Staging {
+        private final Map<Long, Member> membersById = new HashMap<>();
+        private final Map<Long, Survey> surveysById = new HashMap<>();
+        private final ParticipationStore.Builder participations = ParticipationStore.builder();
+        private SurveyAggregates.Builder surveyAggregates;
+        private long participationOffset = -1L;
+        private long participationRecordCount;
     }
 
-    public Map<Long, Survey> getSurveysById() {
-        return Map.copyOf(surveysById);
+    /**
+     * Returns the currently published snapshot. Callers should read it once per request
+     * and work against that reference so every lookup sees the same dataset version.
+     */
+    public DataSnapshot getSnapshot() {
+        return snapshot;
     }
 
+    /**
+     * Modification time and length of the data files, taken before the published snapshot read them.
+     */
+    List<DataFileState> getLoadedFileStates() {
+        return loadedFileStates;
+    }
 
-    public Map<Long, List<Participation>> getParticipationsByMemberId() {
-        return Map.copyOf(participationsByMemberId);
+    // Getter methods for accessing data; all of them return the immutable snapshot maps by reference
+    public Map<Long, Member> getMembersById() {
+        return snapshot.membersById();
+    }
+
+    public Map<Long, Survey> getSurveysById() {
+        return snapshot.surveysById();
     }
 
-    public Map<Long, List<Participation>> getParticipationsBySurveyId() {
-        return Map.copyOf(participationsBySurveyId);
+    public ParticipationStore getParticipations() {
+        return snapshot.participations();
     }
 }
\ No newline at end of file
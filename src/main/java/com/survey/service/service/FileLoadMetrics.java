@@ -0,0 +1,51 @@
+package com.survey.service.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Meters of one data file: how long its loads take, how many rows were loaded or skipped, and the
+ * rows per second of the most recent load. Appends to the participation file count as loads of that file.
+ */
+final class FileLoadMetrics {
+
+    private final Timer duration;
+    private final Counter loadedRows;
+    private final Counter skippedRows;
+    private final AtomicLong lastRowsPerSecond = new AtomicLong();
+
+    FileLoadMetrics(MeterRegistry meterRegistry, String file) {
+        this.duration = Timer.builder("survey.data.file.load")
+                .description("Time spent reading and parsing a data file")
+                .tag("file", file)
+                .register(meterRegistry);
+        this.loadedRows = Counter.builder("survey.data.file.rows")
+                .description("Rows read from a data file")
+                .tag("file", file)
+                .tag("result", "loaded")
+                .register(meterRegistry);
+        this.skippedRows = Counter.builder("survey.data.file.rows")
+                .description("Rows read from a data file")
+                .tag("file", file)
+                .tag("result", "skipped")
+                .register(meterRegistry);
+        Gauge.builder("survey.data.file.throughput", lastRowsPerSecond, AtomicLong::get)
+                .description("Rows per second of the most recent load of a data file")
+                .tag("file", file)
+                .baseUnit("rows.per.second")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    void record(long elapsedNanos, long loaded, long skipped) {
+        duration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        loadedRows.increment(loaded);
+        skippedRows.increment(skipped);
+        lastRowsPerSecond.set(elapsedNanos > 0 ? (loaded + skipped) * TimeUnit.SECONDS.toNanos(1) / elapsedNanos : 0L);
+    }
+}
\ No newline at end of file
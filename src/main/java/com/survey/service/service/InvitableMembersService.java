@@ -1,14 +1,16 @@
 package com.survey.service.service;
 
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.MemberIndex;
+import com.survey.service.dto.InvitableMembersPage;
 import com.survey.service.exception.SurveyNotFoundException;
 import com.survey.service.model.Member;
-import com.survey.service.model.Participation;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class InvitableMembersService {
@@ -20,31 +22,50 @@ public class InvitableMembersService {
     }
 
     public List<Member> fetchInvitableMembersForSurvey(Long surveyId) {
-        validateSurveyExists(surveyId);
-        
-        Map<Long, Member> membersById = dataLoaderService.getMembersById();
-        Set<Long> participatedMemberIds = getParticipatedMemberIds(surveyId);
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+        validateSurveyExists(snapshot, surveyId);
 
-        return getInvitableMembers(membersById, participatedMemberIds);
+        return getInvitableMembers(snapshot, surveyId, 0, Integer.MAX_VALUE).members();
     }
 
-    private Set<Long> getParticipatedMemberIds(Long surveyId) {
-        List<Participation> surveyParticipations = dataLoaderService.getParticipationsBySurveyId().get(surveyId);
+    /**
+     * Lazily streams the invitable members from the member bitsets of the current snapshot,
+     * so large results can be written out without building a list.
+     */
+    public Stream<Member> streamInvitableMembersForSurvey(Long surveyId) {
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+        validateSurveyExists(snapshot, surveyId);
 
-        return surveyParticipations != null
-                ? surveyParticipations.stream().map(Participation::memberId).collect(Collectors.toSet())
-                : Set.of();
+        MemberIndex memberIndex = snapshot.memberIndex();
+        return snapshot.participationBitsets().invitableOrdinals(surveyId).mapToObj(memberIndex::member);
     }
 
-    private List<Member> getInvitableMembers(Map<Long, Member> membersById, Set<Long> participatedMemberIds) {
-        return membersById.values().stream()
-                .filter(Member::isActive)
-                .filter(member -> !participatedMemberIds.contains(member.id()))
-                .toList();
+    /**
+     * Returns up to {@code limit} invitable members, starting at the member with id {@code cursor}
+     * (or the lowest id when {@code cursor} is null). The page's next cursor is the id of the first
+     * member that did not fit, or null when there are no more members.
+     */
+    public InvitableMembersPage fetchInvitableMembersPage(Long surveyId, Long cursor, int limit) {
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+        validateSurveyExists(snapshot, surveyId);
+
+        int fromOrdinal = cursor != null ? snapshot.memberIndex().ceilingOrdinal(cursor) : 0;
+        return getInvitableMembers(snapshot, surveyId, fromOrdinal, limit);
+    }
+
+    private InvitableMembersPage getInvitableMembers(DataSnapshot snapshot, Long surveyId, int fromOrdinal, int limit) {
+        MemberIndex memberIndex = snapshot.memberIndex();
+        List<Member> members = new ArrayList<>(Math.min(limit, memberIndex.size()));
+
+        int nextOrdinal = snapshot.participationBitsets().forEachInvitable(surveyId, fromOrdinal, limit,
+                ordinal -> members.add(memberIndex.member(ordinal)));
+
+        Long nextCursor = nextOrdinal >= 0 ? memberIndex.memberId(nextOrdinal) : null;
+        return new InvitableMembersPage(Collections.unmodifiableList(members), nextCursor);
     }
 
-    private void validateSurveyExists(Long surveyId) {
-        if (!dataLoaderService.getSurveysById().containsKey(surveyId)) {
+    private void validateSurveyExists(DataSnapshot snapshot, Long surveyId) {
+        if (!snapshot.surveysById().containsKey(surveyId)) {
             throw new SurveyNotFoundException(surveyId);
         }
     }
@@ -0,0 +1,65 @@
+package com.survey.service.service;
+
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.Leaderboard;
+import com.survey.service.dto.LeaderboardEntryDto;
+import com.survey.service.dto.MemberRankDto;
+import com.survey.service.exception.SurveyNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Serves rankings from the leaderboard of the current snapshot. Ranks are 1-based; members with
+ * equal points are ranked by ascending member id.
+ */
+@Service
+public class LeaderboardService {
+
+    private final DataLoaderService dataLoaderService;
+
+    public LeaderboardService(DataLoaderService dataLoaderService) {
+        this.dataLoaderService = dataLoaderService;
+    }
+
+    public List<LeaderboardEntryDto> fetchLeaderboard(int limit) {
+        Leaderboard leaderboard = dataLoaderService.getSnapshot().leaderboard();
+
+        return IntStream.range(0, Math.min(limit, leaderboard.size()))
+                .mapToObj(rankIndex -> new LeaderboardEntryDto(
+                        rankIndex + 1, leaderboard.memberId(rankIndex), leaderboard.total(rankIndex)))
+                .toList();
+    }
+
+    public List<LeaderboardEntryDto> fetchSurveyLeaderboard(Long surveyId, int limit) {
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+        if (!snapshot.surveysById().containsKey(surveyId)) {
+            throw new SurveyNotFoundException(surveyId);
+        }
+
+        Leaderboard leaderboard = snapshot.leaderboard();
+        int surveySlot = leaderboard.surveySlot(surveyId);
+        if (surveySlot < 0) {
+            return List.of();
+        }
+
+        int start = leaderboard.surveyEntryStart(surveySlot);
+        int end = (int) Math.min(leaderboard.surveyEntryEnd(surveySlot), (long) start + limit);
+        return IntStream.range(start, end)
+                .mapToObj(entry -> new LeaderboardEntryDto(entry - start + 1,
+                        leaderboard.surveyEntryMemberId(entry), leaderboard.surveyEntryPoints(entry)))
+                .toList();
+    }
+
+    public MemberRankDto fetchMemberRank(Long memberId) {
+        Leaderboard leaderboard = dataLoaderService.getSnapshot().leaderboard();
+        int rankIndex = leaderboard.rankIndex(memberId);
+
+        if (rankIndex < 0) {
+            return new MemberRankDto(memberId, null, 0L, leaderboard.size());
+        }
+
+        return new MemberRankDto(memberId, rankIndex + 1, leaderboard.total(rankIndex), leaderboard.size());
+    }
+}
\ No newline at end of file
@@ -1,13 +1,19 @@
 package com.survey.service.service;
 
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.PointsLedger;
+import com.survey.service.dto.MemberPointsBatchEntryDto;
 import com.survey.service.dto.MemberPointsDto;
-import com.survey.service.enums.ParticipationStatus;
-import com.survey.service.model.Participation;
-import com.survey.service.model.Survey;
+import com.survey.service.dto.MemberPointsPage;
+import com.survey.service.dto.MemberPointsSummaryDto;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
+/**
+ * Serves member points from the points ledger of the current snapshot; nothing is recomputed per request.
+ */
 @Service
 public class MemberPointsService {
 
@@ -18,47 +24,72 @@ public class MemberPointsService {
     }
 
     public List<MemberPointsDto> fetchMemberPoints(Long memberId) {
-        List<Participation> memberParticipations = getMemberParticipations(memberId);
+        PointsLedger ledger = dataLoaderService.getSnapshot().pointsLedger();
+        int slot = ledger.slot(memberId);
 
-        if (memberParticipations.isEmpty()) {
+        if (slot < 0) {
             return List.of();
         }
 
-        return calculateMemberPoints(memberParticipations);
+        return getMemberPoints(ledger, ledger.entryStart(slot), ledger.entryEnd(slot));
     }
 
-    private List<Participation> getMemberParticipations(Long memberId) {
-        List<Participation> participations = dataLoaderService.getParticipationsByMemberId().get(memberId);
-        return participations != null ? participations : List.of();
-    }
-
-    private List<MemberPointsDto> calculateMemberPoints(List<Participation> participations) {
-        return participations.stream()
-                .filter(this::isEligibleForPoints)
-                .map(this::createMemberPointsDto)
+    /**
+     * Resolves all members against one snapshot, in request order. Unknown members are reported
+     * as not found instead of failing the batch.
+     */
+    public List<MemberPointsBatchEntryDto> fetchMemberPointsBatch(List<Long> memberIds) {
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+        PointsLedger ledger = snapshot.pointsLedger();
+
+        return memberIds.stream()
+                .map(memberId -> {
+                    if (!snapshot.membersById().containsKey(memberId)) {
+                        return new MemberPointsBatchEntryDto(memberId, false, List.of());
+                    }
+                    int slot = ledger.slot(memberId);
+                    List<MemberPointsDto> points = slot < 0
+                            ? List.of()
+                            : getMemberPoints(ledger, ledger.entryStart(slot), ledger.entryEnd(slot));
+                    return new MemberPointsBatchEntryDto(memberId, true, points);
+                })
                 .toList();
     }
 
-    private boolean isEligibleForPoints(Participation participation) {
-        return ParticipationStatus.fromId(participation.statusId()).isEligibleForPoints();
-    }
+    public MemberPointsSummaryDto fetchMemberPointsSummary(Long memberId) {
+        PointsLedger ledger = dataLoaderService.getSnapshot().pointsLedger();
+        int slot = ledger.slot(memberId);
 
-    private MemberPointsDto createMemberPointsDto(Participation participation) {
-        Survey survey = getSurvey(participation.surveyId());
-        Integer points = calculatePoints(participation, survey);
+        if (slot < 0) {
+            return new MemberPointsSummaryDto(memberId, 0L, 0);
+        }
 
-        return new MemberPointsDto(participation.surveyId(), points);
+        return new MemberPointsSummaryDto(memberId, ledger.total(slot), ledger.entryEnd(slot) - ledger.entryStart(slot));
     }
 
-    private Survey getSurvey(Long surveyId) {
-        return dataLoaderService.getSurveysById().get(surveyId);
-    }
+    /**
+     * Returns up to {@code limit} point entries in ascending survey order, starting at survey id {@code cursor}
+     * (or the first entry when {@code cursor} is null). The page's next cursor is the survey id of the first
+     * entry that did not fit, or null when there are no more entries.
+     */
+    public MemberPointsPage fetchMemberPointsPage(Long memberId, Long cursor, int limit) {
+        PointsLedger ledger = dataLoaderService.getSnapshot().pointsLedger();
+        int slot = ledger.slot(memberId);
+
+        if (slot < 0) {
+            return new MemberPointsPage(List.of(), null);
+        }
+
+        int from = cursor != null ? ledger.ceilingEntry(slot, cursor) : ledger.entryStart(slot);
+        int to = (int) Math.min(ledger.entryEnd(slot), (long) from + limit);
+        Long nextCursor = to < ledger.entryEnd(slot) ? ledger.entrySurveyId(to) : null;
 
-    private Integer calculatePoints(Participation participation, Survey survey) {
-        ParticipationStatus status = ParticipationStatus.fromId(participation.statusId());
+        return new MemberPointsPage(getMemberPoints(ledger, from, to), nextCursor);
+    }
 
-        return status.isCompleted()
-                ? survey.completionPoints()
-                : survey.filteredPoints();
+    private List<MemberPointsDto> getMemberPoints(PointsLedger ledger, int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(entry -> new MemberPointsDto(ledger.entrySurveyId(entry), ledger.entryPoints(entry)))
+                .toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.survey.service.service;
+
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.dto.MemberSearchPage;
+import com.survey.service.exception.MemberNotFoundException;
+import com.survey.service.model.Member;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Type-ahead search over member names and e-mail addresses and exact e-mail lookup, served from the prefix and
+ * e-mail indexes of the current snapshot.
+ */
+@Service
+public class MemberSearchService {
+
+    private final DataLoaderService dataLoaderService;
+
+    public MemberSearchService(DataLoaderService dataLoaderService) {
+        this.dataLoaderService = dataLoaderService;
+    }
+
+    /**
+     * Returns up to {@code limit} matches of {@code query} in rank order, after the first {@code cursor} of them
+     * (none when {@code cursor} is null). The page's next cursor is the number of matches returned so far, or null
+     * on the last page. Ranks only change with a new snapshot, so a cursor is stable until the next reload.
+     */
+    public MemberSearchPage fetchMemberSearchPage(String query, Long cursor, int limit) {
+        int offset = cursor != null ? (int) Math.min(cursor, Integer.MAX_VALUE - limit - 1) : 0;
+        List<Member> members = dataLoaderService.getSnapshot().memberSearchIndex().search(query, offset, limit + 1);
+        if (members.size() <= limit) {
+            return new MemberSearchPage(members, null);
+        }
+        return new MemberSearchPage(members.subList(0, limit), (long) offset + limit);
+    }
+
+    /**
+     * Looks a member up by e-mail address, ignoring case and surrounding whitespace.
+     *
+     * @throws MemberNotFoundException if no member has this address
+     */
+    public Member fetchMemberByEmail(String email) {
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+        int ordinal = snapshot.memberEmailIndex().ordinal(email);
+        if (ordinal < 0) {
+            throw new MemberNotFoundException("No member with this e-mail address was found.");
+        }
+        return snapshot.memberIndex().member(ordinal);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.survey.service.service;
+
+import com.survey.service.exception.ReloadInProgressException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically folds the participation log into the compacted participation file, so the log and its replay at
+ * startup stay short. Runs only when the participation log is enabled.
+ */
+@Component
+@ConditionalOnExpression("!'${data.wal.file:}'.isBlank() and '${data.wal.compaction.enabled:true}' == 'true'")
+public class ParticipationLogCompactor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticipationLogCompactor.class);
+
+    private final DataLoaderService dataLoaderService;
+    private final Duration interval;
+    private final boolean virtualThreads;
+    private ScheduledExecutorService scheduler;
+
+    public ParticipationLogCompactor(DataLoaderService dataLoaderService,
+                                     @Value("${data.wal.compaction.interval:PT5M}") Duration interval,
+                                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.dataLoaderService = dataLoaderService;
+        this.interval = interval;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @PostConstruct
+    public void start() {
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("participation-log-compactor").factory()
+                : Thread.ofPlatform().name("participation-log-compactor").daemon(true).factory();
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        scheduler.scheduleWithFixedDelay(this::compact, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        logger.info("Compacting the participation log every {}", interval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    void compact() {
+        try {
+            dataLoaderService.compactParticipationLog();
+        } catch (ReloadInProgressException e) {
+            logger.debug("Load running, compacting the participation log on the next run");
+        } catch (RuntimeException e) {
+            // The rows stay in the log and are folded by a later run
+            logger.error("Compacting the participation log failed", e);
+        }
+    }
+}
\ No newline at end of file
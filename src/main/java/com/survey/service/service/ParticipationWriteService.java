@@ -0,0 +1,265 @@
+package com.survey.service.service;
+
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.ParticipationStore;
+import com.survey.service.dto.ParticipationWriteRequest;
+import com.survey.service.enums.ParticipationStatus;
+import com.survey.service.exception.InvalidParticipationException;
+import com.survey.service.exception.ReloadInProgressException;
+import com.survey.service.exception.WriteQueueFullException;
+import com.survey.service.model.Participation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Accepts participations written through the API and publishes them in batches. Request threads validate
+ * against the current snapshot and enqueue into a lock-free queue; a single writer thread drains everything
+ * queued since its last publish into one delta and hands it to {@link DataLoaderService}. The batch grows with
+ * the write rate, so one publish covers many writes, and readers keep using the published snapshot
+ * without ever waiting for the writer. A batch that fails to publish is kept and retried with a growing backoff,
+ * never dropped; {@link #lastPublishFailure()} reports the failure until a retry succeeds.
+ * <p>
+ * Each request gets a future that completes only once its participations are published and, with the participation
+ * log enabled, forced to disk by the group commit of their batch or a later sync, so an acknowledged write survives
+ * a crash.
+ */
+@Service
+public class ParticipationWriteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticipationWriteService.class);
+
+    // Upper bound of the writer's idle wait; producers wake it up as soon as they enqueue
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long RETRY_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long MAX_FAILURE_PARK_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long STOP_TIMEOUT_MILLIS = 10_000;
+
+    private final DataLoaderService dataLoaderService;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final boolean virtualThreads;
+
+    private final Queue<Write> queue = new ConcurrentLinkedQueue<>();
+    // Accepted participations not yet published, including the batch the writer is working on
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Counter writtenCounter;
+    private final Counter failureCounter;
+
+    private volatile boolean running;
+    private volatile Thread writer;
+    private volatile RuntimeException lastPublishFailure;
+
+    public ParticipationWriteService(DataLoaderService dataLoaderService,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${data.writes.queue-capacity:1000000}") int queueCapacity,
+                                     @Value("${data.writes.max-batch-size:100000}") int maxBatchSize,
+                                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.dataLoaderService = dataLoaderService;
+        this.queueCapacity = queueCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.virtualThreads = virtualThreads;
+        this.writtenCounter = Counter.builder("survey.participations.written")
+                .description("Participations written through the API and published")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("survey.participations.publish.failures")
+                .description("Failed attempts to publish a batch of written participations; the batch is retried")
+                .register(meterRegistry);
+        Gauge.builder("survey.participations.pending", pending, AtomicInteger::get)
+                .description("Participations accepted through the API and not yet published")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+        writer = builder.name("participation-writer").start(this::runWriter);
+    }
+
+    /**
+     * Stops the writer after it published what is still queued, waiting for it at most ten seconds.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        Thread current = writer;
+        if (current != null) {
+            LockSupport.unpark(current);
+            current.join(STOP_TIMEOUT_MILLIS);
+        }
+    }
+
+    /**
+     * @return completes with the number of accepted participations once they are published and durable
+     * @throws InvalidParticipationException if the participation refers to an unknown member, survey or status
+     * @throws WriteQueueFullException       if too many participations are waiting to be published
+     */
+    public CompletableFuture<Integer> record(ParticipationWriteRequest request) {
+        Participation participation = validate(request, dataLoaderService.getSnapshot(), "");
+        return enqueue(List.of(participation));
+    }
+
+    /**
+     * Validates all participations first and accepts either all or none of them.
+     *
+     * @return completes with the number of accepted participations once they are published and durable
+     * @throws InvalidParticipationException naming the 1-based position of the first invalid participation
+     * @throws WriteQueueFullException       if the participations do not fit into the queue
+     */
+    public CompletableFuture<Integer> recordAll(List<ParticipationWriteRequest> requests) {
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+        List<Participation> participations = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            participations.add(validate(requests.get(i), snapshot, "Participation " + (i + 1) + ": "));
+        }
+        return enqueue(participations);
+    }
+
+    /**
+     * @return the number of accepted participations that are not published yet
+     */
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * @return why the last attempt to publish a batch failed, or null if it succeeded
+     */
+    public RuntimeException lastPublishFailure() {
+        return lastPublishFailure;
+    }
+
+    private static Participation validate(ParticipationWriteRequest request, DataSnapshot snapshot, String prefix) {
+        if (!snapshot.membersById().containsKey(request.memberId())) {
+            throw new InvalidParticipationException(prefix + "Unknown member ID: " + request.memberId());
+        }
+        if (!snapshot.surveysById().containsKey(request.surveyId())) {
+            throw new InvalidParticipationException(prefix + "Unknown survey ID: " + request.surveyId());
+        }
+        ParticipationStatus status;
+        try {
+            status = ParticipationStatus.fromId(request.statusId());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParticipationException(prefix + e.getMessage());
+        }
+        return new Participation(request.memberId(), request.surveyId(), status.getId(), request.length());
+    }
+
+    private CompletableFuture<Integer> enqueue(List<Participation> participations) {
+        int count = participations.size();
+        int current;
+        do {
+            current = pending.get();
+            if (current > queueCapacity - count) {
+                throw new WriteQueueFullException();
+            }
+        } while (!pending.compareAndSet(current, current + count));
+
+        Write write = new Write(participations, new CompletableFuture<>());
+        queue.add(write);
+        LockSupport.unpark(writer);
+        return write.written();
+    }
+
+    private void runWriter() {
+        ParticipationStore.Builder batch = ParticipationStore.builder();
+        List<Write> batchWrites = new ArrayList<>();
+        // Published writes whose rows were logged within the fsync interval and are not forced to disk yet
+        List<Write> unsyncedWrites = new ArrayList<>();
+        int failures = 0;
+        while (running || pending.get() > 0) {
+            Write write;
+            while (batch.size() < maxBatchSize && (write = queue.poll()) != null) {
+                for (Participation participation : write.participations()) {
+                    batch.add(participation);
+                }
+                batchWrites.add(write);
+            }
+            if (batch.size() == 0) {
+                // Nothing to group with anymore, so rows logged within the fsync interval are forced now
+                dataLoaderService.syncParticipationLog();
+                completeDurable(unsyncedWrites);
+                if (running) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                continue;
+            }
+
+            int size = batch.size();
+            try {
+                dataLoaderService.appendRecordedParticipations(batch.build());
+                writtenCounter.increment(size);
+            } catch (ReloadInProgressException e) {
+                // Keep the batch; rows arriving meanwhile are added to it before the next attempt
+                LockSupport.parkNanos(this, RETRY_PARK_NANOS);
+                continue;
+            } catch (RuntimeException e) {
+                // The writes were already accepted, so the batch is kept and retried until it is published
+                failureCounter.increment();
+                lastPublishFailure = e;
+                if (!running) {
+                    logger.error("Failed to publish {} recorded participations while stopping, giving up", size, e);
+                    break;
+                }
+                long backoff = Math.min(RETRY_PARK_NANOS << Math.min(failures++, 16), MAX_FAILURE_PARK_NANOS);
+                logger.error("Failed to publish {} recorded participations, retrying in {} ms", size,
+                        TimeUnit.NANOSECONDS.toMillis(backoff), e);
+                LockSupport.parkNanos(this, backoff);
+                continue;
+            }
+            if (failures > 0) {
+                logger.info("Published {} recorded participations after {} failed attempts", size, failures);
+                failures = 0;
+                lastPublishFailure = null;
+            }
+            pending.addAndGet(-size);
+            batch = ParticipationStore.builder();
+            unsyncedWrites.addAll(batchWrites);
+            batchWrites.clear();
+            completeDurable(unsyncedWrites);
+        }
+
+        dataLoaderService.syncParticipationLog();
+        completeDurable(unsyncedWrites);
+        IllegalStateException stopped = new IllegalStateException("Participation writer stopped before the "
+                + "participations were written");
+        unsyncedWrites.addAll(batchWrites);
+        unsyncedWrites.addAll(queue);
+        unsyncedWrites.forEach(unwritten -> unwritten.written().completeExceptionally(stopped));
+    }
+
+    /**
+     * Acknowledges the published writes once nothing published is waiting to be forced to disk anymore.
+     */
+    private void completeDurable(List<Write> writes) {
+        if (writes.isEmpty() || dataLoaderService.hasUnsyncedParticipations()) {
+            return;
+        }
+        for (Write write : writes) {
+            write.written().complete(write.participations().size());
+        }
+        writes.clear();
+    }
+
+    /**
+     * The participations of one request, and the future acknowledging them.
+     */
+    private record Write(List<Participation> participations, CompletableFuture<Integer> written) {
+    }
+}
\ No newline at end of file
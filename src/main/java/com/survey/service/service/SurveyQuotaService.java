@@ -0,0 +1,64 @@
+package com.survey.service.service;
+
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.SurveyAggregates;
+import com.survey.service.dto.SurveyQuotaDto;
+import com.survey.service.enums.ParticipationStatus;
+import com.survey.service.exception.SurveyNotFoundException;
+import com.survey.service.model.Survey;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Reports the completions of each survey against its expected completes. The counts come from the survey aggregates
+ * of the published snapshot, so a lookup costs one array read per survey and never touches participations.
+ */
+@Service
+public class SurveyQuotaService {
+
+    private final DataLoaderService dataLoaderService;
+
+    public SurveyQuotaService(DataLoaderService dataLoaderService) {
+        this.dataLoaderService = dataLoaderService;
+    }
+
+    public List<SurveyQuotaDto> fetchSurveyQuotas() {
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+        SurveyAggregates aggregates = snapshot.surveyAggregates();
+        return snapshot.surveysById().values().stream()
+                .sorted(Comparator.comparing(Survey::id))
+                .map(survey -> toDto(survey, aggregates))
+                .toList();
+    }
+
+    public SurveyQuotaDto fetchSurveyQuota(Long surveyId) {
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+        Survey survey = snapshot.surveysById().get(surveyId);
+        if (survey == null) {
+            throw new SurveyNotFoundException(surveyId);
+        }
+        return toDto(survey, snapshot.surveyAggregates());
+    }
+
+    /**
+     * A survey without expected completes counts as full from the start.
+     */
+    private static SurveyQuotaDto toDto(Survey survey, SurveyAggregates aggregates) {
+        int slot = aggregates.slot(survey.id());
+        long completes = slot >= 0 ? aggregates.count(slot, ParticipationStatus.COMPLETED) : 0L;
+        int expected = survey.expectedCompletes();
+        double fillRatio = expected > 0 ? (double) completes / expected : 1.0;
+
+        return new SurveyQuotaDto(
+                survey.id(),
+                survey.name(),
+                expected,
+                completes,
+                Math.max(0L, expected - completes),
+                fillRatio,
+                completes > expected
+        );
+    }
+}
\ No newline at end of file
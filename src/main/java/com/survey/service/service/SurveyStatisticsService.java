@@ -1,80 +1,92 @@
 package com.survey.service.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.SurveyAggregates;
 import com.survey.service.dto.SurveyStatisticsDto;
 import com.survey.service.enums.ParticipationStatus;
-import com.survey.service.model.Participation;
 import com.survey.service.model.Survey;
 import org.springframework.stereotype.Service;
 
+import java.io.UncheckedIOException;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class SurveyStatisticsService {
 
     private final DataLoaderService dataLoaderService;
+    private final ObjectMapper objectMapper;
 
-    public SurveyStatisticsService(DataLoaderService dataLoaderService) {
+    // Statistics of the latest snapshot seen, together with their serialized JSON body
+    private final AtomicReference<CachedStatistics> cache = new AtomicReference<>();
+
+    public SurveyStatisticsService(DataLoaderService dataLoaderService, ObjectMapper objectMapper) {
         this.dataLoaderService = dataLoaderService;
+        this.objectMapper = objectMapper;
     }
 
     public List<SurveyStatisticsDto> fetchSurveyStatistics() {
-        Map<Long, Survey> surveysById = dataLoaderService.getSurveysById();
-        Map<Long, List<Participation>> participationsBySurvey = dataLoaderService.getParticipationsBySurveyId();
+        return currentStatistics().statistics();
+    }
 
-        return surveysById.values().stream()
-                .map(survey -> calculateStatisticsForSurvey(survey, getParticipationsForSurvey(survey.id(), participationsBySurvey)))
-                .toList();
+    /**
+     * Returns the statistics already serialized as a JSON array. The body is produced once per
+     * dataset version and shared by all requests until the snapshot changes.
+     */
+    public byte[] fetchSurveyStatisticsJson() {
+        return currentStatistics().json();
     }
 
-    private SurveyStatisticsDto calculateStatisticsForSurvey(Survey survey, List<Participation> participations) {
-        StatusCounts statusCounts = calculateStatusCounts(participations);
-        double averageLength = calculateAverageLength(participations);
+    private CachedStatistics currentStatistics() {
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+        CachedStatistics cached = cache.get();
+        if (cached != null && cached.version() == snapshot.version()) {
+            return cached;
+        }
 
-        return new SurveyStatisticsDto(
-                survey.id(),
-                survey.name(),
-                statusCounts.completes(),
-                statusCounts.filtered(),
-                statusCounts.rejected(),
-                averageLength
-        );
+        CachedStatistics fresh = buildStatistics(snapshot);
+        cache.accumulateAndGet(fresh, (current, candidate) ->
+                current != null && current.version() > candidate.version() ? current : candidate);
+        return fresh;
     }
 
-    private List<Participation> getParticipationsForSurvey(Long surveyId,
-                                                           Map<Long, List<Participation>> participationsBySurvey) {
-        return participationsBySurvey.getOrDefault(surveyId, List.of());
-    }
+    private CachedStatistics buildStatistics(DataSnapshot snapshot) {
+        SurveyAggregates aggregates = snapshot.surveyAggregates();
+        List<SurveyStatisticsDto> statistics = snapshot.surveysById().values().stream()
+                .sorted(Comparator.comparing(Survey::id))
+                .map(survey -> createStatistics(survey, aggregates))
+                .toList();
 
-    private StatusCounts calculateStatusCounts(List<Participation> participations) {
-        int completes = 0, filtered = 0, rejected = 0;
+        return new CachedStatistics(snapshot.version(), statistics, serialize(statistics));
+    }
 
-        for (Participation participation : participations) {
-            switch (ParticipationStatus.fromId(participation.statusId())) {
-                case COMPLETED -> completes++;
-                case FILTERED -> filtered++;
-                case REJECTED -> rejected++;
-                case NOT_ASKED -> { /* Explicitly ignore NOT_ASKED status */ }
-            }
+    private SurveyStatisticsDto createStatistics(Survey survey, SurveyAggregates aggregates) {
+        int slot = aggregates.slot(survey.id());
+        if (slot < 0) {
+            return new SurveyStatisticsDto(survey.id(), survey.name(), 0, 0, 0, 0.0);
         }
 
-        return new StatusCounts(completes, filtered, rejected);
+        return new SurveyStatisticsDto(
+                survey.id(),
+                survey.name(),
+                aggregates.count(slot, ParticipationStatus.COMPLETED),
+                aggregates.count(slot, ParticipationStatus.FILTERED),
+                aggregates.count(slot, ParticipationStatus.REJECTED),
+                aggregates.averageLength(slot)
+        );
     }
 
-    private double calculateAverageLength(List<Participation> participations) {
-        int lengthSum = 0;
-        int lengthCount = 0;
-
-        for (Participation participation : participations) {
-            if (participation.length() != null) {
-                lengthSum += participation.length();
-                lengthCount++;
-            }
+    private byte[] serialize(List<SurveyStatisticsDto> statistics) {
+        try {
+            return objectMapper.writeValueAsBytes(statistics);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to serialize survey statistics", e);
         }
-
-        return lengthCount > 0 ? (double) lengthSum / lengthCount : 0.0;
     }
 
-    private record StatusCounts(int completes, int filtered, int rejected) {
+    private record CachedStatistics(long version, List<SurveyStatisticsDto> statistics, byte[] json) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.survey.service.web;
+
+import com.survey.service.service.DataLoaderService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Answers GET and HEAD requests from a strong ETag built from the published snapshot version and a SHA-256 digest
+ * of the request key (path, query, {@code Accept} and {@code Accept-Encoding} headers, so a gzip variant never shares
+ * a tag with the plain body). The tag is weak when the client accepts gzip and server compression is on, because the container
+ * leaves strongly tagged responses uncompressed. The data only changes with a new snapshot, so a matching
+ * {@code If-None-Match} gets a {@code 304} before any controller or service runs. {@code If-None-Match: *} is
+ * passed to the handler instead, since only the handler knows whether a current representation exists.
+ * <p>
+ * The version is read before the handler, so a reload racing the request can only make the ETag older than the
+ * body, which costs the client one full response later but never a stale 304. ETag and {@code Cache-Control} are
+ * only added to successful responses, never to errors.
+ */
+public class ConditionalRequestFilter extends OncePerRequestFilter {
+
+    // 128 bits of the digest: distinct request keys of one snapshot never share a tag in practice
+    private static final int DIGEST_BYTES = 16;
+
+    private final DataLoaderService dataLoaderService;
+    private final String cacheControl;
+    private final boolean serverCompression;
+
+    public ConditionalRequestFilter(DataLoaderService dataLoaderService, String cacheControl,
+                                    boolean serverCompression) {
+        this.dataLoaderService = dataLoaderService;
+        this.cacheControl = cacheControl;
+        this.serverCompression = serverCompression;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !"GET".equals(method) && !"HEAD".equals(method);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String etag = etag(dataLoaderService.getSnapshot().version(), request);
+        // Tomcat only compresses responses without a strong ETag; the body is still the same data
+        if (serverCompression && ContentCodings.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            etag = "W/" + etag;
+        }
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            writeCachingHeaders(response, etag);
+            return;
+        }
+
+        chain.doFilter(request, new CachingHeadersResponse(response, etag));
+    }
+
+    static String etag(long version, HttpServletRequest request) {
+        String key = request.getRequestURI() + '?' + request.getQueryString() + '|' + request.getHeader(HttpHeaders.ACCEPT)
+                + '|' + request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return "\"" + version + '-' + HexFormat.of().formatHex(digest(key)) + '"';
+    }
+
+    private static byte[] digest(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return Arrays.copyOf(digest, DIGEST_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Weak comparison as required for {@code If-None-Match}: a {@code W/} prefix is ignored. {@code *} never
+     * matches here, because the filter cannot tell whether the resource exists.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = stripWeakPrefix(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = stripWeakPrefix(candidate.trim());
+            if (tag.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeakPrefix(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private void writeCachingHeaders(HttpServletResponse response, String etag) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!cacheControl.isBlank()) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+    }
+
+    /**
+     * Adds the caching headers once the status is final, i.e. when the body is about to be written.
+     */
+    private final class CachingHeadersResponse extends HttpServletResponseWrapper {
+
+        private final String etag;
+        private boolean decided;
+
+        private CachingHeadersResponse(HttpServletResponse response, String etag) {
+            super(response);
+            this.etag = etag;
+        }
+
+        private void decide() {
+            if (!decided) {
+                decided = true;
+                int status = getStatus();
+                if (status >= 200 && status < 300 && !isCommitted()) {
+                    writeCachingHeaders((HttpServletResponse) getResponse(), etag);
+                }
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            decide();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            decide();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            decide();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            decided = true;
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            decided = true;
+            super.sendError(sc, msg);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.survey.service.web;
+
+import com.survey.service.service.DataLoaderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+@Configuration
+public class HttpCachingConfiguration {
+
+    private static final String DEFAULT_CACHED_PATHS =
+            "/api/surveys/statistics,/api/surveys/*/completed-respondents,/api/surveys/*/invitable-members";
+
+    /**
+     * Covers the read endpoints of both controllers; admin and actuator responses are never cached.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "http.caching.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ConditionalRequestFilter> conditionalRequestFilter(
+            DataLoaderService dataLoaderService,
+            @Value("${http.caching.cache-control:no-cache}") String cacheControl,
+            @Value("${server.compression.enabled:false}") boolean serverCompression) {
+        FilterRegistrationBean<ConditionalRequestFilter> registration = new FilterRegistrationBean<>(
+                new ConditionalRequestFilter(dataLoaderService, cacheControl, serverCompression));
+        registration.addUrlPatterns("/api/surveys/*", "/api/members/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /**
+     * Opt-in; runs inside the conditional request filter, so a 304 never reaches it and a cached body still gets
+     * its ETag.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "http.response-cache.enabled", havingValue = "true")
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            DataLoaderService dataLoaderService,
+            MeterRegistry meterRegistry,
+            @Value("${http.response-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${http.response-cache.paths:" + DEFAULT_CACHED_PATHS + "}") List<String> paths,
+            @Value("${server.compression.min-response-size:2KB}") DataSize gzipMinSize) {
+        ResponseCache cache = new ResponseCache(maxBytes, meterRegistry);
+        FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(
+                new ResponseCacheFilter(dataLoaderService, cache, paths, (int) gzipMinSize.toBytes()));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
\ No newline at end of file
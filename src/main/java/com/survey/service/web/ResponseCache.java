@@ -0,0 +1,86 @@
+package com.survey.service.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serialized response bodies of the published snapshot, keyed by request and bounded by their total size
+ * (including the precompressed variants).
+ * Caffeine's W-TinyLFU policy only admits a new body if it is requested more often than the one it would evict,
+ * so a sweep over rarely requested survey ids does not push out the statistics or the popular surveys.
+ * <p>
+ * Keys carry the snapshot version and all entries are dropped when a newer version is first seen, so a body
+ * serialized from an older snapshot is never served, even if it is stored after the switch.
+ */
+public class ResponseCache {
+
+    static final String CACHE_NAME = "responses";
+
+    // Rough heap cost of an entry besides the body and the key characters
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    /**
+     * @param gzipBody the body compressed with gzip, or null if it is too small to be worth compressing
+     */
+    public record CachedResponse(String contentType, String handlerPattern, byte[] body, byte[] gzipBody) {
+    }
+
+    private record Key(long version, String request) {
+    }
+
+    private final Cache<Key, CachedResponse> cache;
+    private final AtomicLong cachedVersion = new AtomicLong(Long.MIN_VALUE);
+
+    public ResponseCache(long maxBytes, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher(ResponseCache::weigh)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("survey.response.cache.size", this, ResponseCache::weightedSize)
+                .description("Estimated heap size of the cached response bodies")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the body cached for {@code request} under {@code version}, or null
+     */
+    public CachedResponse get(long version, String request) {
+        advanceTo(version);
+        return cache.getIfPresent(new Key(version, request));
+    }
+
+    public void put(long version, String request, CachedResponse response) {
+        advanceTo(version);
+        cache.put(new Key(version, request), response);
+    }
+
+    private void advanceTo(long version) {
+        long cached = cachedVersion.get();
+        if (version > cached && cachedVersion.compareAndSet(cached, version)) {
+            cache.invalidateAll();
+        }
+    }
+
+    long weightedSize() {
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    private static int weigh(Key key, CachedResponse response) {
+        long bytes = (long) response.body().length + 2L * key.request().length() + ENTRY_OVERHEAD_BYTES
+                + (response.gzipBody() != null ? response.gzipBody().length : 0);
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.survey.service.web;
+
+import com.survey.service.service.DataLoaderService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Serves GET requests of the configured paths from {@link ResponseCache}. A miss runs the endpoint as usual and
+ * keeps a copy of its body if it answered with {@code 200}; a hit writes the stored bytes without running the
+ * endpoint or Jackson. Requests with a query string and streamed (NDJSON) representations are never cached.
+ * <p>
+ * Bodies of at least {@code gzipMinBytes} are also kept gzip-compressed, so clients accepting gzip get the
+ * compressed bytes without the server compressing them again on every request.
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private final DataLoaderService dataLoaderService;
+    private final ResponseCache cache;
+    private final List<String> pathPatterns;
+    private final int gzipMinBytes;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ResponseCacheFilter(DataLoaderService dataLoaderService, ResponseCache cache, List<String> pathPatterns,
+                               int gzipMinBytes) {
+        this.dataLoaderService = dataLoaderService;
+        this.cache = cache;
+        this.pathPatterns = List.copyOf(pathPatterns);
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod()) || request.getQueryString() != null) {
+            return true;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE)) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return pathPatterns.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long version = dataLoaderService.getSnapshot().version();
+        String key = request.getRequestURI() + '|' + request.getHeader(HttpHeaders.ACCEPT);
+
+        ResponseCache.CachedResponse cached = cache.get(version, key);
+        if (cached != null) {
+            // Lets the request metrics attribute the hit to its endpoint
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, cached.handlerPattern());
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(cached.contentType());
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            byte[] body = cached.body();
+            if (cached.gzipBody() != null && ContentCodings.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, ContentCodings.GZIP);
+                body = cached.gzipBody();
+            }
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+            return;
+        }
+
+        ContentCachingResponseWrapper capturing = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, capturing);
+            if (capturing.getStatus() == HttpServletResponse.SC_OK && capturing.getContentType() != null) {
+                byte[] body = capturing.getContentAsByteArray();
+                cache.put(version, key, new ResponseCache.CachedResponse(capturing.getContentType(),
+                        (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                        body, compress(body)));
+            }
+        } finally {
+            capturing.copyBodyToResponse();
+        }
+    }
+
+    private byte[] compress(byte[] body) {
+        if (body.length < gzipMinBytes) {
+            return null;
+        }
+        byte[] gzip = ContentCodings.gzip(body);
+        return gzip.length < body.length ? gzip : null;
+    }
+}
\ No newline at end of file
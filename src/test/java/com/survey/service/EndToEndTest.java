@@ -10,11 +10,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -125,4 +128,25 @@ class EndToEndTest {
         assertThat(statistics).extracting(SurveyStatisticsDto::surveyName)
                 .containsExactlyInAnyOrder("Test Survey 1", "Test Survey 2", "Test Survey 3");
     }
+
+    @Test
+    void streamInvitableMembers_shouldWriteNdjsonFromIndex_whenNdjsonIsAccepted() throws Exception {
+        //given - Using test survey data from test-surveys.csv
+        Long surveyId = 1L;
+
+        //when
+        MvcResult result = mockMvc.perform(get("/api/surveys/{surveyId}/invitable-members", surveyId)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+        String response = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        //then - Same result as the JSON endpoint (Alice Johnson only), one member per line
+        assertThat(response.lines()).hasSize(1);
+        assertThat(objectMapper.readValue(response.lines().findFirst().orElseThrow(), Member.class).fullName())
+                .isEqualTo("Alice Johnson");
+    }
 }
\ No newline at end of file
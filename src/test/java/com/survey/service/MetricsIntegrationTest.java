@@ -0,0 +1,64 @@
+package com.survey.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void loadData_shouldPublishFileAndDatasetMetrics_whenValidCsvFiles() {
+        //given - test CSV files are loaded automatically via @PostConstruct
+
+        //when
+        double members = meterRegistry.get("survey.data.members").gauge().value();
+        double participations = meterRegistry.get("survey.data.participations").gauge().value();
+        double loadedRows = meterRegistry.get("survey.data.file.rows")
+                .tag("file", "participations").tag("result", "loaded").counter().count();
+
+        //then
+        assertThat(members).isEqualTo(4);
+        assertThat(participations).isEqualTo(7);
+        assertThat(loadedRows).isGreaterThanOrEqualTo(7);
+        assertThat(meterRegistry.get("survey.data.file.load").tag("file", "members").timer().count()).isPositive();
+        assertThat(meterRegistry.get("survey.data.estimated.size").tag("structure", "participations").gauge().value())
+                .isPositive();
+    }
+
+    @Test
+    void prometheus_shouldExposeEndpointTimers_whenEndpointWasCalled() throws Exception {
+        //given
+        mockMvc.perform(get("/api/members/1/points")).andExpect(status().isOk());
+
+        //when
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        //then
+        assertThat(scrape)
+                .contains("survey_requests_seconds_bucket{outcome=\"SUCCESS\",uri=\"/api/members/{memberId}/points\"")
+                .contains("survey_data_snapshot_version")
+                .contains("survey_data_file_throughput_rows_per_second{file=\"participations\",}")
+                .doesNotContain("http_server_requests_seconds");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.survey.service;
+
+import com.survey.service.data.SyntheticDataset;
+import com.survey.service.service.DataLoaderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Loads a generated dataset of 10M participations through {@link DataLoaderService} and checks load time,
+ * retained heap and per-endpoint latency against budgets. Only runs with {@code mvn -Pscale test}; size and
+ * budgets can be overridden with system properties, e.g. {@code -Dscale.participations=20000000
+ * -Dscale.budget.p99=PT0.02S -Dscale.budget.p99.list=PT1S}.
+ */
+@Tag("scale")
+@SpringBootTest(properties = "logging.level.com.survey.service=INFO")
+class ScaleTest {
+
+    private static final int MEMBERS = Integer.getInteger("scale.members", 1_000_000);
+    private static final int SURVEYS = Integer.getInteger("scale.surveys", 1_000);
+    private static final long PARTICIPATIONS = Long.getLong("scale.participations", 10_000_000L);
+    private static final double SURVEY_SKEW = Double.parseDouble(System.getProperty("scale.survey-skew", "0.8"));
+
+    private static final Duration LOAD_BUDGET = Duration.parse(System.getProperty("scale.budget.load", "PT60S"));
+    private static final long HEAP_BUDGET_BYTES = Long.getLong("scale.budget.heap-bytes", 2L << 30);
+    private static final Duration LATENCY_BUDGET = Duration.parse(System.getProperty("scale.budget.p99", "PT0.05S"));
+    // Completed respondents are returned in full, so popular surveys of a skewed dataset answer with 100k+ members
+    private static final Duration LIST_LATENCY_BUDGET =
+            Duration.parse(System.getProperty("scale.budget.p99.list", "PT0.5S"));
+
+    private static final int WARMUP_REQUESTS = 200;
+    private static final int MEASURED_REQUESTS = 1_000;
+
+    @TempDir
+    private static Path dataDir;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private DataLoaderService dataLoaderService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void dataFiles(DynamicPropertyRegistry registry) {
+        registry.add("data.directory", ScaleTest::generateDataset);
+    }
+
+    private static String generateDataset() {
+        try {
+            SyntheticDataset.builder()
+                    .members(MEMBERS)
+                    .surveys(SURVEYS)
+                    .participations(PARTICIPATIONS)
+                    .surveySkew(SURVEY_SKEW)
+                    .build()
+                    .write(dataDir);
+            return "file:" + dataDir + "/";
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    void loadData_shouldStayWithinLoadTimeBudget_whenLoadingScaleDataset() {
+        //given - dataset loaded on startup
+
+        //when
+        double loadSeconds = meterRegistry.get("survey.data.load").tag("type", "full").timer()
+                .totalTime(TimeUnit.SECONDS);
+
+        //then
+        assertThat(dataLoaderService.getSnapshot().participations().size()).isEqualTo(PARTICIPATIONS);
+        assertThat(dataLoaderService.getSnapshot().membersById()).hasSize(MEMBERS);
+        assertThat(loadSeconds).isLessThanOrEqualTo(LOAD_BUDGET.toMillis() / 1000.0);
+    }
+
+    @Test
+    void snapshot_shouldStayWithinHeapBudget_whenScaleDatasetIsLoaded() {
+        //given - dataset loaded on startup
+        assertThat(dataLoaderService.getSnapshot().participations().size()).isEqualTo(PARTICIPATIONS);
+
+        //when
+        System.gc();
+        long usedHeap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        //then
+        assertThat(usedHeap).isLessThanOrEqualTo(HEAP_BUDGET_BYTES);
+    }
+
+    @Test
+    void endpoints_shouldStayWithinLatencyBudget_whenServingScaleDataset() throws Exception {
+        //given
+        SplittableRandom random = new SplittableRandom(7L);
+
+        SoftAssertions softly = new SoftAssertions();
+
+        //when & then
+        assertLatencyBudget(softly, random, LIST_LATENCY_BUDGET,
+                id -> "/api/surveys/" + (id % SURVEYS + 1) + "/completed-respondents");
+        assertLatencyBudget(softly, random, LATENCY_BUDGET,
+                id -> "/api/surveys/" + (id % SURVEYS + 1) + "/invitable-members?limit=1000");
+        assertLatencyBudget(softly, random, LATENCY_BUDGET, id -> "/api/surveys/statistics");
+        assertLatencyBudget(softly, random, LATENCY_BUDGET,
+                id -> "/api/members/" + (id % MEMBERS + 1) + "/completed-surveys");
+        assertLatencyBudget(softly, random, LATENCY_BUDGET, id -> "/api/members/" + (id % MEMBERS + 1) + "/points");
+        softly.assertAll();
+    }
+
+    private void assertLatencyBudget(SoftAssertions softly, SplittableRandom random, Duration budget,
+                                     LongFunction<String> endpoint) throws Exception {
+        long[] latencies = new long[MEASURED_REQUESTS];
+        for (int i = 0; i < WARMUP_REQUESTS + MEASURED_REQUESTS; i++) {
+            String path = endpoint.apply(random.nextLong(Long.MAX_VALUE));
+            long start = System.nanoTime();
+            mockMvc.perform(get(path)).andExpect(status().isOk());
+            if (i >= WARMUP_REQUESTS) {
+                latencies[i - WARMUP_REQUESTS] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(latencies);
+        long p99 = latencies[(int) Math.ceil(0.99 * latencies.length) - 1];
+
+        softly.assertThat(Duration.ofNanos(p99))
+                .as("p99 latency of %s", endpoint.apply(0L).replaceAll("/\\d+/", "/{id}/"))
+                .isLessThanOrEqualTo(budget);
+    }
+}
\ No newline at end of file
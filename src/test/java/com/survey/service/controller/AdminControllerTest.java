@@ -0,0 +1,78 @@
+package com.survey.service.controller;
+
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.ParticipationStore;
+import com.survey.service.exception.ReloadInProgressException;
+import com.survey.service.model.Member;
+import com.survey.service.model.Participation;
+import com.survey.service.model.Survey;
+import com.survey.service.service.DataLoaderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AdminController.class, properties = "admin.api.enabled=true")
+class AdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DataLoaderService dataLoaderService;
+
+    @Test
+    void reloadData_shouldReturnNewSnapshotVersion_whenReloadSucceeds() throws Exception {
+        //given
+        DataSnapshot snapshot = new DataSnapshot(2L,
+                Map.of(1L, new Member(1L, "John Doe", "john@example.com", true)),
+                Map.of(1L, new Survey(1L, "Survey 1", 100, 10, 2)),
+                ParticipationStore.builder().add(new Participation(1L, 1L, 4L, 10)).build());
+        when(dataLoaderService.reload(true)).thenReturn(snapshot);
+
+        //when & then
+        mockMvc.perform(post("/api/admin/data/reload"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(2))
+                .andExpect(jsonPath("$.members").value(1))
+                .andExpect(jsonPath("$.surveys").value(1))
+                .andExpect(jsonPath("$.participations").value(1));
+    }
+
+    @Test
+    void reloadData_shouldReturnConflict_whenReloadAlreadyRunning() throws Exception {
+        //given
+        when(dataLoaderService.reload(true)).thenThrow(new ReloadInProgressException());
+
+        //when & then
+        mockMvc.perform(post("/api/admin/data/reload"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Reload in progress"));
+    }
+
+    @Test
+    void compactParticipationLog_shouldReturnCurrentSnapshot_whenLogWasFolded() throws Exception {
+        //given
+        DataSnapshot snapshot = new DataSnapshot(3L, Map.of(), Map.of(),
+                ParticipationStore.builder().add(new Participation(1L, 1L, 4L, 10)).build());
+        when(dataLoaderService.compactParticipationLog()).thenReturn(1);
+        when(dataLoaderService.getSnapshot()).thenReturn(snapshot);
+
+        //when & then
+        mockMvc.perform(post("/api/admin/data/compact"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.foldedParticipations").value(1))
+                .andExpect(jsonPath("$.version").value(3))
+                .andExpect(jsonPath("$.participations").value(1));
+        verify(dataLoaderService).compactParticipationLog();
+    }
+}
\ No newline at end of file
@@ -1,21 +1,38 @@
 package com.survey.service.controller;
 
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.survey.service.dto.CompletedSurveysBatchEntryDto;
+import com.survey.service.dto.LeaderboardEntryDto;
+import com.survey.service.dto.MemberPointsBatchEntryDto;
 import com.survey.service.dto.MemberPointsDto;
+import com.survey.service.dto.MemberPointsPage;
+import com.survey.service.dto.MemberPointsSummaryDto;
+import com.survey.service.dto.MemberRankDto;
+import com.survey.service.dto.MemberSearchPage;
+import com.survey.service.exception.MemberNotFoundException;
+import com.survey.service.model.Member;
 import com.survey.service.model.Survey;
 import com.survey.service.service.CompletedSurveysService;
+import com.survey.service.service.LeaderboardService;
 import com.survey.service.service.MemberPointsService;
+import com.survey.service.service.MemberSearchService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,6 +48,12 @@ class MemberControllerTest {
     @MockBean
     private MemberPointsService memberPointsService;
 
+    @MockBean
+    private LeaderboardService leaderboardService;
+
+    @MockBean
+    private MemberSearchService memberSearchService;
+
 
     private Survey testSurvey;
     private MemberPointsDto testPoints;
@@ -99,6 +122,24 @@ class MemberControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void getMemberPoints_shouldWriteCbor_whenAcceptIsCbor() throws Exception {
+        //given
+        Long memberId = 1L;
+        when(memberPointsService.fetchMemberPoints(eq(memberId)))
+                .thenReturn(List.of(testPoints));
+
+        //when
+        byte[] body = mockMvc.perform(get("/api/members/{memberId}/points", memberId)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        //then
+        assertThat(new CBORMapper().readValue(body, MemberPointsDto[].class)).containsExactly(testPoints);
+    }
+
     @Test
     void getMemberPoints_shouldReturnOk_whenNoPoints() throws Exception {
         //given
@@ -132,4 +173,195 @@ class MemberControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message").value("Member ID must be a positive number"));
     }
+
+    @Test
+    void getMemberPoints_shouldReturnPageWithNextCursorHeader_whenLimitIsGiven() throws Exception {
+        //given
+        Long memberId = 1L;
+        when(memberPointsService.fetchMemberPointsPage(eq(memberId), eq(null), eq(1)))
+                .thenReturn(new MemberPointsPage(List.of(testPoints), 7L));
+
+        //when & then
+        mockMvc.perform(get("/api/members/{memberId}/points", memberId).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "7"))
+                .andExpect(jsonPath("$[0].surveyId").value(1));
+    }
+
+    @Test
+    void getMemberPoints_shouldReturnBadRequest_whenLimitIsTooLarge() throws Exception {
+        //given
+        Long memberId = 1L;
+
+        //when & then
+        mockMvc.perform(get("/api/members/{memberId}/points", memberId).param("limit", "10001"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Limit must not exceed 10000"));
+    }
+
+    @Test
+    void getMemberPointsSummary_shouldReturnOk_whenValidMemberId() throws Exception {
+        //given
+        Long memberId = 1L;
+        when(memberPointsService.fetchMemberPointsSummary(eq(memberId)))
+                .thenReturn(new MemberPointsSummaryDto(memberId, 50L, 1));
+
+        //when & then
+        mockMvc.perform(get("/api/members/{memberId}/points/summary", memberId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalPoints").value(50))
+                .andExpect(jsonPath("$.entryCount").value(1));
+    }
+
+    @Test
+    void getMemberPointsSummary_shouldReturnBadRequest_whenZeroMemberId() throws Exception {
+        //given
+        Long memberId = 0L;
+
+        //when & then
+        mockMvc.perform(get("/api/members/{memberId}/points/summary", memberId))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Member ID must be a positive number"));
+    }
+
+    @Test
+    void getLeaderboard_shouldReturnTopMembers_whenLimitIsGiven() throws Exception {
+        //given
+        when(leaderboardService.fetchLeaderboard(eq(2)))
+                .thenReturn(List.of(new LeaderboardEntryDto(1, 7L, 90L), new LeaderboardEntryDto(2, 3L, 40L)));
+
+        //when & then
+        mockMvc.perform(get("/api/members/leaderboard").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].memberId").value(7))
+                .andExpect(jsonPath("$[1].rank").value(2));
+    }
+
+    @Test
+    void getLeaderboard_shouldReturnBadRequest_whenLimitIsZero() throws Exception {
+        //when & then
+        mockMvc.perform(get("/api/members/leaderboard").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Limit must be a positive number"));
+    }
+
+    @Test
+    void getMemberRank_shouldReturnOk_whenValidMemberId() throws Exception {
+        //given
+        Long memberId = 3L;
+        when(leaderboardService.fetchMemberRank(eq(memberId)))
+                .thenReturn(new MemberRankDto(memberId, 2, 40L, 10));
+
+        //when & then
+        mockMvc.perform(get("/api/members/{memberId}/rank", memberId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rank").value(2));
+    }
+
+    @Test
+    void batchGetMemberPoints_shouldReturnResultPerMember_whenValidMemberIds() throws Exception {
+        //given
+        when(memberPointsService.fetchMemberPointsBatch(eq(List.of(1L, 999L))))
+                .thenReturn(List.of(new MemberPointsBatchEntryDto(1L, true, List.of(testPoints)),
+                        new MemberPointsBatchEntryDto(999L, false, List.of())));
+
+        //when & then
+        mockMvc.perform(post("/api/members/points:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberIds\": [1, 999]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].points[0].points").value(50))
+                .andExpect(jsonPath("$[1].found").value(false));
+    }
+
+    @Test
+    void batchGetMemberPoints_shouldReturnBadRequest_whenMemberIdsAreEmpty() throws Exception {
+        //when & then
+        mockMvc.perform(post("/api/members/points:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberIds\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Member IDs must not be empty"));
+    }
+
+    @Test
+    void batchGetMemberPoints_shouldReturnBadRequest_whenMemberIdIsNegative() throws Exception {
+        //when & then
+        mockMvc.perform(post("/api/members/points:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberIds\": [1, -1]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Member ID must be a positive number"));
+    }
+
+    @Test
+    void batchGetCompletedSurveys_shouldReturnResultPerMember_whenValidMemberIds() throws Exception {
+        //given
+        when(completedSurveysService.fetchCompletedSurveysBatch(eq(List.of(1L))))
+                .thenReturn(List.of(new CompletedSurveysBatchEntryDto(1L, true, List.of(testSurvey))));
+
+        //when & then
+        mockMvc.perform(post("/api/members/completed-surveys:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberIds\": [1]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].surveys[0].id").value(1));
+    }
+
+    @Test
+    void batchGetCompletedSurveys_shouldReturnBadRequest_whenBodyIsNotJson() throws Exception {
+        //when & then
+        mockMvc.perform(post("/api/members/completed-surveys:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("not json"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid request body"));
+    }
+
+    @Test
+    void searchMembers_shouldReturnMatchesWithNextCursorHeader_whenMoreMatchesExist() throws Exception {
+        //given
+        when(memberSearchService.fetchMemberSearchPage("jo", 20L, 1))
+                .thenReturn(new MemberSearchPage(List.of(new Member(1L, "John Doe", "john@example.com", true)), 21L));
+
+        //when & then
+        mockMvc.perform(get("/api/members/search").param("q", "jo").param("limit", "1").param("cursor", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "21"))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].fullName").value("John Doe"));
+    }
+
+    @Test
+    void searchMembers_shouldReturnBadRequest_whenQueryIsBlank() throws Exception {
+        //when & then
+        mockMvc.perform(get("/api/members/search").param("q", "  "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Query must not be blank"));
+    }
+
+    @Test
+    void getMemberByEmail_shouldReturnMember_whenEmailIsKnown() throws Exception {
+        //given
+        when(memberSearchService.fetchMemberByEmail("john.doe@example.com"))
+                .thenReturn(new Member(1L, "John Doe", "john.doe@example.com", true));
+
+        //when & then
+        mockMvc.perform(get("/api/members/by-email/{email}", "john.doe@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.email").value("john.doe@example.com"));
+    }
+
+    @Test
+    void getMemberByEmail_shouldReturnNotFound_whenEmailIsUnknown() throws Exception {
+        //given
+        when(memberSearchService.fetchMemberByEmail("nobody@example.com"))
+                .thenThrow(new MemberNotFoundException("No member with this e-mail address was found."));
+
+        //when & then
+        mockMvc.perform(get("/api/members/by-email/{email}", "nobody@example.com"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Member not found"));
+    }
 }
\ No newline at end of file
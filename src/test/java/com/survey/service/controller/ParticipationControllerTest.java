@@ -0,0 +1,140 @@
+package com.survey.service.controller;
+
+import com.survey.service.dto.ParticipationWriteRequest;
+import com.survey.service.exception.InvalidParticipationException;
+import com.survey.service.exception.WriteQueueFullException;
+import com.survey.service.service.ParticipationWriteService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ParticipationController.class)
+class ParticipationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ParticipationWriteService participationWriteService;
+
+    @Test
+    void recordParticipation_shouldReturnAccepted_whenParticipationIsValid() throws Exception {
+        //given
+        ParticipationWriteRequest request = new ParticipationWriteRequest(1L, 2L, 4L, 15);
+        when(participationWriteService.record(eq(request))).thenReturn(CompletableFuture.completedFuture(1));
+
+        //when
+        MvcResult result = mockMvc.perform(post("/api/participations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberId\": 1, \"surveyId\": 2, \"statusId\": 4, \"length\": 15}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(1));
+    }
+
+    @Test
+    void recordParticipation_shouldReturnBadRequest_whenMemberIdIsMissing() throws Exception {
+        //when & then
+        mockMvc.perform(post("/api/participations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"surveyId\": 2, \"statusId\": 4}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Member ID must not be null"));
+        verify(participationWriteService, never()).record(any());
+    }
+
+    @Test
+    void recordParticipation_shouldReturnServiceUnavailable_whenWriteQueueIsFull() throws Exception {
+        //given
+        when(participationWriteService.record(any())).thenThrow(new WriteQueueFullException());
+
+        //when & then
+        mockMvc.perform(post("/api/participations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberId\": 1, \"surveyId\": 2, \"statusId\": 4}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("Write queue full"));
+    }
+
+    @Test
+    void recordParticipations_shouldAcceptEveryLine_whenBodyIsNdjson() throws Exception {
+        //given
+        List<ParticipationWriteRequest> requests = List.of(
+                new ParticipationWriteRequest(1L, 2L, 4L, 15),
+                new ParticipationWriteRequest(3L, 2L, 2L, null));
+        when(participationWriteService.recordAll(eq(requests))).thenReturn(CompletableFuture.completedFuture(2));
+
+        //when
+        MvcResult result = mockMvc.perform(post("/api/participations")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"memberId\": 1, \"surveyId\": 2, \"statusId\": 4, \"length\": 15}\n"
+                                + "{\"memberId\": 3, \"surveyId\": 2, \"statusId\": 2}\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(2));
+    }
+
+    @Test
+    void recordParticipations_shouldRejectWholeBody_whenOneLineIsInvalid() throws Exception {
+        //when & then
+        mockMvc.perform(post("/api/participations")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"memberId\": 1, \"surveyId\": 2, \"statusId\": 4}\n"
+                                + "{\"memberId\": -3, \"surveyId\": 2, \"statusId\": 2}\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid participation"))
+                .andExpect(jsonPath("$.message").value("Participation 2: Member ID must be a positive number"));
+        verify(participationWriteService, never()).recordAll(anyList());
+    }
+
+    @Test
+    void recordParticipations_shouldReturnBadRequest_whenLineIsNotJson() throws Exception {
+        //when & then
+        mockMvc.perform(post("/api/participations")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"memberId\": 1, \"surveyId\": 2, \"statusId\": 4}\nnot json\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Participation 2: not a valid JSON object"));
+    }
+
+    @Test
+    void recordParticipations_shouldReturnBadRequest_whenServiceRejectsParticipation() throws Exception {
+        //given
+        when(participationWriteService.recordAll(anyList()))
+                .thenThrow(new InvalidParticipationException("Participation 1: Unknown member ID: 99"));
+
+        //when & then
+        mockMvc.perform(post("/api/participations")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"memberId\": 99, \"surveyId\": 2, \"statusId\": 4}\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Participation 1: Unknown member ID: 99"));
+    }
+}
\ No newline at end of file
@@ -1,24 +1,40 @@
 package com.survey.service.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.survey.service.dto.InvitableMembersPage;
+import com.survey.service.dto.LeaderboardEntryDto;
+import com.survey.service.dto.SurveyQuotaDto;
 import com.survey.service.dto.SurveyStatisticsDto;
 import com.survey.service.exception.SurveyNotFoundException;
 import com.survey.service.model.Member;
 import com.survey.service.service.CompletedRespondentsService;
 import com.survey.service.service.InvitableMembersService;
+import com.survey.service.service.LeaderboardService;
+import com.survey.service.service.SurveyQuotaService;
 import com.survey.service.service.SurveyStatisticsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(SurveyController.class)
@@ -27,6 +43,9 @@ class SurveyControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private CompletedRespondentsService completedRespondentsService;
 
@@ -36,6 +55,12 @@ class SurveyControllerTest {
     @MockBean
     private SurveyStatisticsService surveyStatisticsService;
 
+    @MockBean
+    private LeaderboardService leaderboardService;
+
+    @MockBean
+    private SurveyQuotaService surveyQuotaService;
+
     private Member testMember;
     private SurveyStatisticsDto testStatistics;
 
@@ -150,11 +175,94 @@ class SurveyControllerTest {
                 .andExpect(jsonPath("$.message").value("Survey ID must be a positive number"));
     }
 
+    @Test
+    void getInvitableMembers_shouldReturnPageWithNextCursorHeader_whenLimitIsGiven() throws Exception {
+        //given
+        Long surveyId = 1L;
+        when(invitableMembersService.fetchInvitableMembersPage(eq(surveyId), eq(null), eq(1)))
+                .thenReturn(new InvitableMembersPage(List.of(testMember), 5L));
+
+        //when & then
+        mockMvc.perform(get("/api/surveys/{surveyId}/invitable-members", surveyId).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "5"))
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+
+    @Test
+    void getInvitableMembers_shouldReturnBadRequest_whenLimitIsZero() throws Exception {
+        //given
+        Long surveyId = 1L;
+
+        //when & then
+        mockMvc.perform(get("/api/surveys/{surveyId}/invitable-members", surveyId).param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Limit must be a positive number"));
+    }
+
+    @Test
+    void streamCompletedRespondents_shouldWriteJsonArray_whenStreamParameterIsSet() throws Exception {
+        //given
+        Long surveyId = 1L;
+        when(completedRespondentsService.streamCompletedRespondentsBySurveyId(eq(surveyId)))
+                .thenReturn(Stream.of(testMember, testMember));
+
+        //when
+        MvcResult result = mockMvc.perform(get("/api/surveys/{surveyId}/completed-respondents", surveyId)
+                        .param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].fullName").value("John Doe"));
+    }
+
+    @Test
+    void streamInvitableMembers_shouldWriteOneMemberPerLine_whenNdjsonIsAccepted() throws Exception {
+        //given
+        Long surveyId = 1L;
+        when(invitableMembersService.streamInvitableMembersForSurvey(eq(surveyId)))
+                .thenReturn(Stream.of(testMember, testMember));
+
+        //when
+        MvcResult result = mockMvc.perform(get("/api/surveys/{surveyId}/invitable-members", surveyId)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThat(body.lines()).hasSize(2)
+                .allSatisfy(line -> assertThat(objectMapper.readValue(line, Member.class)).isEqualTo(testMember));
+    }
+
+    @Test
+    void streamInvitableMembers_shouldReturnNotFound_whenSurveyNotFound() throws Exception {
+        //given
+        Long surveyId = 999L;
+        when(invitableMembersService.streamInvitableMembersForSurvey(eq(surveyId)))
+                .thenThrow(new SurveyNotFoundException(surveyId));
+
+        //when & then
+        mockMvc.perform(get("/api/surveys/{surveyId}/invitable-members", surveyId)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void getSurveyStatistics_shouldReturnOk_whenStatisticsExist() throws Exception {
         //given
-        when(surveyStatisticsService.fetchSurveyStatistics())
-                .thenReturn(List.of(testStatistics));
+        when(surveyStatisticsService.fetchSurveyStatisticsJson())
+                .thenReturn(objectMapper.writeValueAsBytes(List.of(testStatistics)));
 
         //when & then
         mockMvc.perform(get("/api/surveys/statistics"))
@@ -164,11 +272,106 @@ class SurveyControllerTest {
     @Test
     void getSurveyStatistics_shouldReturnOk_whenNoStatistics() throws Exception {
         //given
-        when(surveyStatisticsService.fetchSurveyStatistics())
-                .thenReturn(List.of());
+        when(surveyStatisticsService.fetchSurveyStatisticsJson())
+                .thenReturn(objectMapper.writeValueAsBytes(List.of()));
 
         //when & then
         mockMvc.perform(get("/api/surveys/statistics"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    void getSurveyStatistics_shouldWriteSmile_whenAcceptIsSmile() throws Exception {
+        //given
+        when(surveyStatisticsService.fetchSurveyStatistics()).thenReturn(List.of(testStatistics));
+
+        //when
+        byte[] body = mockMvc.perform(get("/api/surveys/statistics")
+                        .accept(MediaType.parseMediaType("application/x-jackson-smile")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        //then
+        assertThat(new SmileMapper().readValue(body, SurveyStatisticsDto[].class)).containsExactly(testStatistics);
+    }
+
+    @Test
+    void getCompletedRespondents_shouldWriteCbor_whenAcceptIsCbor() throws Exception {
+        //given
+        Long surveyId = 1L;
+        when(completedRespondentsService.fetchCompletedRespondentsBySurveyId(eq(surveyId)))
+                .thenReturn(List.of(testMember));
+
+        //when
+        byte[] body = mockMvc.perform(get("/api/surveys/{surveyId}/completed-respondents", surveyId)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        //then
+        assertThat(new CBORMapper().readValue(body, Member[].class)).containsExactly(testMember);
+    }
+
+    @Test
+    void getCompletedRespondents_shouldWriteJsonError_whenAcceptIsCbor() throws Exception {
+        //when & then
+        mockMvc.perform(get("/api/surveys/{surveyId}/completed-respondents", 0L)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message").value("Survey ID must be a positive number"));
+    }
+
+    @Test
+    void getSurveyLeaderboard_shouldReturnOk_whenSurveyExists() throws Exception {
+        //given
+        Long surveyId = 1L;
+        when(leaderboardService.fetchSurveyLeaderboard(eq(surveyId), eq(100)))
+                .thenReturn(List.of(new LeaderboardEntryDto(1, 1L, 5L)));
+
+        //when & then
+        mockMvc.perform(get("/api/surveys/{surveyId}/leaderboard", surveyId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].points").value(5));
+    }
+
+    @Test
+    void getSurveyLeaderboard_shouldReturnNotFound_whenSurveyDoesNotExist() throws Exception {
+        //given
+        Long surveyId = 999L;
+        when(leaderboardService.fetchSurveyLeaderboard(eq(surveyId), eq(100)))
+                .thenThrow(new SurveyNotFoundException(surveyId));
+
+        //when & then
+        mockMvc.perform(get("/api/surveys/{surveyId}/leaderboard", surveyId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getSurveyQuotas_shouldReturnOk_whenSurveysExist() throws Exception {
+        //given
+        when(surveyQuotaService.fetchSurveyQuotas())
+                .thenReturn(List.of(new SurveyQuotaDto(1L, "Test Survey", 10, 12L, 0L, 1.2, true)));
+
+        //when & then
+        mockMvc.perform(get("/api/surveys/quotas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].fillRatio").value(1.2))
+                .andExpect(jsonPath("$[0].overQuota").value(true));
+    }
+
+    @Test
+    void getSurveyQuota_shouldReturnNotFound_whenSurveyDoesNotExist() throws Exception {
+        //given
+        Long surveyId = 999L;
+        when(surveyQuotaService.fetchSurveyQuota(eq(surveyId)))
+                .thenThrow(new SurveyNotFoundException(surveyId));
+
+        //when & then
+        mockMvc.perform(get("/api/surveys/{surveyId}/quota", surveyId))
+                .andExpect(status().isNotFound());
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.survey.service.data;
+
+import com.survey.service.model.Participation;
+import com.survey.service.model.Survey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardTest {
+
+    private ParticipationStore store;
+    private Map<Long, Survey> surveys;
+    private PointsLedger ledger;
+    private Leaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        store = ParticipationStore.builder()
+                .add(new Participation(1L, 10L, 3L, null))
+                .add(new Participation(2L, 10L, 4L, 15))
+                .add(new Participation(2L, 20L, 3L, null))
+                .add(new Participation(3L, 20L, 4L, 7))
+                .add(new Participation(4L, 10L, 4L, 9))
+                .add(new Participation(5L, 20L, 2L, null))
+                .build();
+        surveys = Map.of(
+                10L, new Survey(10L, "Survey 10", 10, 5, 2),
+                20L, new Survey(20L, "Survey 20", 20, 5, 1)
+        );
+        ledger = PointsLedger.of(store, surveys);
+        leaderboard = Leaderboard.of(ledger);
+    }
+
+    @Test
+    void of_shouldRankMembersByTotalThenMemberId_whenTotalsAreEqual() {
+        //given - leaderboard built in setUp
+
+        //when & then
+        assertThat(leaderboard.size()).isEqualTo(4);
+        assertThat(IntStream.range(0, leaderboard.size()).mapToLong(leaderboard::memberId))
+                .containsExactly(2L, 3L, 4L, 1L);
+        assertThat(IntStream.range(0, leaderboard.size()).mapToLong(leaderboard::total))
+                .containsExactly(6L, 5L, 5L, 2L);
+    }
+
+    @Test
+    void rankIndex_shouldFindMemberPosition_whenMemberEarnedPoints() {
+        //given - leaderboard built in setUp
+
+        //when & then
+        assertThat(leaderboard.rankIndex(2L)).isZero();
+        assertThat(leaderboard.rankIndex(4L)).isEqualTo(2);
+        assertThat(leaderboard.rankIndex(1L)).isEqualTo(3);
+        assertThat(leaderboard.rankIndex(5L)).isNegative();
+        assertThat(leaderboard.rankIndex(999L)).isNegative();
+    }
+
+    @Test
+    void surveySlot_shouldResolveToSurveyRanking_whenMembersEarnedPointsInSurvey() {
+        //given
+        int surveySlot = leaderboard.surveySlot(20L);
+
+        //when & then
+        assertThat(IntStream.range(leaderboard.surveyEntryStart(surveySlot), leaderboard.surveyEntryEnd(surveySlot))
+                .mapToLong(leaderboard::surveyEntryMemberId))
+                .containsExactly(3L, 2L);
+        assertThat(leaderboard.surveySlot(30L)).isNegative();
+    }
+
+    @Test
+    void withAppended_shouldMoveOnlyMembersThatEarnedPoints_whenDeltaIsAppended() {
+        //given
+        ParticipationStore delta = ParticipationStore.builder()
+                .add(new Participation(1L, 20L, 4L, 11))
+                .add(new Participation(4L, 20L, 3L, null))
+                .add(new Participation(6L, 10L, 4L, 4))
+                .add(new Participation(3L, 10L, 1L, null))
+                .build();
+        PointsLedger earned = PointsLedger.of(delta, surveys);
+
+        //when
+        Leaderboard appended = leaderboard.withAppended(ledger.withAppended(earned), earned);
+
+        //then
+        Leaderboard expected = Leaderboard.of(PointsLedger.of(store.withAppended(delta), surveys));
+        assertThat(IntStream.range(0, appended.size()).mapToLong(appended::memberId))
+                .containsExactly(1L, 2L, 4L, 3L, 6L)
+                .containsExactlyElementsOf(IntStream.range(0, expected.size()).mapToLong(expected::memberId)
+                        .boxed().toList());
+        assertThat(IntStream.range(0, appended.size()).mapToLong(appended::total))
+                .containsExactly(7L, 6L, 6L, 5L, 5L);
+        assertThat(appended.rankIndex(6L)).isEqualTo(4);
+        assertThat(surveyRanking(appended, 10L)).isEqualTo(surveyRanking(expected, 10L));
+        assertThat(surveyRanking(appended, 20L)).isEqualTo(surveyRanking(expected, 20L)).containsExactly(1L, 3L, 2L, 4L);
+        assertThat(leaderboard.size()).isEqualTo(4);
+    }
+
+    private static List<Long> surveyRanking(Leaderboard leaderboard, long surveyId) {
+        int surveySlot = leaderboard.surveySlot(surveyId);
+        return IntStream.range(leaderboard.surveyEntryStart(surveySlot), leaderboard.surveyEntryEnd(surveySlot))
+                .mapToObj(leaderboard::surveyEntryMemberId)
+                .toList();
+    }
+}
\ No newline at end of file
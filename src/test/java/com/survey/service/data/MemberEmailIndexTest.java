@@ -0,0 +1,66 @@
+package com.survey.service.data;
+
+import com.survey.service.model.Member;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberEmailIndexTest {
+
+    @Test
+    void ordinal_shouldFindMember_whenEmailDiffersInCaseAndWhitespace() {
+        //given
+        MemberIndex memberIndex = MemberIndex.of(Map.of(
+                1L, new Member(1L, "John Doe", "john@example.com", true),
+                2L, new Member(2L, "Zoë Ünal", " Zoë@Example.com", true),
+                3L, new Member(3L, "Jane Smith", null, false)));
+        MemberEmailIndex index = MemberEmailIndex.of(memberIndex);
+
+        //when & then
+        assertThat(memberIndex.member(index.ordinal("JOHN@example.com ")).id()).isEqualTo(1L);
+        assertThat(memberIndex.member(index.ordinal("zoë@example.com")).id()).isEqualTo(2L);
+        assertThat(index.ordinal("jane@example.com")).isNegative();
+        assertThat(index.ordinal("john@example")).isNegative();
+        assertThat(index.ordinal(" ")).isNegative();
+    }
+
+    @Test
+    void of_shouldKeepLowestIdAndReportOthers_whenEmailsAreDuplicated() {
+        //given
+        MemberIndex memberIndex = MemberIndex.of(Map.of(
+                7L, new Member(7L, "John Doe", "john@example.com", true),
+                3L, new Member(3L, "Johnny Doe", "John@Example.com", true),
+                9L, new Member(9L, "J. Doe", "john@example.com", false),
+                4L, new Member(4L, "Mary Johnson", "mary@example.com", true)));
+
+        //when
+        MemberEmailIndex index = MemberEmailIndex.of(memberIndex);
+
+        //then
+        assertThat(memberIndex.member(index.ordinal("john@example.com")).id()).isEqualTo(3L);
+        assertThat(index.duplicateMemberIds()).containsExactly(7L, 9L);
+        assertThat(index.duplicateCount()).isEqualTo(2);
+    }
+
+    @Test
+    void ordinal_shouldFindEveryMember_whenIndexHoldsManyMembers() {
+        //given
+        Map<Long, Member> members = new HashMap<>();
+        for (long id = 1; id <= 50_000; id++) {
+            members.put(id, new Member(id, "Member " + id, "member" + id + "@example.com", true));
+        }
+        MemberIndex memberIndex = MemberIndex.of(members);
+        MemberEmailIndex index = MemberEmailIndex.of(memberIndex);
+
+        //when & then
+        for (long id = 1; id <= 50_000; id++) {
+            assertThat(memberIndex.memberId(index.ordinal("member" + id + "@example.com"))).isEqualTo(id);
+        }
+        assertThat(index.ordinal("member50001@example.com")).isNegative();
+        assertThat(index.duplicateCount()).isZero();
+        assertThat(index.capacity()).isEqualTo(1 << 17);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.survey.service.data;
+
+import com.survey.service.model.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberSearchIndexTest {
+
+    private MemberSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = MemberSearchIndex.of(MemberIndex.of(Map.of(
+                1L, new Member(1L, "John Doe", "john@example.com", true),
+                2L, new Member(2L, "Mary Johnson", "mary.j@example.com", true),
+                3L, new Member(3L, "Johnny Walker", "jw@example.com", false),
+                4L, new Member(4L, "Anna Smith", "johnsmith@example.com", true),
+                5L, new Member(5L, "Zoë Ünal", "zoe@example.com", true),
+                6L, new Member(6L, "jo", null, true),
+                7L, new Member(7L, "Jo Jo Joseph", "jojo@example.com", true))));
+    }
+
+    @Test
+    void search_shouldRankExactThenNamePrefixThenWordThenEmail_whenQueryMatchesSeveralKeys() {
+        //when
+        List<Member> members = index.search("Jo", 0, 10);
+
+        //then
+        assertThat(members).extracting(Member::id).containsExactly(6L, 7L, 1L, 3L, 2L, 4L);
+    }
+
+    @Test
+    void search_shouldIgnoreCaseAndSurroundingWhitespace_whenQueryHasNonAsciiCharacters() {
+        //when & then
+        assertThat(index.search("  üNAL ", 0, 10)).extracting(Member::id).containsExactly(5L);
+        assertThat(index.search("ZOË", 0, 10)).extracting(Member::id).containsExactly(5L);
+        assertThat(index.search("mary.j@", 0, 10)).extracting(Member::id).containsExactly(2L);
+    }
+
+    @Test
+    void search_shouldReturnNextPage_whenOffsetIsGiven() {
+        //when
+        List<Member> first = index.search("jo", 0, 4);
+        List<Member> second = index.search("jo", 4, 4);
+
+        //then
+        assertThat(first).extracting(Member::id).containsExactly(6L, 7L, 1L, 3L);
+        assertThat(second).extracting(Member::id).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void search_shouldReturnNothing_whenNoKeyStartsWithQuery() {
+        //when & then
+        assertThat(index.search("ohn", 0, 10)).isEmpty();
+        assertThat(index.search("zz", 0, 10)).isEmpty();
+        assertThat(index.search(" ", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void search_shouldMatchLinearScan_whenKeysShareLongPrefixes() {
+        //given
+        SplittableRandom random = new SplittableRandom(3L);
+        String[] words = {"Ann", "Anna", "Annabel", "anne", "ANNETTE", "An", "Åsa", "Ánna", "andré", "Anders"};
+        Map<Long, Member> members = new HashMap<>();
+        for (long id = 1; id <= 2_000; id++) {
+            String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+            members.put(id, new Member(id, name, name.replace(' ', '.').toLowerCase() + id + "@example.com", true));
+        }
+        MemberSearchIndex large = MemberSearchIndex.of(MemberIndex.of(members));
+
+        for (String query : List.of("a", "an", "ANN", "anna", "anne", "ánna", "å", "annabel a", "anders.an")) {
+            //when
+            List<Member> found = large.search(query, 0, Integer.MAX_VALUE);
+
+            //then
+            String normalized = MemberSearchIndex.normalize(query);
+            List<Long> expected = members.values().stream()
+                    .filter(member -> member.fullName().toLowerCase().startsWith(normalized)
+                            || member.fullName().toLowerCase().contains(" " + normalized)
+                            || member.email().startsWith(normalized))
+                    .map(Member::id)
+                    .toList();
+            assertThat(found).extracting(Member::id).as(query).doesNotHaveDuplicates()
+                    .containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+}
\ No newline at end of file
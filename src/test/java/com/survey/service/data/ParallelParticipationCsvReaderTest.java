@@ -0,0 +1,160 @@
+package com.survey.service.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelParticipationCsvReaderTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void read_shouldKeepFileOrder_whenFileIsSplitIntoManyChunks() throws IOException {
+        //given
+        StringBuilder csv = new StringBuilder("Member Id,Survey Id,Status,Length\n");
+        for (int i = 1; i <= 500; i++) {
+            csv.append(i).append(',').append(i % 7).append(',').append(i % 4 + 1).append(',')
+                    .append(i % 3 == 0 ? "" : String.valueOf(i)).append('\n');
+        }
+        Path file = write(csv.toString());
+        List<long[]> rows = new ArrayList<>();
+
+        //when
+        ParallelParticipationCsvReader.Result result = new ParallelParticipationCsvReader(pool, 64)
+                .read(file, (memberId, surveyId, statusId, length) ->
+                        rows.add(new long[]{memberId, surveyId, statusId, length}));
+
+        //then
+        assertThat(result.loadedCount()).isEqualTo(500);
+        assertThat(result.invalidRecords()).isEmpty();
+        assertThat(rows).hasSize(500);
+        for (int i = 1; i <= 500; i++) {
+            long expectedLength = i % 3 == 0 ? ParticipationStore.NO_LENGTH : i;
+            assertThat(rows.get(i - 1)).containsExactly(i, i % 7, i % 4 + 1, expectedLength);
+        }
+    }
+
+    @Test
+    void read_shouldReportRecordNumbers_whenRecordsAreInvalid() throws IOException {
+        //given
+        Path file = write("""
+                Member Id,Survey Id,Status,Length
+                1,10,4,5
+                x,10,4,5
+                2,10,9,
+                3,10
+
+                4,10,3,
+                5,10,1,99999999999
+                """);
+        List<Long> memberIds = new ArrayList<>();
+
+        //when
+        ParallelParticipationCsvReader.Result result = new ParallelParticipationCsvReader(pool, 16)
+                .read(file, (memberId, surveyId, statusId, length) -> memberIds.add(memberId));
+
+        //then
+        assertThat(memberIds).containsExactly(1L, 4L);
+        assertThat(result.invalidRecords())
+                .extracting(ParallelParticipationCsvReader.InvalidRecord::recordNumber)
+                .containsExactly(2L, 3L, 4L, 6L);
+    }
+
+    @Test
+    void read_shouldResolveColumnsByHeader_whenColumnsAreReorderedAndLinesEndWithCrLf() throws IOException {
+        //given
+        Path file = write("Status,Length,\"Survey Id\",Member Id\r\n2,,20,1\r\n4,\"12\",30,\"2\"\r\n");
+        List<long[]> rows = new ArrayList<>();
+
+        //when
+        ParallelParticipationCsvReader.Result result = new ParallelParticipationCsvReader(pool, 1024)
+                .read(file, (memberId, surveyId, statusId, length) ->
+                        rows.add(new long[]{memberId, surveyId, statusId, length}));
+
+        //then
+        assertThat(result.loadedCount()).isEqualTo(2);
+        assertThat(rows.get(0)).containsExactly(1L, 20L, 2L, ParticipationStore.NO_LENGTH);
+        assertThat(rows.get(1)).containsExactly(2L, 30L, 4L, 12L);
+    }
+
+    @Test
+    void read_shouldStopAtLastLineBreak_whenTailingFromOffset() throws IOException {
+        //given
+        Path file = write("Member Id,Survey Id,Status,Length\n1,10,4,5\n");
+        ParallelParticipationCsvReader reader = new ParallelParticipationCsvReader(pool, 1024);
+        long offset = reader.read(file, (memberId, surveyId, statusId, length) -> { }).endOffset();
+        Files.writeString(file, "2,10,3,\n3,10,4,", StandardOpenOption.APPEND);
+        List<Long> memberIds = new ArrayList<>();
+
+        //when
+        ParallelParticipationCsvReader.Result result = reader.read(file, offset,
+                (memberId, surveyId, statusId, length) -> memberIds.add(memberId));
+
+        //then
+        assertThat(memberIds).containsExactly(2L);
+        assertThat(result.recordCount()).isEqualTo(1);
+        assertThat(result.endOffset()).isEqualTo(Files.size(file) - "3,10,4,".length());
+    }
+
+    @Test
+    void read_shouldLeavePartialLastLineForTailRead_whenReadingWholeFile() throws IOException {
+        //given
+        Path file = write("Member Id,Survey Id,Status,Length\n1,10,4,5\n2,10,4,");
+        ParallelParticipationCsvReader reader = new ParallelParticipationCsvReader(pool, 1024);
+        List<long[]> rows = new ArrayList<>();
+        ParallelParticipationCsvReader.Result full = reader.read(file, (memberId, surveyId, statusId, length) ->
+                rows.add(new long[]{memberId, surveyId, statusId, length}));
+        Files.writeString(file, "12\n", StandardOpenOption.APPEND);
+
+        //when
+        ParallelParticipationCsvReader.Result tail = reader.read(file, full.endOffset(),
+                (memberId, surveyId, statusId, length) -> rows.add(new long[]{memberId, surveyId, statusId, length}));
+
+        //then
+        assertThat(full.recordCount()).isEqualTo(1);
+        assertThat(full.endOffset()).isEqualTo("Member Id,Survey Id,Status,Length\n1,10,4,5\n".length());
+        assertThat(tail.invalidRecords()).isEmpty();
+        assertThat(tail.endOffset()).isEqualTo(Files.size(file));
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(1)).containsExactly(2L, 10L, 4L, 12L);
+    }
+
+    @Test
+    void read_shouldTakeUnterminatedLastLineAsRecord_whenReadingToEndOfFile() throws IOException {
+        //given
+        Path file = write("Member Id,Survey Id,Status,Length\n1,10,4,5\n2,10,4,");
+        List<Long> memberIds = new ArrayList<>();
+
+        //when
+        ParallelParticipationCsvReader.Result result = new ParallelParticipationCsvReader(pool, 1024)
+                .read(file, 0L, true, (memberId, surveyId, statusId, length) -> memberIds.add(memberId));
+
+        //then
+        assertThat(memberIds).containsExactly(1L, 2L);
+        assertThat(result.endOffset()).isEqualTo(Files.size(file));
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("participation.csv");
+        Files.writeString(file, content);
+        return file;
+    }
+}
\ No newline at end of file
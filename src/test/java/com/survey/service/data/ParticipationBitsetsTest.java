@@ -0,0 +1,139 @@
+package com.survey.service.data;
+
+import com.survey.service.model.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParticipationBitsetsTest {
+
+    private static final int MEMBER_COUNT = 1000;
+
+    private MemberIndex memberIndex;
+    private ParticipationStore store;
+    private ParticipationBitsets bitsets;
+
+    @BeforeEach
+    void setUp() {
+        Map<Long, Member> members = new HashMap<>();
+        for (long id = 1; id <= MEMBER_COUNT; id++) {
+            members.put(id, new Member(id, "Member " + id, id + "@example.com", id % 3 != 0));
+        }
+
+        ParticipationStore.Builder participations = ParticipationStore.builder();
+        // Survey 1: sparse, two participants
+        participations.add(1L, 1L, (byte) 4, 10).add(500L, 1L, (byte) 2, ParticipationStore.NO_LENGTH);
+        // Survey 2: dense, every even member participated
+        for (long id = 2; id <= MEMBER_COUNT; id += 2) {
+            participations.add(id, 2L, (byte) 3, ParticipationStore.NO_LENGTH);
+        }
+
+        memberIndex = MemberIndex.of(members);
+        store = participations.build();
+        bitsets = ParticipationBitsets.of(memberIndex, store);
+    }
+
+    @Test
+    void forEachInvitable_shouldExcludeParticipantsAndInactiveMembers_whenSurveyIsSparse() {
+        //when
+        List<Long> invitable = collect(1L, 0, Integer.MAX_VALUE);
+
+        //then
+        assertThat(invitable).isEqualTo(expected(id -> id != 1L && id != 500L));
+    }
+
+    @Test
+    void forEachInvitable_shouldExcludeParticipantsAndInactiveMembers_whenSurveyIsDense() {
+        //when
+        List<Long> invitable = collect(2L, 0, Integer.MAX_VALUE);
+
+        //then
+        assertThat(invitable).isEqualTo(expected(id -> id % 2 != 0));
+    }
+
+    @Test
+    void forEachInvitable_shouldReturnAllActiveMembers_whenSurveyHasNoParticipations() {
+        //when
+        List<Long> invitable = collect(3L, 0, Integer.MAX_VALUE);
+
+        //then
+        assertThat(invitable).isEqualTo(expected(id -> true));
+    }
+
+    @Test
+    void forEachInvitable_shouldResumeFromReturnedOrdinal_whenPaging() {
+        //given
+        List<Long> pages = new ArrayList<>();
+        int next = 0;
+
+        //when
+        do {
+            int from = next;
+            next = bitsets.forEachInvitable(1L, from, 70, ordinal -> pages.add(memberIndex.memberId(ordinal)));
+        } while (next >= 0);
+
+        //then
+        assertThat(pages).isEqualTo(collect(1L, 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void withAppended_shouldAddDeltaParticipants_whenRowsAreAppended() {
+        //given
+        ParticipationStore delta = ParticipationStore.builder()
+                .add(4L, 1L, (byte) 4, 12)
+                .add(7L, 3L, (byte) 1, ParticipationStore.NO_LENGTH)
+                .build();
+
+        //when
+        ParticipationBitsets original = bitsets;
+        bitsets = original.withAppended(store.withAppended(delta), delta);
+
+        //then
+        assertThat(collect(1L, 0, Integer.MAX_VALUE)).isEqualTo(expected(id -> id != 1L && id != 4L && id != 500L));
+        assertThat(collect(2L, 0, Integer.MAX_VALUE)).isEqualTo(expected(id -> id % 2 != 0));
+        assertThat(collect(3L, 0, Integer.MAX_VALUE)).isEqualTo(expected(id -> id != 7L));
+        bitsets = original;
+        assertThat(collect(1L, 0, Integer.MAX_VALUE)).isEqualTo(expected(id -> id != 1L && id != 500L));
+    }
+
+    @Test
+    void withAppended_shouldSwitchToDenseSet_whenSparseSurveyGrows() {
+        //given
+        ParticipationStore.Builder rows = ParticipationStore.builder();
+        for (long id = 1; id <= 100; id++) {
+            rows.add(id, 1L, (byte) 3, ParticipationStore.NO_LENGTH);
+        }
+        ParticipationStore delta = rows.build();
+
+        //when
+        bitsets = bitsets.withAppended(store.withAppended(delta), delta);
+
+        //then
+        assertThat(collect(1L, 0, Integer.MAX_VALUE)).isEqualTo(expected(id -> id > 100L && id != 500L));
+        assertThat(bitsets.estimatedBytes()).isEqualTo(ParticipationBitsets.of(memberIndex, store.withAppended(delta))
+                .estimatedBytes());
+    }
+
+    private List<Long> collect(long surveyId, int fromOrdinal, int limit) {
+        List<Long> ids = new ArrayList<>();
+        bitsets.forEachInvitable(surveyId, fromOrdinal, limit, ordinal -> ids.add(memberIndex.memberId(ordinal)));
+        return ids;
+    }
+
+    private List<Long> expected(LongPredicate notParticipated) {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= MEMBER_COUNT; id++) {
+            if (id % 3 != 0 && notParticipated.test(id)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.survey.service.data;
+
+import com.survey.service.model.Participation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParticipationLogTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("participations.wal");
+    }
+
+    @Test
+    void open_shouldReplayAppendedRowsInOrder_whenLogIsReopened() throws IOException {
+        //given
+        try (ParticipationLog log = ParticipationLog.open(file, Duration.ZERO, ParticipationLogTest::ignore)) {
+            log.append(rows(new Participation(1L, 10L, 4L, 12), new Participation(2L, 10L, 3L, null)));
+            log.append(rows(new Participation(1L, 20L, 2L, null)));
+        }
+        ParticipationStore.Builder replayed = ParticipationStore.builder();
+
+        //when
+        try (ParticipationLog log = ParticipationLog.open(file, Duration.ZERO, replayed::add)) {
+
+            //then
+            assertThat(log.rowCount()).isEqualTo(3L);
+            assertThat(log.size()).isEqualTo(Files.size(file));
+        }
+        ParticipationStore store = replayed.build();
+        assertThat(List.of(store.participation(0), store.participation(1), store.participation(2))).containsExactly(
+                new Participation(1L, 10L, 4L, 12),
+                new Participation(2L, 10L, 3L, null),
+                new Participation(1L, 20L, 2L, null));
+    }
+
+    @Test
+    void open_shouldTruncateTornFrame_whenLastAppendWasCutShort() throws IOException {
+        //given
+        long intactSize;
+        try (ParticipationLog log = ParticipationLog.open(file, Duration.ZERO, ParticipationLogTest::ignore)) {
+            log.append(rows(new Participation(1L, 10L, 4L, 12)));
+            intactSize = log.size();
+            log.append(rows(new Participation(2L, 10L, 4L, 7), new Participation(3L, 10L, 4L, 9)));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 5);
+        }
+        ParticipationStore.Builder replayed = ParticipationStore.builder();
+
+        //when
+        try (ParticipationLog log = ParticipationLog.open(file, Duration.ZERO, replayed::add)) {
+            log.append(rows(new Participation(4L, 10L, 1L, null)));
+        }
+
+        //then
+        ParticipationStore.Builder reopened = ParticipationStore.builder();
+        ParticipationLog.open(file, Duration.ZERO, reopened::add).close();
+        assertThat(replayed.size()).isEqualTo(1);
+        assertThat(reopened.build().participationsForSurvey(10L)).containsExactlyInAnyOrder(
+                new Participation(1L, 10L, 4L, 12), new Participation(4L, 10L, 1L, null));
+        assertThat(Files.size(file)).isGreaterThan(intactSize);
+    }
+
+    @Test
+    void append_shouldSplitLargeGroupIntoFrames_whenItExceedsFrameSize() throws IOException {
+        //given
+        ParticipationStore.Builder rows = ParticipationStore.builder();
+        for (int i = 0; i < 100_000; i++) {
+            rows.add(i, 10L, (byte) 4, i);
+        }
+        try (ParticipationLog log = ParticipationLog.open(file, Duration.ofSeconds(1), ParticipationLogTest::ignore)) {
+            log.append(rows.build());
+        }
+        long[] memberIdSum = new long[1];
+
+        //when
+        try (ParticipationLog log = ParticipationLog.open(file, Duration.ZERO,
+                (memberId, surveyId, statusId, length) -> memberIdSum[0] += memberId)) {
+
+            //then
+            assertThat(log.rowCount()).isEqualTo(100_000L);
+        }
+        assertThat(memberIdSum[0]).isEqualTo(99_999L * 100_000L / 2);
+    }
+
+    @Test
+    void reset_shouldDropRowsAndPendingFold_whenFoldCompleted() throws IOException {
+        //given
+        try (ParticipationLog log = ParticipationLog.open(file, Duration.ZERO, ParticipationLogTest::ignore)) {
+            log.append(rows(new Participation(1L, 10L, 4L, 12)));
+            log.beginFold(new ParticipationLog.Fold(100L, 120L));
+        }
+        ParticipationLog log = ParticipationLog.open(file, Duration.ZERO, ParticipationLogTest::ignore);
+        assertThat(log.pendingFold()).contains(new ParticipationLog.Fold(100L, 120L));
+
+        //when
+        log.reset();
+        log.close();
+
+        //then
+        try (ParticipationLog reopened = ParticipationLog.open(file, Duration.ZERO, ParticipationLogTest::ignore)) {
+            assertThat(reopened.pendingFold()).isEmpty();
+            assertThat(reopened.rowCount()).isZero();
+        }
+    }
+
+    @Test
+    void open_shouldFail_whenFileIsNotParticipationLog() throws IOException {
+        //given
+        Files.writeString(file, "Member Id,Survey Id,Status,Length\n1,10,4,12\n");
+
+        //when & then
+        assertThatThrownBy(() -> ParticipationLog.open(file, Duration.ZERO, ParticipationLogTest::ignore))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("not a participation log");
+    }
+
+    private static ParticipationStore rows(Participation... participations) {
+        ParticipationStore.Builder builder = ParticipationStore.builder();
+        for (Participation participation : participations) {
+            builder.add(participation);
+        }
+        return builder.build();
+    }
+
+    private static void ignore(long memberId, long surveyId, byte statusId, int length) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.survey.service.data;
+
+import com.survey.service.model.Participation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParticipationStoreTest {
+
+    private ParticipationStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = ParticipationStore.builder()
+                .add(new Participation(2L, 20L, 4L, 15))
+                .add(new Participation(1L, 10L, 3L, null))
+                .add(new Participation(1L, 20L, 2L, null))
+                .add(new Participation(3L, 10L, 4L, 7))
+                .build();
+    }
+
+    @Test
+    void build_shouldSortRowsBySurvey_whenRowsArriveUnordered() {
+        //given - store built in setUp
+
+        //when
+        int surveySlot = store.surveySlot(10L);
+
+        //then
+        assertThat(store.size()).isEqualTo(4);
+        assertThat(store.surveyCount()).isEqualTo(2);
+        assertThat(IntStream.range(store.surveyRowStart(surveySlot), store.surveyRowEnd(surveySlot))
+                .mapToLong(store::memberId))
+                .containsExactly(1L, 3L);
+    }
+
+    @Test
+    void memberSlot_shouldResolveToAllRowsOfMember_whenMemberParticipatedInSeveralSurveys() {
+        //given - store built in setUp
+
+        //when
+        int memberSlot = store.memberSlot(1L);
+
+        //then
+        assertThat(IntStream.range(store.memberRowStart(memberSlot), store.memberRowEnd(memberSlot))
+                .map(store::memberRow)
+                .mapToLong(store::surveyId))
+                .containsExactly(10L, 20L);
+    }
+
+    @Test
+    void lookups_shouldReturnNegativeSlot_whenIdIsUnknown() {
+        //given - store built in setUp
+
+        //when & then
+        assertThat(store.surveySlot(99L)).isNegative();
+        assertThat(store.memberSlot(99L)).isNegative();
+        assertThat(store.participationsForMember(99L)).isEmpty();
+    }
+
+    @Test
+    void participation_shouldRestoreNullLength_whenRowHasNoLength() {
+        //given - store built in setUp
+
+        //when & then
+        assertThat(store.participationsForMember(1L))
+                .containsExactly(new Participation(1L, 10L, 3L, null), new Participation(1L, 20L, 2L, null));
+        assertThat(store.participationsForSurvey(10L))
+                .contains(new Participation(3L, 10L, 4L, 7));
+    }
+
+    @Test
+    void withAppended_shouldMatchStoreBuiltFromAllRows_whenDeltaAddsNewAndExistingIds() {
+        //given
+        ParticipationStore delta = ParticipationStore.builder()
+                .add(new Participation(1L, 30L, 4L, 9))
+                .add(new Participation(4L, 10L, 1L, null))
+                .add(new Participation(1L, 10L, 4L, 3))
+                .build();
+
+        //when
+        ParticipationStore appended = store.withAppended(delta);
+
+        //then
+        assertThat(appended.size()).isEqualTo(7);
+        assertThat(appended.surveyCount()).isEqualTo(3);
+        assertThat(appended.memberCount()).isEqualTo(4);
+        assertThat(appended.participationsForSurvey(10L)).containsExactly(
+                new Participation(1L, 10L, 3L, null),
+                new Participation(3L, 10L, 4L, 7),
+                new Participation(4L, 10L, 1L, null),
+                new Participation(1L, 10L, 4L, 3));
+        assertThat(appended.participationsForMember(1L)).containsExactlyInAnyOrder(
+                new Participation(1L, 10L, 3L, null),
+                new Participation(1L, 20L, 2L, null),
+                new Participation(1L, 10L, 4L, 3),
+                new Participation(1L, 30L, 4L, 9));
+        assertThat(store.size()).isEqualTo(4);
+        assertThat(store.surveySlot(30L)).isNegative();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.survey.service.data;
+
+import com.survey.service.model.Participation;
+import com.survey.service.model.Survey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointsLedgerTest {
+
+    private ParticipationStore store;
+    private Map<Long, Survey> surveys;
+    private PointsLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        store = ParticipationStore.builder()
+                .add(new Participation(1L, 20L, 4L, 15))
+                .add(new Participation(1L, 10L, 3L, null))
+                .add(new Participation(1L, 99L, 4L, 5))
+                .add(new Participation(2L, 10L, 2L, null))
+                .add(new Participation(3L, 20L, 4L, 7))
+                .build();
+        surveys = Map.of(
+                10L, new Survey(10L, "Survey 10", 10, 5, 2),
+                20L, new Survey(20L, "Survey 20", 20, 10, 3)
+        );
+        ledger = PointsLedger.of(store, surveys);
+    }
+
+    @Test
+    void of_shouldPrecomputeTotalsAndEntries_whenMembersEarnedPoints() {
+        //given - ledger built in setUp
+
+        //when
+        int slot = ledger.slot(1L);
+
+        //then
+        assertThat(ledger.total(slot)).isEqualTo(12L);
+        assertThat(IntStream.range(ledger.entryStart(slot), ledger.entryEnd(slot)).mapToLong(ledger::entrySurveyId))
+                .containsExactly(10L, 20L);
+        assertThat(IntStream.range(ledger.entryStart(slot), ledger.entryEnd(slot)).map(ledger::entryPoints))
+                .containsExactly(2, 10);
+    }
+
+    @Test
+    void slot_shouldReturnNegativeSlot_whenMemberEarnedNoPoints() {
+        //given - ledger built in setUp
+
+        //when & then
+        assertThat(ledger.memberCount()).isEqualTo(2);
+        assertThat(ledger.slot(2L)).isNegative();
+        assertThat(ledger.slot(999L)).isNegative();
+    }
+
+    @Test
+    void ceilingEntry_shouldReturnFirstEntryAtOrAfterSurveyId_whenResumingFromCursor() {
+        //given
+        int slot = ledger.slot(1L);
+
+        //when & then
+        assertThat(ledger.entrySurveyId(ledger.ceilingEntry(slot, 20L))).isEqualTo(20L);
+        assertThat(ledger.entrySurveyId(ledger.ceilingEntry(slot, 11L))).isEqualTo(20L);
+        assertThat(ledger.ceilingEntry(slot, 21L)).isEqualTo(ledger.entryEnd(slot));
+    }
+
+    @Test
+    void withAppended_shouldMatchLedgerOfAllRows_whenDeltaTouchesExistingAndNewMembers() {
+        //given
+        ParticipationStore delta = ParticipationStore.builder()
+                .add(new Participation(1L, 10L, 4L, 3))
+                .add(new Participation(2L, 20L, 4L, 9))
+                .add(new Participation(4L, 10L, 3L, null))
+                .add(new Participation(5L, 10L, 1L, null))
+                .build();
+
+        //when
+        PointsLedger appended = ledger.withAppended(PointsLedger.of(delta, surveys));
+
+        //then
+        PointsLedger expected = PointsLedger.of(store.withAppended(delta), surveys);
+        assertThat(appended.memberCount()).isEqualTo(expected.memberCount()).isEqualTo(4);
+        for (int slot = 0; slot < expected.memberCount(); slot++) {
+            assertThat(appended.memberId(slot)).isEqualTo(expected.memberId(slot));
+            assertThat(appended.total(slot)).isEqualTo(expected.total(slot));
+            assertThat(IntStream.range(appended.entryStart(slot), appended.entryEnd(slot)).map(appended::entryPoints))
+                    .containsExactlyElementsOf(IntStream.range(expected.entryStart(slot), expected.entryEnd(slot))
+                            .map(expected::entryPoints).boxed().toList());
+        }
+        assertThat(appended.total(appended.slot(1L))).isEqualTo(17L);
+        assertThat(ledger.total(ledger.slot(1L))).isEqualTo(12L);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.survey.service.data;
+
+import com.survey.service.enums.ParticipationStatus;
+import com.survey.service.model.Member;
+import com.survey.service.model.Participation;
+import com.survey.service.model.Survey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotFileTest {
+
+    private static final List<SnapshotFile.SourceFile> SOURCES = List.of(
+            new SnapshotFile.SourceFile("members.csv", 120L, 1_000L, 11L),
+            new SnapshotFile.SourceFile("participation.csv", 4_000L, 2_000L, 22L));
+
+    @TempDir
+    private Path tempDir;
+
+    private Path file;
+    private DataSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("snapshot.bin");
+        snapshot = new DataSnapshot(3L,
+                Map.of(1L, new Member(1L, "John Doe", "john@example.com", true),
+                        2L, new Member(2L, "Jane Smith", null, false),
+                        3L, new Member(3L, "Zoë Ünal", "zoe@example.com", true)),
+                Map.of(10L, new Survey(10L, "Survey 10", 100, 10, 2),
+                        20L, new Survey(20L, "Survey 20", 50, 5, 1)),
+                ParticipationStore.builder()
+                        .add(new Participation(1L, 10L, 4L, 12))
+                        .add(new Participation(2L, 10L, 3L, null))
+                        .add(new Participation(1L, 20L, 2L, null))
+                        .build());
+    }
+
+    @Test
+    void read_shouldRestoreWrittenSnapshot_whenSourcesMatch() throws IOException {
+        //given
+        SnapshotFile.write(file, new SnapshotFile.Contents(snapshot, SOURCES, 4_000L, 3L));
+
+        //when
+        Optional<SnapshotFile.Contents> contents = SnapshotFile.read(file, 7L, SOURCES);
+
+        //then
+        assertThat(contents).isPresent();
+        DataSnapshot restored = contents.get().snapshot();
+        assertThat(restored.version()).isEqualTo(7L);
+        assertThat(restored.membersById()).isEqualTo(snapshot.membersById());
+        assertThat(restored.surveysById()).isEqualTo(snapshot.surveysById());
+        assertThat(restored.participations().participationsForMember(1L))
+                .isEqualTo(snapshot.participations().participationsForMember(1L));
+        assertThat(restored.participations().participationsForSurvey(10L))
+                .isEqualTo(snapshot.participations().participationsForSurvey(10L));
+        int slot = restored.surveyAggregates().slot(10L);
+        assertThat(restored.surveyAggregates().count(slot, ParticipationStatus.COMPLETED)).isEqualTo(1);
+        assertThat(restored.surveyAggregates().averageLength(slot)).isEqualTo(12.0);
+        assertThat(restored.participationBitsets().invitableOrdinals(10L).toArray())
+                .isEqualTo(snapshot.participationBitsets().invitableOrdinals(10L).toArray());
+        assertThat(restored.memberSearchIndex().search("zoë", 0, 10)).extracting(Member::id).containsExactly(3L);
+        assertThat(restored.memberEmailIndex().ordinal("ZOE@example.com"))
+                .isEqualTo(snapshot.memberEmailIndex().ordinal("zoe@example.com")).isNotNegative();
+        assertThat(contents.get().participationOffset()).isEqualTo(4_000L);
+        assertThat(contents.get().participationRecordCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void read_shouldReturnEmpty_whenSourceFileChanged() throws IOException {
+        //given
+        SnapshotFile.write(file, new SnapshotFile.Contents(snapshot, SOURCES, 4_000L, 3L));
+        List<SnapshotFile.SourceFile> changed = List.of(SOURCES.get(0),
+                new SnapshotFile.SourceFile("participation.csv", 4_100L, 2_500L, 23L));
+
+        //when
+        Optional<SnapshotFile.Contents> contents = SnapshotFile.read(file, 7L, changed);
+
+        //then
+        assertThat(contents).isEmpty();
+    }
+
+    @Test
+    void read_shouldReturnEmpty_whenFileIsMissingOrForeign() throws IOException {
+        //given
+        Path foreign = Files.write(tempDir.resolve("foreign.bin"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        //when & then
+        assertThat(SnapshotFile.read(file, 1L, SOURCES)).isEmpty();
+        assertThat(SnapshotFile.read(foreign, 1L, SOURCES)).isEmpty();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.survey.service.data;
+
+import com.survey.service.enums.ParticipationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SurveyAggregatesTest {
+
+    @Test
+    void lengthSum_shouldNotOverflow_whenLengthsExceedIntRange() {
+        //given
+        SurveyAggregates.Builder builder = SurveyAggregates.builder(List.of(1L));
+
+        //when
+        builder.add(1L, (byte) 4, Integer.MAX_VALUE)
+                .add(1L, (byte) 4, Integer.MAX_VALUE);
+        SurveyAggregates aggregates = builder.build();
+
+        //then
+        assertThat(aggregates.lengthSum(aggregates.slot(1L))).isEqualTo(2L * Integer.MAX_VALUE);
+        assertThat(aggregates.averageLength(aggregates.slot(1L))).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void toBuilder_shouldApplyDeltaWithoutChangingOriginal_whenRowsAreAdded() {
+        //given
+        SurveyAggregates original = SurveyAggregates.builder(List.of(1L, 2L))
+                .add(1L, (byte) 4, 10)
+                .add(1L, (byte) 2, ParticipationStore.NO_LENGTH)
+                .build();
+
+        //when
+        SurveyAggregates updated = original.toBuilder()
+                .add(1L, (byte) 4, 20)
+                .add(2L, (byte) 3, ParticipationStore.NO_LENGTH)
+                .add(99L, (byte) 4, 5)
+                .build();
+
+        //then
+        assertThat(original.count(original.slot(1L), ParticipationStatus.COMPLETED)).isEqualTo(1);
+        assertThat(updated.count(updated.slot(1L), ParticipationStatus.COMPLETED)).isEqualTo(2);
+        assertThat(updated.count(updated.slot(1L), ParticipationStatus.REJECTED)).isEqualTo(1);
+        assertThat(updated.count(updated.slot(2L), ParticipationStatus.FILTERED)).isEqualTo(1);
+        assertThat(updated.averageLength(updated.slot(1L))).isEqualTo(15.0);
+        assertThat(updated.slot(99L)).isNegative();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,278 @@
+package com.survey.service.data;
+
+import com.survey.service.enums.ParticipationStatus;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator for members.csv, surveys.csv and participation.csv in the format of the bundled
+ * data. The same seed and settings always produce byte-identical files.
+ * <p>
+ * Every member gets an even share of the participations, each in a distinct survey. Surveys are drawn from a
+ * Zipf distribution with the configured exponent (0 is uniform), mapped to survey ids in shuffled order so
+ * the popular surveys are spread over the id range. Statuses are drawn with the configured relative weights
+ * (not asked, rejected, filtered, completed).
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec@dataset -Ddataset.args="--members=1000000
+ * --participations=10000000 --survey-skew=1.0 --out=target/dataset"}; the directory can then be passed
+ * to the load test as {@code --data-dir}.
+ */
+public final class SyntheticDataset {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final int members;
+    private final int surveys;
+    private final long participations;
+    private final long seed;
+    private final double inactiveRatio;
+    private final double surveySkew;
+    private final double[] statusWeights;
+
+    private SyntheticDataset(Builder builder) {
+        this.members = builder.members;
+        this.surveys = builder.surveys;
+        this.participations = builder.participations;
+        this.seed = builder.seed;
+        this.inactiveRatio = builder.inactiveRatio;
+        this.surveySkew = builder.surveySkew;
+        this.statusWeights = builder.statusWeights;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static void main(String[] args) throws IOException {
+        Builder builder = builder();
+        Path out = Path.of("target/dataset");
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--members=")) {
+                builder.members(Integer.parseInt(value));
+            } else if (arg.startsWith("--surveys=")) {
+                builder.surveys(Integer.parseInt(value));
+            } else if (arg.startsWith("--participations=")) {
+                builder.participations(Long.parseLong(value));
+            } else if (arg.startsWith("--seed=")) {
+                builder.seed(Long.parseLong(value));
+            } else if (arg.startsWith("--inactive-ratio=")) {
+                builder.inactiveRatio(Double.parseDouble(value));
+            } else if (arg.startsWith("--survey-skew=")) {
+                builder.surveySkew(Double.parseDouble(value));
+            } else if (arg.startsWith("--status-weights=")) {
+                builder.statusWeights(Arrays.stream(value.split(",")).mapToDouble(Double::parseDouble).toArray());
+            } else if (arg.startsWith("--out=")) {
+                out = Path.of(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        SyntheticDataset dataset = builder.build();
+        dataset.write(out);
+        System.out.printf("Wrote %d members, %d surveys and %d participations to %s%n",
+                dataset.members, dataset.surveys, dataset.participations, out.toAbsolutePath());
+    }
+
+    /**
+     * Writes the three CSV files into {@code directory}, creating it if needed.
+     */
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        SplittableRandom random = new SplittableRandom(seed);
+        writeMembers(directory.resolve("members.csv"), random.split());
+        writeSurveys(directory.resolve("surveys.csv"), random.split());
+        writeParticipations(directory.resolve("participation.csv"), random.split());
+    }
+
+    private void writeMembers(Path file, SplittableRandom random) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(Files.newBufferedWriter(file), BUFFER_SIZE)) {
+            writer.write("Member Id,Full name,E-mail address,Is Active\n");
+            for (int id = 1; id <= members; id++) {
+                writer.write(id + ",Member " + id + ",member" + id + "@example.com,"
+                        + (random.nextDouble() < inactiveRatio ? 0 : 1) + "\n");
+            }
+        }
+    }
+
+    private void writeSurveys(Path file, SplittableRandom random) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(Files.newBufferedWriter(file), BUFFER_SIZE)) {
+            writer.write("Survey Id,Name,Expected completes,Completion points,Filtered points\n");
+            for (int id = 1; id <= surveys; id++) {
+                writer.write(id + ",Survey " + id + "," + random.nextInt(10, 500) + "," + random.nextInt(5, 51)
+                        + "," + random.nextInt(1, 6) + "\n");
+            }
+        }
+    }
+
+    private void writeParticipations(Path file, SplittableRandom random) throws IOException {
+        double[] surveyCdf = cumulative(zipfWeights());
+        double[] statusCdf = cumulative(statusWeights);
+        int[] surveyIdsByRank = shuffledSurveyIds(random);
+        boolean[] taken = new boolean[surveys];
+        int[] chosen = new int[surveys];
+
+        long perMember = participations / members;
+        long remainder = participations % members;
+        try (BufferedWriter writer = new BufferedWriter(Files.newBufferedWriter(file), BUFFER_SIZE)) {
+            writer.write("Member Id,Survey Id,Status,Length\n");
+            StringBuilder row = new StringBuilder(32);
+            for (int member = 1; member <= members; member++) {
+                int count = (int) (perMember + (member <= remainder ? 1 : 0));
+                int picked = pickSurveys(count, surveyCdf, random, taken, chosen);
+                for (int i = 0; i < picked; i++) {
+                    // Status ids run from 1 (not asked) to 4 (completed), in the order of the weights
+                    long status = rank(statusCdf, random.nextDouble()) + 1L;
+                    row.setLength(0);
+                    row.append(member).append(',').append(surveyIdsByRank[chosen[i]]).append(',').append(status)
+                            .append(',');
+                    if (status == ParticipationStatus.COMPLETED.getId()) {
+                        row.append(random.nextInt(1, 61));
+                    }
+                    writer.append(row).append('\n');
+                    taken[chosen[i]] = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws {@code count} distinct survey ranks into {@code chosen}. When the skew makes further distinct
+     * draws unlikely, the remaining ranks are filled with the most popular ranks not yet taken.
+     */
+    private int pickSurveys(int count, double[] surveyCdf, SplittableRandom random, boolean[] taken, int[] chosen) {
+        int picked = 0;
+        int attempts = 0;
+        while (picked < count && attempts < count * 16) {
+            attempts++;
+            int rank = rank(surveyCdf, random.nextDouble());
+            if (!taken[rank]) {
+                taken[rank] = true;
+                chosen[picked++] = rank;
+            }
+        }
+        for (int rank = 0; picked < count && rank < surveys; rank++) {
+            if (!taken[rank]) {
+                taken[rank] = true;
+                chosen[picked++] = rank;
+            }
+        }
+        return picked;
+    }
+
+    private static int rank(double[] cdf, double value) {
+        int position = Arrays.binarySearch(cdf, value);
+        return Math.min(position >= 0 ? position + 1 : -position - 1, cdf.length - 1);
+    }
+
+    private double[] zipfWeights() {
+        double[] weights = new double[surveys];
+        for (int rank = 0; rank < surveys; rank++) {
+            weights[rank] = 1.0 / Math.pow(rank + 1, surveySkew);
+        }
+        return weights;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double total = Arrays.stream(weights).sum();
+        double[] cdf = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cdf[i] = sum / total;
+        }
+        cdf[cdf.length - 1] = 1.0;
+        return cdf;
+    }
+
+    private int[] shuffledSurveyIds(SplittableRandom random) {
+        int[] ids = new int[surveys];
+        for (int i = 0; i < surveys; i++) {
+            ids[i] = i + 1;
+        }
+        for (int i = surveys - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+        return ids;
+    }
+
+    public static final class Builder {
+
+        private int members = 100_000;
+        private int surveys = 1_000;
+        private long participations = 1_000_000;
+        private long seed = 42L;
+        private double inactiveRatio = 0.2;
+        private double surveySkew = 0.0;
+        private double[] statusWeights = {1, 1, 1, 1};
+
+        private Builder() {
+        }
+
+        public Builder members(int members) {
+            this.members = members;
+            return this;
+        }
+
+        public Builder surveys(int surveys) {
+            this.surveys = surveys;
+            return this;
+        }
+
+        public Builder participations(long participations) {
+            this.participations = participations;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Share of members written as inactive, between 0 and 1.
+         */
+        public Builder inactiveRatio(double inactiveRatio) {
+            this.inactiveRatio = inactiveRatio;
+            return this;
+        }
+
+        /**
+         * Zipf exponent of survey popularity; 0 spreads participations evenly, around 1 concentrates
+         * them on a few surveys.
+         */
+        public Builder surveySkew(double surveySkew) {
+            this.surveySkew = surveySkew;
+            return this;
+        }
+
+        /**
+         * Relative weights of not asked, rejected, filtered and completed participations.
+         */
+        public Builder statusWeights(double... statusWeights) {
+            this.statusWeights = statusWeights.clone();
+            return this;
+        }
+
+        public SyntheticDataset build() {
+            if (members <= 0 || surveys <= 0 || participations < 0) {
+                throw new IllegalArgumentException("Members and surveys must be positive, participations non-negative");
+            }
+            if (participations > (long) members * surveys) {
+                throw new IllegalArgumentException("At most members * surveys participations fit without duplicates");
+            }
+            if (statusWeights.length != ParticipationStatus.values().length) {
+                throw new IllegalArgumentException("Expected one status weight per participation status");
+            }
+            return new SyntheticDataset(this);
+        }
+    }
+}
\ No newline at end of file
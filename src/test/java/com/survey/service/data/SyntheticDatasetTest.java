@@ -0,0 +1,54 @@
+package com.survey.service.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticDatasetTest {
+
+    @TempDir
+    private Path dataDir;
+
+    @Test
+    void write_shouldProduceIdenticalFiles_whenSeedIsTheSame() throws IOException {
+        //given
+        SyntheticDataset dataset = SyntheticDataset.builder().members(200).surveys(20).participations(2_000).build();
+
+        //when
+        dataset.write(dataDir.resolve("first"));
+        dataset.write(dataDir.resolve("second"));
+
+        //then
+        for (String file : new String[]{"members.csv", "surveys.csv", "participation.csv"}) {
+            assertThat(dataDir.resolve("second").resolve(file)).hasSameBinaryContentAs(dataDir.resolve("first").resolve(file));
+        }
+        assertThat(Files.readAllLines(dataDir.resolve("first").resolve("participation.csv"))).hasSize(2_001);
+    }
+
+    @Test
+    void write_shouldConcentrateParticipationsOnFewSurveys_whenSurveySkewIsHigh() throws IOException {
+        //given
+        SyntheticDataset dataset = SyntheticDataset.builder()
+                .members(1_000).surveys(100).participations(5_000).surveySkew(1.2).statusWeights(0, 0, 0, 1).build();
+
+        //when
+        dataset.write(dataDir);
+
+        //then
+        Map<String, Long> rowsPerSurvey = Files.readAllLines(dataDir.resolve("participation.csv")).stream()
+                .skip(1)
+                .map(line -> line.split(",")[1])
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        assertThat(rowsPerSurvey.values().stream().mapToLong(Long::longValue).max().orElseThrow()).isGreaterThan(500);
+        assertThat(Files.readAllLines(dataDir.resolve("participation.csv")).stream().skip(1))
+                .allMatch(line -> line.split(",")[2].equals("4"));
+    }
+}
\ No newline at end of file
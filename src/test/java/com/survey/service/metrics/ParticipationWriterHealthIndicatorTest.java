@@ -0,0 +1,51 @@
+package com.survey.service.metrics;
+
+import com.survey.service.service.ParticipationWriteService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipationWriterHealthIndicatorTest {
+
+    @Mock
+    private ParticipationWriteService participationWriteService;
+
+    @InjectMocks
+    private ParticipationWriterHealthIndicator healthIndicator;
+
+    @Test
+    void health_shouldBeUp_whenLastPublishSucceeded() {
+        //given
+        when(participationWriteService.pendingCount()).thenReturn(3);
+
+        //when
+        Health health = healthIndicator.health();
+
+        //then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("pending", 3);
+    }
+
+    @Test
+    void health_shouldBeDown_whenLastPublishFailed() {
+        //given
+        when(participationWriteService.lastPublishFailure()).thenReturn(new IllegalStateException("disk full"));
+        when(participationWriteService.pendingCount()).thenReturn(250);
+
+        //when
+        Health health = healthIndicator.health();
+
+        //then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("pending", 250)
+                .containsEntry("error", "java.lang.IllegalStateException: disk full");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.survey.service.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestMetricsFilterTest {
+
+    private static final String POINTS_URI = "/api/members/{memberId}/points";
+
+    private PrometheusMeterRegistry meterRegistry;
+    private RequestMetricsFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        filter = new RequestMetricsFilter(meterRegistry);
+        request = new MockHttpServletRequest("GET", "/api/members/1/points");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, POINTS_URI);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void doFilter_shouldTimeRequestPerUriPatternAndOutcome_whenHandlerCompletes() throws Exception {
+        //given
+        FilterChain notFound = (req, res) -> response.setStatus(404);
+
+        //when
+        filter.doFilter(request, response, (req, res) -> { });
+        filter.doFilter(request, response, (req, res) -> { });
+        filter.doFilter(request, response, notFound);
+
+        //then
+        assertThat(timer(POINTS_URI, "SUCCESS").count()).isEqualTo(2);
+        assertThat(timer(POINTS_URI, "CLIENT_ERROR").count()).isEqualTo(1);
+        assertThat(meterRegistry.scrape()).contains(
+                "survey_requests_seconds_bucket{outcome=\"SUCCESS\",uri=\"" + POINTS_URI + "\",le=\"+Inf\",} 2.0");
+    }
+
+    @Test
+    void doFilter_shouldRecordServerError_whenHandlerThrows() {
+        //given
+        request.removeAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        FilterChain failing = (req, res) -> {
+            throw new ServletException("boom");
+        };
+
+        //when / then
+        assertThatThrownBy(() -> filter.doFilter(request, response, failing)).isInstanceOf(ServletException.class);
+        assertThat(timer("UNKNOWN", "SERVER_ERROR").count()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_shouldNotAllocate_whenTimerIsRegistered() throws Exception {
+        //given
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        FilterChain chain = (req, res) -> { };
+        int requests = 100_000;
+        for (int i = 0; i < requests; i++) {
+            filter.doFilter(request, response, chain);
+        }
+
+        //when
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < requests; i++) {
+            filter.doFilter(request, response, chain);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        //then
+        assertThat(allocated / requests).isZero();
+        assertThat(timer(POINTS_URI, "SUCCESS").count()).isEqualTo(2L * requests);
+    }
+
+    private Timer timer(String uri, String outcome) {
+        return meterRegistry.get(RequestMetricsFilter.METER_NAME).tag("uri", uri).tag("outcome", outcome).timer();
+    }
+}
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.survey.service.service;
 
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.ParticipationStore;
 import com.survey.service.enums.ParticipationStatus;
 import com.survey.service.model.Member;
 import com.survey.service.model.Participation;
@@ -22,8 +24,7 @@ public abstract class BaseServiceTest {
 
     protected Map<Long, Member> testMembers;
     protected Map<Long, Survey> testSurveys;
-    protected Map<Long, List<Participation>> testParticipationsByMember;
-    protected Map<Long, List<Participation>> testParticipationsBySurvey;
+    protected List<Participation> testParticipations;
 
     @BeforeEach
     void baseSetUp() {
@@ -46,39 +47,27 @@ public abstract class BaseServiceTest {
                 4L, new Survey(4L, "Survey 4", 25, 12, 4)
         );
 
-        testParticipationsByMember = Map.of(
-                1L, List.of(
-                        new Participation(1L, 1L, ParticipationStatus.COMPLETED.getId(), 15),
-                        new Participation(1L, 2L, ParticipationStatus.FILTERED.getId(), null)
-                ),
-                2L, List.of(
-                        new Participation(2L, 1L, ParticipationStatus.COMPLETED.getId(), 20),
-                        new Participation(2L, 3L, ParticipationStatus.REJECTED.getId(), null)
-                ),
-                3L, List.of(
-                        new Participation(3L, 1L, ParticipationStatus.NOT_ASKED.getId(), null)
-                )
-        );
-
-        testParticipationsBySurvey = Map.of(
-                1L, List.of(
-                        new Participation(1L, 1L, ParticipationStatus.COMPLETED.getId(), 15),
-                        new Participation(2L, 1L, ParticipationStatus.COMPLETED.getId(), 20),
-                        new Participation(3L, 1L, ParticipationStatus.NOT_ASKED.getId(), null)
-                ),
-                2L, List.of(
-                        new Participation(1L, 2L, ParticipationStatus.FILTERED.getId(), null)
-                ),
-                3L, List.of(
-                        new Participation(2L, 3L, ParticipationStatus.REJECTED.getId(), null)
-                )
+        testParticipations = List.of(
+                new Participation(1L, 1L, ParticipationStatus.COMPLETED.getId(), 15),
+                new Participation(1L, 2L, ParticipationStatus.FILTERED.getId(), null),
+                new Participation(2L, 1L, ParticipationStatus.COMPLETED.getId(), 20),
+                new Participation(2L, 3L, ParticipationStatus.REJECTED.getId(), null),
+                new Participation(3L, 1L, ParticipationStatus.NOT_ASKED.getId(), null)
         );
     }
 
     protected void setupMocks() {
-        lenient().when(dataLoaderService.getMembersById()).thenReturn(testMembers);
-        lenient().when(dataLoaderService.getSurveysById()).thenReturn(testSurveys);
-        lenient().when(dataLoaderService.getParticipationsByMemberId()).thenReturn(testParticipationsByMember);
-        lenient().when(dataLoaderService.getParticipationsBySurveyId()).thenReturn(testParticipationsBySurvey);
+        mockSnapshot(testParticipations);
+    }
+
+    protected void mockSnapshot(List<Participation> participations) {
+        mockSnapshot(1L, participations);
+    }
+
+    protected void mockSnapshot(long version, List<Participation> participations) {
+        ParticipationStore.Builder store = ParticipationStore.builder();
+        participations.forEach(store::add);
+        DataSnapshot snapshot = new DataSnapshot(version, testMembers, testSurveys, store.build());
+        lenient().when(dataLoaderService.getSnapshot()).thenReturn(snapshot);
     }
 }
\ No newline at end of file
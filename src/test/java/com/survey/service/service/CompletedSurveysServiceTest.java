@@ -1,5 +1,6 @@
 package com.survey.service.service;
 
+import com.survey.service.dto.CompletedSurveysBatchEntryDto;
 import com.survey.service.model.Survey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 class CompletedSurveysServiceTest extends BaseServiceTest {
 
@@ -54,4 +56,20 @@ class CompletedSurveysServiceTest extends BaseServiceTest {
         //then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    void fetchCompletedSurveysBatch_shouldReportUnknownMembersInline_whenBatchMixesKnownAndUnknownMembers() {
+        //given
+        List<Long> memberIds = List.of(2L, 999L, 3L);
+
+        //when
+        List<CompletedSurveysBatchEntryDto> result = completedSurveysService.fetchCompletedSurveysBatch(memberIds);
+
+        //then
+        assertThat(result).extracting(CompletedSurveysBatchEntryDto::memberId, CompletedSurveysBatchEntryDto::found)
+                .containsExactly(tuple(2L, true), tuple(999L, false), tuple(3L, true));
+        assertThat(result.get(0).surveys()).extracting(Survey::id).containsExactly(1L);
+        assertThat(result.get(1).surveys()).isEmpty();
+        assertThat(result.get(2).surveys()).isEmpty();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.survey.service.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DataFileWatcherTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Mock
+    private DataLoaderService dataLoaderService;
+
+    private Path membersFile;
+    private Path participationFile;
+    private List<Resource> resources;
+    private List<DataFileState> loadedStates;
+    private DataFileWatcher watcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        membersFile = Files.writeString(tempDir.resolve("members.csv"), "Member Id,Full name,E-mail address,Is Active\n");
+        participationFile = Files.writeString(tempDir.resolve("participation.csv"), "Member Id,Survey Id,Status,Length\n");
+        resources = List.of(new FileSystemResource(membersFile), new FileSystemResource(participationFile));
+        loadedStates = DataFileState.of(resources);
+        when(dataLoaderService.getDataResources()).thenReturn(resources);
+        lenient().when(dataLoaderService.getLoadedFileStates()).thenAnswer(invocation -> loadedStates);
+        // Like the real loader, every load records the files it read
+        lenient().when(dataLoaderService.reload()).thenAnswer(invocation -> {
+            loadedStates = DataFileState.of(resources);
+            return null;
+        });
+        lenient().when(dataLoaderService.appendParticipations()).thenAnswer(invocation -> {
+            loadedStates = DataFileState.of(resources);
+            return null;
+        });
+        watcher = new DataFileWatcher(dataLoaderService, Duration.ofHours(1), false);
+        watcher.start();
+    }
+
+    @Test
+    void poll_shouldNotReload_whenFilesAreUnchanged() {
+        //given - files written in setUp
+
+        //when
+        watcher.poll();
+        watcher.poll();
+        watcher.stop();
+
+        //then
+        verify(dataLoaderService, never()).reload();
+        verify(dataLoaderService, never()).appendParticipations();
+    }
+
+    @Test
+    void poll_shouldReloadOnce_whenChangeHasSettled() throws IOException {
+        //given
+        Files.writeString(membersFile, "Member Id,Full name,E-mail address,Is Active\n1,John Doe,john@example.com,1\n");
+
+        //when
+        watcher.poll();
+        verify(dataLoaderService, never()).reload();
+        watcher.poll();
+        watcher.poll();
+        watcher.stop();
+
+        //then
+        verify(dataLoaderService, times(1)).reload();
+        verify(dataLoaderService, never()).appendParticipations();
+    }
+
+    @Test
+    void poll_shouldOnlyLoadAppendedRows_whenParticipationFileGrew() throws IOException {
+        //given
+        Files.writeString(participationFile, "1,1,4,10\n", StandardOpenOption.APPEND);
+
+        //when
+        watcher.poll();
+        watcher.poll();
+        watcher.stop();
+
+        //then
+        verify(dataLoaderService, times(1)).appendParticipations();
+        verify(dataLoaderService, never()).reload();
+    }
+
+    @Test
+    void poll_shouldNotReload_whenChangeWasAlreadyLoadedElsewhere() throws IOException {
+        //given
+        Files.writeString(membersFile, "Member Id,Full name,E-mail address,Is Active\n1,John Doe,john@example.com,1\n");
+        watcher.poll();
+        // e.g. POST /api/admin/data/reload
+        loadedStates = DataFileState.of(resources);
+
+        //when
+        watcher.poll();
+        watcher.poll();
+        watcher.stop();
+
+        //then
+        verify(dataLoaderService, never()).reload();
+        verify(dataLoaderService, never()).appendParticipations();
+    }
+
+    @Test
+    void poll_shouldNotRetry_whenReloadFailedAndFilesAreUnchanged() throws IOException {
+        //given
+        when(dataLoaderService.reload()).thenThrow(new IllegalStateException("broken file"));
+        Files.writeString(membersFile, "Member Id,Full name,E-mail address,Is Active\n1,John Doe,john@example.com,1\n");
+
+        //when
+        watcher.poll();
+        watcher.poll();
+        watcher.poll();
+        watcher.poll();
+        watcher.stop();
+
+        //then
+        verify(dataLoaderService, times(1)).reload();
+    }
+}
\ No newline at end of file
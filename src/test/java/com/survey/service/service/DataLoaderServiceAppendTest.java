@@ -0,0 +1,125 @@
+package com.survey.service.service;
+
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.ParticipationStore;
+import com.survey.service.data.SurveyAggregates;
+import com.survey.service.enums.ParticipationStatus;
+import com.survey.service.model.Participation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class DataLoaderServiceAppendTest {
+
+    @TempDir
+    private static Path dataDir;
+
+    @Autowired
+    private DataLoaderService dataLoaderService;
+
+    @DynamicPropertySource
+    static void dataFiles(DynamicPropertyRegistry registry) {
+        registry.add("data.members.file", () -> copy("test-members.csv", "members.csv"));
+        registry.add("data.surveys.file", () -> copy("test-surveys.csv", "surveys.csv"));
+        registry.add("data.participation.file", () -> copy("test-participation.csv", "participation.csv"));
+    }
+
+    @Test
+    void appendParticipations_shouldPublishOnlyAppendedRows_whenParticipationFileGrew() throws IOException {
+        //given
+        DataSnapshot before = dataLoaderService.getSnapshot();
+        Files.writeString(dataDir.resolve("participation.csv"), "\n2,2,4,30\n1,3,4,6\n", StandardOpenOption.APPEND);
+
+        //when
+        DataSnapshot appended = dataLoaderService.appendParticipations();
+
+        //then
+        assertThat(appended.version()).isGreaterThan(before.version());
+        assertThat(dataLoaderService.getSnapshot()).isSameAs(appended);
+        assertThat(appended.participations().size()).isEqualTo(9);
+        assertThat(appended.participations().participationsForMember(2L))
+                .contains(new Participation(2L, 2L, 4L, 30));
+        int surveySlot = appended.surveyAggregates().slot(2L);
+        assertThat(appended.surveyAggregates().count(surveySlot, ParticipationStatus.COMPLETED)).isEqualTo(2);
+        assertThat(appended.participationBitsets().invitableOrdinals(2L)
+                .mapToObj(ordinal -> appended.memberIndex().memberId(ordinal)).toList()).doesNotContain(2L);
+        assertThat(appended.membersById()).isSameAs(before.membersById());
+        assertThat(before.participations().size()).isEqualTo(7);
+    }
+
+    @Test
+    void appendParticipations_shouldKeepSnapshot_whenNothingWasAppended() {
+        //given
+        DataSnapshot before = dataLoaderService.getSnapshot();
+
+        //when
+        DataSnapshot result = dataLoaderService.appendParticipations();
+
+        //then
+        assertThat(result).isSameAs(before);
+    }
+
+    @Test
+    void appendParticipations_shouldFallBackToFullReload_whenFileShrank() throws IOException {
+        //given
+        DataSnapshot before = dataLoaderService.getSnapshot();
+        Files.writeString(dataDir.resolve("participation.csv"), "Member Id,Survey Id,Status,Length\n1,1,4,15\n");
+
+        //when
+        DataSnapshot reloaded = dataLoaderService.appendParticipations();
+
+        //then
+        assertThat(reloaded.version()).isGreaterThan(before.version());
+        assertThat(reloaded.participations().size()).isEqualTo(1);
+        SurveyAggregates aggregates = reloaded.surveyAggregates();
+        assertThat(aggregates.count(aggregates.slot(1L), ParticipationStatus.COMPLETED)).isEqualTo(1);
+        assertThat(aggregates.count(aggregates.slot(2L), ParticipationStatus.COMPLETED)).isZero();
+    }
+
+    @Test
+    void appendRecordedParticipations_shouldKeepRecordedRows_whenDataIsReloaded() {
+        //given
+        DataSnapshot before = dataLoaderService.getSnapshot();
+        ParticipationStore recorded = ParticipationStore.builder()
+                .add(new Participation(3L, 2L, 4L, 25))
+                .build();
+
+        //when
+        DataSnapshot appended = dataLoaderService.appendRecordedParticipations(recorded);
+        DataSnapshot reloaded = dataLoaderService.reload();
+
+        //then
+        assertThat(appended.version()).isGreaterThan(before.version());
+        assertThat(appended.participations().size()).isEqualTo(8);
+        assertThat(reloaded.participations().size()).isEqualTo(8);
+        assertThat(reloaded.participations().participationsForMember(3L)).contains(new Participation(3L, 2L, 4L, 25));
+        int surveySlot = reloaded.surveyAggregates().slot(2L);
+        assertThat(reloaded.surveyAggregates().count(surveySlot, ParticipationStatus.COMPLETED)).isEqualTo(2);
+    }
+
+    private static String copy(String resource, String fileName) {
+        Path target = dataDir.resolve(fileName);
+        try (InputStream input = new ClassPathResource("data/" + resource).getInputStream()) {
+            Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return "file:" + target;
+    }
+}
\ No newline at end of file
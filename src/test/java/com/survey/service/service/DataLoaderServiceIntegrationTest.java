@@ -1,5 +1,7 @@
 package com.survey.service.service;
 
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.ParticipationStore;
 import com.survey.service.model.Member;
 import com.survey.service.model.Participation;
 import com.survey.service.model.Survey;
@@ -28,14 +30,14 @@ class DataLoaderServiceIntegrationTest {
         //when
         Map<Long, Member> members = dataLoaderService.getMembersById();
         Map<Long, Survey> surveys = dataLoaderService.getSurveysById();
-        Map<Long, List<Participation>> participationsByMember = dataLoaderService.getParticipationsByMemberId();
-        Map<Long, List<Participation>> participationsBySurvey = dataLoaderService.getParticipationsBySurveyId();
+        ParticipationStore participations = dataLoaderService.getParticipations();
 
         //then
         assertThat(members).hasSize(4);
         assertThat(surveys).hasSize(3);
-        assertThat(participationsByMember).hasSize(4);
-        assertThat(participationsBySurvey).hasSize(3);
+        assertThat(participations.memberCount()).isEqualTo(4);
+        assertThat(participations.surveyCount()).isEqualTo(3);
+        assertThat(participations.size()).isEqualTo(7);
     }
 
     @Test
@@ -73,19 +75,18 @@ class DataLoaderServiceIntegrationTest {
         //given - test CSV files are loaded automatically via @PostConstruct
 
         //when
-        Map<Long, List<Participation>> participationsByMember = dataLoaderService.getParticipationsByMemberId();
-        Map<Long, List<Participation>> participationsBySurvey = dataLoaderService.getParticipationsBySurveyId();
+        ParticipationStore participations = dataLoaderService.getParticipations();
 
         //then
         // Test participations by member
-        List<Participation> member1Participations = participationsByMember.get(1L);
+        List<Participation> member1Participations = participations.participationsForMember(1L);
         assertThat(member1Participations).hasSize(2)
                 .contains(
                         new Participation(1L, 1L, 4L, 15),
                         new Participation(1L, 2L, 3L, null)
                 );
 
-        List<Participation> member2Participations = participationsByMember.get(2L);
+        List<Participation> member2Participations = participations.participationsForMember(2L);
         assertThat(member2Participations).hasSize(2)
                 .contains(
                         new Participation(2L, 1L, 4L, 20),
@@ -93,7 +94,7 @@ class DataLoaderServiceIntegrationTest {
                 );
 
         // Test participations by survey
-        List<Participation> survey1Participations = participationsBySurvey.get(1L);
+        List<Participation> survey1Participations = participations.participationsForSurvey(1L);
         assertThat(survey1Participations).hasSize(3)
                 .contains(
                         new Participation(1L, 1L, 4L, 15),
@@ -107,10 +108,10 @@ class DataLoaderServiceIntegrationTest {
         //given - test CSV files are loaded automatically via @PostConstruct
 
         //when
-        Map<Long, List<Participation>> participationsByMember = dataLoaderService.getParticipationsByMemberId();
+        ParticipationStore participations = dataLoaderService.getParticipations();
 
         //then
-        List<Participation> member1Participations = participationsByMember.get(1L);
+        List<Participation> member1Participations = participations.participationsForMember(1L);
         Participation participationWithNullLength = member1Participations.stream()
                 .filter(p -> p.surveyId().equals(2L))
                 .findFirst()
@@ -124,10 +125,10 @@ class DataLoaderServiceIntegrationTest {
         //given - test CSV files are loaded automatically via @PostConstruct
 
         //when
-        Map<Long, List<Participation>> participationsByMember = dataLoaderService.getParticipationsByMemberId();
+        ParticipationStore participations = dataLoaderService.getParticipations();
 
         //then
-        List<Participation> member1Participations = participationsByMember.get(1L);
+        List<Participation> member1Participations = participations.participationsForMember(1L);
         Participation participationWithLength = member1Participations.stream()
                 .filter(p -> p.surveyId().equals(1L))
                 .findFirst()
@@ -136,4 +137,32 @@ class DataLoaderServiceIntegrationTest {
         assertThat(participationWithLength.length()).isEqualTo(15);
     }
 
+    @Test
+    void getSnapshot_shouldHandOutPublishedDataByReference_whenAccessedRepeatedly() {
+        //given - test CSV files are loaded automatically via @PostConstruct
+
+        //when
+        DataSnapshot snapshot = dataLoaderService.getSnapshot();
+
+        //then
+        assertThat(snapshot.version()).isPositive();
+        assertThat(dataLoaderService.getSnapshot()).isSameAs(snapshot);
+        assertThat(dataLoaderService.getSurveysById()).isSameAs(snapshot.surveysById());
+        assertThat(dataLoaderService.getParticipations()).isSameAs(snapshot.participations());
+    }
+
+    @Test
+    void reload_shouldPublishNewSnapshot_whileEarlierSnapshotStaysIntact() {
+        //given
+        DataSnapshot before = dataLoaderService.getSnapshot();
+
+        //when
+        DataSnapshot reloaded = dataLoaderService.reload();
+
+        //then
+        assertThat(reloaded.version()).isGreaterThan(before.version());
+        assertThat(dataLoaderService.getSnapshot()).isSameAs(reloaded);
+        assertThat(before.participations().size()).isEqualTo(7);
+        assertThat(reloaded.membersById()).isEqualTo(before.membersById());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,259 @@
+package com.survey.service.service;
+
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.ParticipationLog;
+import com.survey.service.data.ParticipationStore;
+import com.survey.service.enums.ParticipationStatus;
+import com.survey.service.model.Participation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+@SpringBootTest(properties = "data.wal.compaction.enabled=false")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class DataLoaderServiceParticipationLogTest {
+
+    private static final Participation LOGGED = new Participation(3L, 2L, 4L, 8);
+
+    @TempDir
+    private static Path dataDir;
+
+    @Autowired
+    private DataLoaderService dataLoaderService;
+
+    @DynamicPropertySource
+    static void dataFiles(DynamicPropertyRegistry registry) {
+        registry.add("data.members.file", () -> copy("test-members.csv", "members.csv"));
+        registry.add("data.surveys.file", () -> copy("test-surveys.csv", "surveys.csv"));
+        registry.add("data.participation.file", () -> copy("test-participation.csv", "participation.csv"));
+        registry.add("data.snapshot.file", DataLoaderServiceParticipationLogTest::snapshotFile);
+        registry.add("data.wal.file", DataLoaderServiceParticipationLogTest::seedLog);
+        registry.add("data.wal.compacted-file", DataLoaderServiceParticipationLogTest::compactedFile);
+    }
+
+    @Test
+    void loadData_shouldApplyLoggedParticipationsOnTopOfFiles_whenLogHoldsRows() {
+        //when
+        DataSnapshot loaded = dataLoaderService.getSnapshot();
+
+        //then
+        assertThat(loaded.participations().size()).isEqualTo(8);
+        assertThat(loaded.participations().participationsForMember(3L)).contains(LOGGED);
+        int surveySlot = loaded.surveyAggregates().slot(2L);
+        assertThat(loaded.surveyAggregates().count(surveySlot, ParticipationStatus.COMPLETED)).isEqualTo(2);
+        assertThat(dataDir.resolve("snapshot.bin")).doesNotExist();
+    }
+
+    @Test
+    void appendRecordedParticipations_shouldLogRetriedBatchOnce_whenSnapshotMergeFailedFirst() throws IOException {
+        //given
+        ParticipationStore batch = spy(rows(new Participation(1L, 3L, 4L, null)));
+        doThrow(new IllegalStateException("merge failed")).doCallRealMethod().when(batch).memberCount();
+        assertThatThrownBy(() -> dataLoaderService.appendRecordedParticipations(batch))
+                .isInstanceOf(IllegalStateException.class);
+
+        //when
+        DataSnapshot published = dataLoaderService.appendRecordedParticipations(batch);
+
+        //then
+        assertThat(published.participations().size()).isEqualTo(9);
+        dataLoaderService.persistOnShutdown();
+        try (ParticipationLog log = ParticipationLog.open(dataDir.resolve("participations.wal"), Duration.ZERO,
+                (memberId, surveyId, statusId, length) -> {
+                })) {
+            assertThat(log.rowCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void compactParticipationLog_shouldFoldLoggedRowsIntoCompactedFile_whenRowsWereRecorded() throws IOException {
+        //given
+        dataLoaderService.appendRecordedParticipations(rows(new Participation(1L, 3L, 4L, null)));
+        DataSnapshot before = dataLoaderService.getSnapshot();
+        String participationCsv = Files.readString(dataDir.resolve("participation.csv"));
+
+        //when
+        int folded = dataLoaderService.compactParticipationLog();
+
+        //then
+        assertThat(folded).isEqualTo(2);
+        assertThat(dataLoaderService.getSnapshot()).isSameAs(before);
+        assertThat(Files.readString(dataDir.resolve("participation.csv"))).isEqualTo(participationCsv);
+        assertThat(Files.readString(dataDir.resolve("compacted.csv")))
+                .isEqualTo("Member Id,Survey Id,Status,Length\n3,2,4,8\n1,3,4,\n");
+        assertThat(dataDir.resolve("snapshot.bin")).exists();
+        assertThat(dataLoaderService.compactParticipationLog()).isZero();
+
+        dataLoaderService.persistOnShutdown();
+        dataLoaderService.loadData();
+        assertThat(dataLoaderService.getParticipations().size()).isEqualTo(9);
+        assertThat(dataLoaderService.reload().participations().size()).isEqualTo(9);
+    }
+
+    @Test
+    void compactParticipationLog_shouldKeepEarlierFoldsAndExternalAppends_whenParticipationFileGrew()
+            throws IOException {
+        //given
+        dataLoaderService.compactParticipationLog();
+        dataLoaderService.appendRecordedParticipations(rows(new Participation(1L, 3L, 4L, null)));
+        Files.writeString(dataDir.resolve("participation.csv"), "\n4,1,2,14\n", StandardOpenOption.APPEND);
+
+        //when
+        int folded = dataLoaderService.compactParticipationLog();
+
+        //then
+        assertThat(folded).isEqualTo(1);
+        assertThat(Files.readString(dataDir.resolve("compacted.csv")))
+                .isEqualTo("Member Id,Survey Id,Status,Length\n3,2,4,8\n1,3,4,\n");
+        assertThat(dataLoaderService.appendParticipations().participations().size()).isEqualTo(10);
+        assertThat(dataLoaderService.reload().participations().size()).isEqualTo(10);
+    }
+
+    @Test
+    void loadData_shouldLoadRowsAppendedBeforeCompaction_whenTheyWereNotTailedYet() throws IOException {
+        //given
+        dataLoaderService.appendRecordedParticipations(rows(new Participation(1L, 3L, 4L, null)));
+        Files.writeString(dataDir.resolve("participation.csv"), "\n4,1,2,14\n", StandardOpenOption.APPEND);
+        dataLoaderService.compactParticipationLog();
+        dataLoaderService.persistOnShutdown();
+
+        //when
+        dataLoaderService.loadData();
+
+        //then
+        DataSnapshot loaded = dataLoaderService.getSnapshot();
+        assertThat(loaded.participations().size()).isEqualTo(10);
+        assertThat(loaded.participations().participationsForMember(4L))
+                .contains(new Participation(4L, 1L, 2L, 14));
+    }
+
+    @Test
+    void loadData_shouldReplayLogOnTopOfSnapshotFile_whenRowsWereLoggedAfterCompaction() {
+        //given
+        dataLoaderService.compactParticipationLog();
+        Participation recorded = new Participation(4L, 1L, 2L, 14);
+        dataLoaderService.appendRecordedParticipations(rows(recorded));
+        dataLoaderService.persistOnShutdown();
+
+        //when
+        dataLoaderService.loadData();
+
+        //then
+        DataSnapshot restored = dataLoaderService.getSnapshot();
+        assertThat(restored.participations().size()).isEqualTo(9);
+        assertThat(restored.participations().participationsForMember(4L)).contains(recorded);
+        assertThat(restored.participations().participationsForMember(3L)).containsOnlyOnce(LOGGED);
+    }
+
+    @Test
+    void loadData_shouldRollBackInterruptedFold_whenCompactedFileWasNotReplaced() throws IOException {
+        //given
+        dataLoaderService.persistOnShutdown();
+        String participationCsv = Files.readString(dataDir.resolve("participation.csv"));
+        beginFold(new ParticipationLog.Fold(0L, 43L));
+        Files.writeString(dataDir.resolve("compacted.csv.tmp"), "Member Id,Survey Id,Status,Length\n3,2,");
+
+        //when
+        dataLoaderService.loadData();
+
+        //then
+        assertThat(dataDir.resolve("compacted.csv.tmp")).doesNotExist();
+        assertThat(dataDir.resolve("compacted.csv")).doesNotExist();
+        assertThat(Files.readString(dataDir.resolve("participation.csv"))).isEqualTo(participationCsv);
+        assertThat(dataLoaderService.getParticipations().size()).isEqualTo(8);
+        assertThat(dataLoaderService.getParticipations().participationsForMember(3L)).containsOnlyOnce(LOGGED);
+    }
+
+    @Test
+    void loadData_shouldDropFoldedLog_whenCompactedFileWasReplacedBeforeCrash() throws IOException {
+        //given
+        dataLoaderService.persistOnShutdown();
+        String compacted = "Member Id,Survey Id,Status,Length\n3,2,4,8\n";
+        beginFold(new ParticipationLog.Fold(0L, compacted.length()));
+        Files.writeString(dataDir.resolve("compacted.csv"), compacted);
+
+        //when
+        dataLoaderService.loadData();
+
+        //then
+        assertThat(dataLoaderService.getParticipations().size()).isEqualTo(8);
+        assertThat(dataLoaderService.getParticipations().participationsForMember(3L)).containsOnlyOnce(LOGGED);
+        assertThat(dataLoaderService.compactParticipationLog()).isZero();
+    }
+
+    private static void beginFold(ParticipationLog.Fold fold) throws IOException {
+        try (ParticipationLog log = ParticipationLog.open(dataDir.resolve("participations.wal"), Duration.ZERO,
+                (memberId, surveyId, statusId, length) -> {
+                })) {
+            log.beginFold(fold);
+        }
+    }
+
+    private static ParticipationStore rows(Participation participation) {
+        return ParticipationStore.builder().add(participation).build();
+    }
+
+    private static String snapshotFile() {
+        Path file = dataDir.resolve("snapshot.bin");
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return file.toString();
+    }
+
+    private static String compactedFile() {
+        Path file = dataDir.resolve("compacted.csv");
+        try {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(dataDir.resolve("compacted.csv.tmp"));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return file.toString();
+    }
+
+    private static String seedLog() {
+        Path file = dataDir.resolve("participations.wal");
+        try {
+            Files.deleteIfExists(file);
+            try (ParticipationLog log = ParticipationLog.open(file, Duration.ZERO,
+                    (memberId, surveyId, statusId, length) -> {
+                    })) {
+                log.append(rows(LOGGED));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return file.toString();
+    }
+
+    private static String copy(String resource, String fileName) {
+        Path target = dataDir.resolve(fileName);
+        try (InputStream input = new ClassPathResource("data/" + resource).getInputStream()) {
+            Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return "file:" + target;
+    }
+}
\ No newline at end of file
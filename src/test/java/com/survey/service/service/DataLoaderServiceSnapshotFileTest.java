@@ -0,0 +1,83 @@
+package com.survey.service.service;
+
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.model.Participation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class DataLoaderServiceSnapshotFileTest {
+
+    @TempDir
+    private static Path dataDir;
+
+    @Autowired
+    private DataLoaderService dataLoaderService;
+
+    @DynamicPropertySource
+    static void dataFiles(DynamicPropertyRegistry registry) {
+        registry.add("data.members.file", () -> copy("test-members.csv", "members.csv"));
+        registry.add("data.surveys.file", () -> copy("test-surveys.csv", "surveys.csv"));
+        registry.add("data.participation.file", () -> copy("test-participation.csv", "participation.csv"));
+        registry.add("data.snapshot.file", () -> dataDir.resolve("snapshot.bin").toString());
+    }
+
+    @Test
+    void loadData_shouldRestoreSnapshotFile_whenSourcesAreUnchanged() {
+        //given
+        DataSnapshot loaded = dataLoaderService.getSnapshot();
+        assertThat(dataDir.resolve("snapshot.bin")).exists();
+
+        //when
+        dataLoaderService.loadData();
+
+        //then
+        DataSnapshot restored = dataLoaderService.getSnapshot();
+        assertThat(restored).isNotSameAs(loaded);
+        assertThat(restored.version()).isGreaterThan(loaded.version());
+        assertThat(restored.membersById()).isEqualTo(loaded.membersById());
+        assertThat(restored.surveysById()).isEqualTo(loaded.surveysById());
+        assertThat(restored.participations().participationsForMember(1L))
+                .isEqualTo(loaded.participations().participationsForMember(1L));
+    }
+
+    @Test
+    void loadData_shouldLoadCsvFiles_whenSnapshotFileIsStale() throws IOException {
+        //given
+        Files.writeString(dataDir.resolve("participation.csv"), "\n3,2,4,8\n", StandardOpenOption.APPEND);
+
+        //when
+        dataLoaderService.loadData();
+
+        //then
+        assertThat(dataLoaderService.getParticipations().size()).isEqualTo(8);
+        assertThat(dataLoaderService.getParticipations().participationsForMember(3L))
+                .contains(new Participation(3L, 2L, 4L, 8));
+    }
+
+    private static String copy(String resource, String fileName) {
+        Path target = dataDir.resolve(fileName);
+        try (InputStream input = new ClassPathResource("data/" + resource).getInputStream()) {
+            Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return "file:" + target;
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.survey.service.service;
 
+import com.survey.service.dto.InvitableMembersPage;
 import com.survey.service.exception.SurveyNotFoundException;
 import com.survey.service.model.Member;
 import org.junit.jupiter.api.BeforeEach;
@@ -87,4 +88,30 @@ class InvitableMembersServiceTest extends BaseServiceTest {
         assertThat(result).extracting(Member::isActive)
                 .containsOnly(true);
     }
+
+    @Test
+    void fetchInvitableMembersPage_shouldReturnFirstPageWithNextCursor_whenMoreMembersRemain() {
+        //given
+        Long surveyId = 4L; // Survey 4 has no participations, active members are 1, 2 and 4
+
+        //when
+        InvitableMembersPage page = invitableMembersService.fetchInvitableMembersPage(surveyId, null, 2);
+
+        //then
+        assertThat(page.members()).extracting(Member::id).containsExactly(1L, 2L);
+        assertThat(page.nextCursor()).isEqualTo(4L);
+    }
+
+    @Test
+    void fetchInvitableMembersPage_shouldContinueFromCursor_whenCursorIsGiven() {
+        //given
+        Long surveyId = 4L;
+
+        //when
+        InvitableMembersPage page = invitableMembersService.fetchInvitableMembersPage(surveyId, 3L, 2);
+
+        //then
+        assertThat(page.members()).extracting(Member::id).containsExactly(4L);
+        assertThat(page.nextCursor()).isNull();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.survey.service.service;
+
+import com.survey.service.dto.LeaderboardEntryDto;
+import com.survey.service.dto.MemberRankDto;
+import com.survey.service.exception.SurveyNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class LeaderboardServiceTest extends BaseServiceTest {
+
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardService = new LeaderboardService(dataLoaderService);
+    }
+
+    @Test
+    void fetchLeaderboard_shouldReturnTopMembersByPoints_whenLimitIsSmallerThanRanking() {
+        //given
+        int limit = 1;
+
+        //when
+        List<LeaderboardEntryDto> result = leaderboardService.fetchLeaderboard(limit);
+
+        //then
+        assertThat(result).extracting(LeaderboardEntryDto::rank, LeaderboardEntryDto::memberId, LeaderboardEntryDto::points)
+                .containsExactly(tuple(1, 1L, 8L));
+    }
+
+    @Test
+    void fetchSurveyLeaderboard_shouldReturnMembersRankedBySurveyPoints_whenSurveyExists() {
+        //given
+        Long surveyId = 1L;
+
+        //when
+        List<LeaderboardEntryDto> result = leaderboardService.fetchSurveyLeaderboard(surveyId, 10);
+
+        //then
+        assertThat(result).extracting(LeaderboardEntryDto::rank, LeaderboardEntryDto::memberId, LeaderboardEntryDto::points)
+                .containsExactly(tuple(1, 1L, 5L), tuple(2, 2L, 5L));
+    }
+
+    @Test
+    void fetchSurveyLeaderboard_shouldThrowException_whenSurveyDoesNotExist() {
+        //given
+        Long nonExistentSurveyId = 999L;
+
+        //when & then
+        assertThatThrownBy(() -> leaderboardService.fetchSurveyLeaderboard(nonExistentSurveyId, 10))
+                .isInstanceOf(SurveyNotFoundException.class);
+    }
+
+    @Test
+    void fetchMemberRank_shouldReturnRank_whenMemberEarnedPoints() {
+        //given
+        Long memberId = 2L;
+
+        //when
+        MemberRankDto result = leaderboardService.fetchMemberRank(memberId);
+
+        //then
+        assertThat(result).isEqualTo(new MemberRankDto(2L, 2, 5L, 2));
+    }
+
+    @Test
+    void fetchMemberRank_shouldReturnNoRank_whenMemberEarnedNoPoints() {
+        //given
+        Long memberId = 3L;
+
+        //when
+        MemberRankDto result = leaderboardService.fetchMemberRank(memberId);
+
+        //then
+        assertThat(result).isEqualTo(new MemberRankDto(3L, null, 0L, 2));
+    }
+}
\ No newline at end of file
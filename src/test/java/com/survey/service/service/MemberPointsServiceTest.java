@@ -1,6 +1,9 @@
 package com.survey.service.service;
 
+import com.survey.service.dto.MemberPointsBatchEntryDto;
 import com.survey.service.dto.MemberPointsDto;
+import com.survey.service.dto.MemberPointsPage;
+import com.survey.service.dto.MemberPointsSummaryDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -58,4 +61,59 @@ class MemberPointsServiceTest extends BaseServiceTest {
         //then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    void fetchMemberPointsSummary_shouldReturnTotalAndEntryCount_whenMemberHasEligibleParticipations() {
+        //given
+        Long memberId = 1L;
+
+        //when
+        MemberPointsSummaryDto result = memberPointsService.fetchMemberPointsSummary(memberId);
+
+        //then
+        assertThat(result).isEqualTo(new MemberPointsSummaryDto(1L, 8L, 2));
+    }
+
+    @Test
+    void fetchMemberPointsSummary_shouldReturnZeroTotal_whenMemberDoesNotExist() {
+        //given
+        Long nonExistentMemberId = 999L;
+
+        //when
+        MemberPointsSummaryDto result = memberPointsService.fetchMemberPointsSummary(nonExistentMemberId);
+
+        //then
+        assertThat(result).isEqualTo(new MemberPointsSummaryDto(999L, 0L, 0));
+    }
+
+    @Test
+    void fetchMemberPointsPage_shouldResumeFromCursor_whenPagingThroughPoints() {
+        //given
+        Long memberId = 1L;
+
+        //when
+        MemberPointsPage firstPage = memberPointsService.fetchMemberPointsPage(memberId, null, 1);
+        MemberPointsPage secondPage = memberPointsService.fetchMemberPointsPage(memberId, firstPage.nextCursor(), 1);
+
+        //then
+        assertThat(firstPage.points()).extracting(MemberPointsDto::surveyId).containsExactly(1L);
+        assertThat(firstPage.nextCursor()).isEqualTo(2L);
+        assertThat(secondPage.points()).extracting(MemberPointsDto::surveyId).containsExactly(2L);
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @Test
+    void fetchMemberPointsBatch_shouldReportUnknownMembersInline_whenBatchMixesKnownAndUnknownMembers() {
+        //given
+        List<Long> memberIds = List.of(1L, 999L);
+
+        //when
+        List<MemberPointsBatchEntryDto> result = memberPointsService.fetchMemberPointsBatch(memberIds);
+
+        //then
+        assertThat(result).extracting(MemberPointsBatchEntryDto::memberId, MemberPointsBatchEntryDto::found)
+                .containsExactly(tuple(1L, true), tuple(999L, false));
+        assertThat(result.get(0).points()).extracting(MemberPointsDto::surveyId).containsExactly(1L, 2L);
+        assertThat(result.get(1).points()).isEmpty();
+    }
 }
\ No newline at end of file
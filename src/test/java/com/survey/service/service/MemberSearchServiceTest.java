@@ -0,0 +1,56 @@
+package com.survey.service.service;
+
+import com.survey.service.dto.MemberSearchPage;
+import com.survey.service.exception.MemberNotFoundException;
+import com.survey.service.model.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemberSearchServiceTest extends BaseServiceTest {
+
+    private MemberSearchService memberSearchService;
+
+    @BeforeEach
+    void setUp() {
+        memberSearchService = new MemberSearchService(dataLoaderService);
+    }
+
+    @Test
+    void fetchMemberSearchPage_shouldReturnNextCursor_whenMoreMatchesExist() {
+        //when
+        MemberSearchPage page = memberSearchService.fetchMemberSearchPage("j", null, 2);
+
+        //then
+        assertThat(page.members()).extracting(Member::id).containsExactly(2L, 1L);
+        assertThat(page.nextCursor()).isEqualTo(2L);
+    }
+
+    @Test
+    void fetchMemberSearchPage_shouldReturnLastPageWithoutCursor_whenCursorIsGiven() {
+        //when
+        MemberSearchPage page = memberSearchService.fetchMemberSearchPage("j", 2L, 2);
+
+        //then
+        assertThat(page.members()).extracting(Member::id).containsExactly(4L);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void fetchMemberByEmail_shouldReturnMember_whenEmailDiffersInCase() {
+        //when
+        Member member = memberSearchService.fetchMemberByEmail("Alice@Example.com");
+
+        //then
+        assertThat(member.id()).isEqualTo(4L);
+    }
+
+    @Test
+    void fetchMemberByEmail_shouldThrowException_whenNoMemberHasEmail() {
+        //when & then
+        assertThatThrownBy(() -> memberSearchService.fetchMemberByEmail("nobody@example.com"))
+                .isInstanceOf(MemberNotFoundException.class);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,170 @@
+package com.survey.service.service;
+
+import com.survey.service.data.ParticipationStore;
+import com.survey.service.dto.ParticipationWriteRequest;
+import com.survey.service.exception.InvalidParticipationException;
+import com.survey.service.exception.ReloadInProgressException;
+import com.survey.service.exception.WriteQueueFullException;
+import com.survey.service.model.Participation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParticipationWriteServiceTest extends BaseServiceTest {
+
+    private ParticipationWriteService participationWriteService;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        participationWriteService.stop();
+    }
+
+    @Test
+    void recordAll_shouldPublishAcceptedParticipations_whenWriterIsRunning() {
+        //given
+        participationWriteService = startedService(100);
+
+        //when
+        CompletableFuture<Integer> accepted = participationWriteService.recordAll(List.of(
+                new ParticipationWriteRequest(3L, 2L, 4L, 11),
+                new ParticipationWriteRequest(4L, 1L, 2L, null)));
+
+        //then
+        assertThat(accepted).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(2);
+        ArgumentCaptor<ParticipationStore> published = ArgumentCaptor.forClass(ParticipationStore.class);
+        verify(dataLoaderService, timeout(5_000).atLeastOnce()).appendRecordedParticipations(published.capture());
+        assertThat(published.getAllValues().stream().flatMap(delta -> IntStream.range(0, delta.size())
+                .mapToObj(delta::participation)).toList())
+                .containsExactlyInAnyOrder(new Participation(3L, 2L, 4L, 11), new Participation(4L, 1L, 2L, null));
+        verify(dataLoaderService, timeout(5_000).atLeastOnce()).syncParticipationLog();
+    }
+
+    @Test
+    void recordAll_shouldAcceptNothing_whenOneParticipationIsInvalid() {
+        //given
+        participationWriteService = new ParticipationWriteService(dataLoaderService, new SimpleMeterRegistry(),
+                100, 100, false);
+
+        //when & then
+        assertThatThrownBy(() -> participationWriteService.recordAll(List.of(
+                new ParticipationWriteRequest(1L, 1L, 4L, 10),
+                new ParticipationWriteRequest(1L, 99L, 4L, 10))))
+                .isInstanceOf(InvalidParticipationException.class)
+                .hasMessage("Participation 2: Unknown survey ID: 99");
+        assertThatThrownBy(() -> participationWriteService.record(new ParticipationWriteRequest(1L, 1L, 7L, 10)))
+                .isInstanceOf(InvalidParticipationException.class)
+                .hasMessage("Unknown status ID: 7");
+        verify(dataLoaderService, never()).appendRecordedParticipations(any());
+    }
+
+    @Test
+    void record_shouldThrowException_whenQueueIsFull() {
+        //given
+        participationWriteService = new ParticipationWriteService(dataLoaderService, new SimpleMeterRegistry(),
+                2, 100, false);
+        participationWriteService.record(new ParticipationWriteRequest(1L, 1L, 4L, 10));
+
+        //when & then
+        assertThatThrownBy(() -> participationWriteService.recordAll(List.of(
+                new ParticipationWriteRequest(2L, 1L, 4L, 10),
+                new ParticipationWriteRequest(3L, 1L, 4L, 10))))
+                .isInstanceOf(WriteQueueFullException.class);
+        assertThat(participationWriteService.record(new ParticipationWriteRequest(2L, 1L, 4L, 10))).isNotDone();
+    }
+
+    @Test
+    void record_shouldRetryBatch_whenReloadIsInProgress() {
+        //given
+        when(dataLoaderService.appendRecordedParticipations(any()))
+                .thenThrow(new ReloadInProgressException())
+                .thenReturn(null);
+        participationWriteService = startedService(100);
+
+        //when
+        participationWriteService.record(new ParticipationWriteRequest(1L, 3L, 4L, 9));
+
+        //then
+        ArgumentCaptor<ParticipationStore> published = ArgumentCaptor.forClass(ParticipationStore.class);
+        verify(dataLoaderService, timeout(5_000).times(2)).appendRecordedParticipations(published.capture());
+        assertThat(published.getValue().participation(0)).isEqualTo(new Participation(1L, 3L, 4L, 9));
+    }
+
+    @Test
+    void record_shouldKeepAndRetryBatch_whenPublishFails() {
+        //given
+        when(dataLoaderService.appendRecordedParticipations(any()))
+                .thenThrow(new IllegalStateException("disk full"))
+                .thenReturn(null);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        participationWriteService = new ParticipationWriteService(dataLoaderService, meterRegistry, 100, 100, false);
+        participationWriteService.start();
+
+        //when
+        CompletableFuture<Integer> accepted = participationWriteService.record(new ParticipationWriteRequest(2L, 1L, 4L, 12));
+
+        //then
+        ArgumentCaptor<ParticipationStore> published = ArgumentCaptor.forClass(ParticipationStore.class);
+        verify(dataLoaderService, timeout(5_000).times(2)).appendRecordedParticipations(published.capture());
+        assertThat(published.getValue().participation(0)).isEqualTo(new Participation(2L, 1L, 4L, 12));
+        assertThat(meterRegistry.get("survey.participations.publish.failures").counter().count()).isEqualTo(1.0);
+        assertThat(accepted).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(1);
+        assertThat(participationWriteService.pendingCount()).isZero();
+        assertThat(participationWriteService.lastPublishFailure()).isNull();
+    }
+
+    @Test
+    void record_shouldAcknowledgeWrite_whenParticipationLogWasForced() {
+        //given
+        when(dataLoaderService.hasUnsyncedParticipations()).thenReturn(true).thenReturn(false);
+        participationWriteService = startedService(100);
+
+        //when
+        CompletableFuture<Integer> accepted = participationWriteService.record(new ParticipationWriteRequest(1L, 2L, 4L, 8));
+
+        //then
+        assertThat(accepted).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(1);
+        InOrder order = inOrder(dataLoaderService);
+        order.verify(dataLoaderService).appendRecordedParticipations(any());
+        order.verify(dataLoaderService).hasUnsyncedParticipations();
+        order.verify(dataLoaderService).syncParticipationLog();
+        order.verify(dataLoaderService).hasUnsyncedParticipations();
+    }
+
+    @Test
+    void stop_shouldFailUnwrittenParticipations_whenPublishKeepsFailing() throws InterruptedException {
+        //given
+        when(dataLoaderService.appendRecordedParticipations(any())).thenThrow(new IllegalStateException("disk full"));
+        participationWriteService = startedService(100);
+        CompletableFuture<Integer> accepted = participationWriteService.record(new ParticipationWriteRequest(1L, 2L, 4L, 8));
+        verify(dataLoaderService, timeout(5_000).atLeastOnce()).appendRecordedParticipations(any());
+
+        //when
+        participationWriteService.stop();
+
+        //then
+        assertThat(accepted).failsWithin(Duration.ofSeconds(5));
+    }
+
+    private ParticipationWriteService startedService(int queueCapacity) {
+        ParticipationWriteService service = new ParticipationWriteService(dataLoaderService, new SimpleMeterRegistry(),
+                queueCapacity, 100, false);
+        service.start();
+        return service;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.survey.service.service;
+
+import com.survey.service.dto.SurveyQuotaDto;
+import com.survey.service.enums.ParticipationStatus;
+import com.survey.service.exception.SurveyNotFoundException;
+import com.survey.service.model.Participation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SurveyQuotaServiceTest extends BaseServiceTest {
+
+    private SurveyQuotaService surveyQuotaService;
+
+    @BeforeEach
+    void setUp() {
+        surveyQuotaService = new SurveyQuotaService(dataLoaderService);
+    }
+
+    @Test
+    void fetchSurveyQuotas_shouldReturnQuotaOfEverySurveyOrderedById_whenSurveysExist() {
+        //when
+        List<SurveyQuotaDto> result = surveyQuotaService.fetchSurveyQuotas();
+
+        //then
+        assertThat(result).extracting(SurveyQuotaDto::surveyId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(result.get(0)).isEqualTo(new SurveyQuotaDto(1L, "Survey 1", 10, 2L, 8L, 0.2, false));
+        assertThat(result.get(1)).isEqualTo(new SurveyQuotaDto(2L, "Survey 2", 20, 0L, 20L, 0.0, false));
+    }
+
+    @Test
+    void fetchSurveyQuota_shouldReportOverQuota_whenCompletionsExceedExpectedCompletes() {
+        //given
+        List<Participation> participations = new ArrayList<>();
+        for (long memberId = 1; memberId <= 11; memberId++) {
+            participations.add(new Participation(memberId, 1L, ParticipationStatus.COMPLETED.getId(), 10));
+        }
+        mockSnapshot(participations);
+
+        //when
+        SurveyQuotaDto result = surveyQuotaService.fetchSurveyQuota(1L);
+
+        //then
+        assertThat(result).isEqualTo(new SurveyQuotaDto(1L, "Survey 1", 10, 11L, 0L, 1.1, true));
+    }
+
+    @Test
+    void fetchSurveyQuota_shouldThrowException_whenSurveyDoesNotExist() {
+        //given
+        Long nonExistentSurveyId = 999L;
+
+        //when & then
+        assertThatThrownBy(() -> surveyQuotaService.fetchSurveyQuota(nonExistentSurveyId))
+                .isInstanceOf(SurveyNotFoundException.class);
+    }
+}
\ No newline at end of file
@@ -1,15 +1,14 @@
 package com.survey.service.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.survey.service.dto.SurveyStatisticsDto;
 import com.survey.service.model.Participation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
-import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.lenient;
 
 class SurveyStatisticsServiceTest extends BaseServiceTest {
 
@@ -17,7 +16,7 @@ class SurveyStatisticsServiceTest extends BaseServiceTest {
 
     @BeforeEach
     void setUp() {
-        surveyStatisticsService = new SurveyStatisticsService(dataLoaderService);
+        surveyStatisticsService = new SurveyStatisticsService(dataLoaderService, new ObjectMapper());
     }
 
     @Test
@@ -42,8 +41,8 @@ class SurveyStatisticsServiceTest extends BaseServiceTest {
     @Test
     void fetchSurveyStatistics_shouldReturnZeroStatistics_whenSurveyHasNoParticipations() {
         //given
-        Map<Long, List<Participation>> emptyParticipations = Map.of();
-        lenient().when(dataLoaderService.getParticipationsBySurveyId()).thenReturn(emptyParticipations);
+        List<Participation> emptyParticipations = List.of();
+        mockSnapshot(emptyParticipations);
 
         //when
         List<SurveyStatisticsDto> result = surveyStatisticsService.fetchSurveyStatistics();
@@ -61,10 +60,8 @@ class SurveyStatisticsServiceTest extends BaseServiceTest {
     @Test
     void fetchSurveyStatistics_shouldHandleNullLengthValues_whenCalculatingAverageLength() {
         //given
-        Map<Long, List<Participation>> participationsWithNulls = Map.of(
-                2L, List.of(new Participation(1L, 2L, 3L, null))
-        );
-        lenient().when(dataLoaderService.getParticipationsBySurveyId()).thenReturn(participationsWithNulls);
+        List<Participation> participationsWithNulls = List.of(new Participation(1L, 2L, 3L, null));
+        mockSnapshot(participationsWithNulls);
 
         //when
         List<SurveyStatisticsDto> result = surveyStatisticsService.fetchSurveyStatistics();
@@ -74,6 +71,34 @@ class SurveyStatisticsServiceTest extends BaseServiceTest {
         assertThat(survey2Stats.averageLength()).isEqualTo(0.0);
     }
 
+    @Test
+    void fetchSurveyStatisticsJson_shouldReuseSerializedBody_whenSnapshotVersionIsUnchanged() throws Exception {
+        //given
+        byte[] first = surveyStatisticsService.fetchSurveyStatisticsJson();
+
+        //when
+        byte[] second = surveyStatisticsService.fetchSurveyStatisticsJson();
+
+        //then
+        assertThat(second).isSameAs(first);
+        assertThat(new ObjectMapper().readValue(second, SurveyStatisticsDto[].class)).hasSize(4);
+    }
+
+    @Test
+    void fetchSurveyStatisticsJson_shouldRebuildBody_whenSnapshotVersionChanges() {
+        //given
+        byte[] before = surveyStatisticsService.fetchSurveyStatisticsJson();
+        mockSnapshot(2L, List.of());
+
+        //when
+        byte[] after = surveyStatisticsService.fetchSurveyStatisticsJson();
+
+        //then
+        assertThat(after).isNotSameAs(before);
+        assertThat(surveyStatisticsService.fetchSurveyStatistics())
+                .allMatch(stats -> stats.numberOfCompletes() == 0);
+    }
+
     private SurveyStatisticsDto findStatsBySurveyId(List<SurveyStatisticsDto> stats, Long surveyId) {
         return stats.stream()
                 .filter(s -> s.surveyId().equals(surveyId))
@@ -0,0 +1,179 @@
+package com.survey.service.web;
+
+import com.survey.service.data.DataSnapshot;
+import com.survey.service.data.ParticipationStore;
+import com.survey.service.service.DataLoaderService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalRequestFilterTest {
+
+    @Mock
+    private DataLoaderService dataLoaderService;
+
+    private ConditionalRequestFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ConditionalRequestFilter(dataLoaderService, "no-cache", true);
+        publishVersion(1L);
+    }
+
+    @Test
+    void doFilter_shouldTagSuccessfulResponse_whenRequestIsNotConditional() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/surveys/statistics");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(request, response, writeBody(200));
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"1-");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+        assertThat(response.getHeaders(HttpHeaders.VARY)).containsExactly(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void doFilter_shouldAnswerNotModifiedWithoutRunningHandler_whenEtagMatches() throws Exception {
+        //given
+        String etag = tagOf(new MockHttpServletRequest("GET", "/api/members/1/points"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/1/points");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        //when
+        filter.doFilter(request, response, chain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(response.getContentLength()).isZero();
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_shouldRunHandler_whenSnapshotChangedSinceEtag() throws Exception {
+        //given
+        String etag = tagOf(new MockHttpServletRequest("GET", "/api/members/1/points"));
+        publishVersion(2L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/1/points");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(request, response, writeBody(200));
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"2-").isNotEqualTo(etag);
+    }
+
+    @Test
+    void doFilter_shouldNotTagResponse_whenHandlerAnswersWithError() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/surveys/999/leaderboard");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(request, response, writeBody(404));
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+    }
+
+    @Test
+    void doFilter_shouldRunHandler_whenIfNoneMatchIsWildcard() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/surveys/999/leaderboard");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "*");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(request, response, writeBody(404));
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    void doFilter_shouldUseWeakEtag_whenServerMayCompressResponse() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/surveys/1/invitable-members");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(request, response, writeBody(200));
+
+        //then
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"1-");
+        assertThat(ConditionalRequestFilter.matches(etag, etag)).isTrue();
+        assertThat(ConditionalRequestFilter.matches(etag.substring(2), etag)).isTrue();
+    }
+
+    @Test
+    void etag_shouldDifferByQueryAndAcceptHeaders_whenPathIsTheSame() {
+        //given
+        MockHttpServletRequest json = new MockHttpServletRequest("GET", "/api/surveys/1/completed-respondents");
+        MockHttpServletRequest ndjson = new MockHttpServletRequest("GET", "/api/surveys/1/completed-respondents");
+        ndjson.addHeader(HttpHeaders.ACCEPT, "application/x-ndjson");
+        MockHttpServletRequest streamed = new MockHttpServletRequest("GET", "/api/surveys/1/completed-respondents");
+        streamed.setQueryString("stream=true");
+        MockHttpServletRequest gzip = new MockHttpServletRequest("GET", "/api/surveys/1/completed-respondents");
+        gzip.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        //when / then
+        assertThat(ConditionalRequestFilter.etag(1L, json))
+                .isNotEqualTo(ConditionalRequestFilter.etag(1L, ndjson))
+                .isNotEqualTo(ConditionalRequestFilter.etag(1L, streamed))
+                .isNotEqualTo(ConditionalRequestFilter.etag(1L, gzip))
+                .isEqualTo(ConditionalRequestFilter.etag(1L, new MockHttpServletRequest("GET",
+                        "/api/surveys/1/completed-respondents")))
+                .matches("\"1-[0-9a-f]{32}\"");
+    }
+
+    private void publishVersion(long version) {
+        lenient().when(dataLoaderService.getSnapshot())
+                .thenReturn(new DataSnapshot(version, Map.of(), Map.of(), ParticipationStore.builder().build()));
+    }
+
+    private String tagOf(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, writeBody(200));
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+
+    private static FilterChain writeBody(int status) {
+        return (request, response) -> {
+            ((HttpServletResponse) response).setStatus(status);
+            response.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+}
\ No newline at end of file
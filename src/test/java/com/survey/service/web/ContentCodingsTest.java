@@ -0,0 +1,40 @@
+package com.survey.service.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentCodingsTest {
+
+    @Test
+    void gzip_shouldProduceSmallerDecodableBody_whenJsonIsRepetitive() throws Exception {
+        //given
+        byte[] body = "[{\"id\":1,\"fullName\":\"John Doe\",\"isActive\":true},".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+        //when
+        byte[] gzip = ContentCodings.gzip(body);
+
+        //then
+        assertThat(gzip.length).isLessThan(body.length / 10);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertThat(in.readAllBytes()).isEqualTo(body);
+        }
+    }
+
+    @Test
+    void acceptsGzip_shouldFollowAcceptEncodingQualities() {
+        //when / then
+        assertThat(ContentCodings.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(ContentCodings.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(ContentCodings.acceptsGzip("x-gzip")).isTrue();
+        assertThat(ContentCodings.acceptsGzip("*")).isTrue();
+        assertThat(ContentCodings.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(ContentCodings.acceptsGzip("*;q=0")).isFalse();
+        assertThat(ContentCodings.acceptsGzip("identity")).isFalse();
+        assertThat(ContentCodings.acceptsGzip(null)).isFalse();
+    }
+}
\ No newline at end of file
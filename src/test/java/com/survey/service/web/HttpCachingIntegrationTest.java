@@ -0,0 +1,62 @@
+package com.survey.service.web;
+
+import com.survey.service.service.DataLoaderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "http.caching.cache-control=public, max-age=60")
+class HttpCachingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataLoaderService dataLoaderService;
+
+    @Test
+    void getStatistics_shouldAnswerNotModified_untilDataIsReloaded() throws Exception {
+        //given
+        String etag = mockMvc.perform(get("/api/surveys/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=60"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //when / then
+        mockMvc.perform(get("/api/surveys/statistics").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        dataLoaderService.reload();
+        mockMvc.perform(get("/api/surveys/statistics").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void requests_shouldNotBeTagged_whenErrorOrNotCacheable() throws Exception {
+        //when / then
+        mockMvc.perform(get("/api/surveys/999/leaderboard"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        mockMvc.perform(post("/api/members/points:batchGet")
+                        .contentType("application/json")
+                        .content("{\"memberIds\": [1]}"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.survey.service.web;
+
+import com.survey.service.service.CompletedRespondentsService;
+import com.survey.service.service.DataLoaderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = {"http.response-cache.enabled=true", "server.compression.min-response-size=64B"})
+class ResponseCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataLoaderService dataLoaderService;
+
+    @SpyBean
+    private CompletedRespondentsService completedRespondentsService;
+
+    @Test
+    void getCompletedRespondents_shouldServeCachedBody_untilDataIsReloaded() throws Exception {
+        //given
+        String body = mockMvc.perform(get("/api/surveys/{surveyId}/completed-respondents", 1L))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        //when
+        mockMvc.perform(get("/api/surveys/{surveyId}/completed-respondents", 1L))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(body, true))
+                .andExpect(header().exists(HttpHeaders.ETAG));
+        dataLoaderService.reload();
+        mockMvc.perform(get("/api/surveys/{surveyId}/completed-respondents", 1L))
+                .andExpect(status().isOk())
+                .andExpect(content().json(body, true));
+
+        //then
+        assertThat(body).contains("John Doe");
+        verify(completedRespondentsService, times(2)).fetchCompletedRespondentsBySurveyId(1L);
+    }
+
+    @Test
+    void getStatistics_shouldServePrecompressedBody_whenClientAcceptsGzip() throws Exception {
+        //given
+        byte[] body = mockMvc.perform(get("/api/surveys/statistics").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        //when
+        MockHttpServletResponse gzipped = mockMvc.perform(get("/api/surveys/statistics")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse();
+        MockHttpServletResponse plain = mockMvc.perform(get("/api/surveys/statistics")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse();
+
+        //then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(body);
+        }
+        assertThat(gzipped.getContentLength()).isEqualTo(gzipped.getContentAsByteArray().length);
+        assertThat(plain.getContentAsByteArray()).isEqualTo(body);
+        assertThat(gzipped.getHeader(HttpHeaders.ETAG)).isNotEqualTo(plain.getHeader(HttpHeaders.ETAG));
+        assertThat(gzipped.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void getCompletedRespondents_shouldNotCache_whenResponseIsStreamed() throws Exception {
+        //when
+        mockMvc.perform(get("/api/surveys/{surveyId}/completed-respondents", 1L)
+                .accept(MediaType.APPLICATION_NDJSON)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/surveys/{surveyId}/completed-respondents", 1L)
+                .accept(MediaType.APPLICATION_NDJSON)).andExpect(status().isOk());
+
+        //then
+        verify(completedRespondentsService, times(2)).streamCompletedRespondentsBySurveyId(1L);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.survey.service.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTest {
+
+    private static final long MAX_BYTES = 64 * 1024;
+
+    private MeterRegistry meterRegistry;
+    private ResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ResponseCache(MAX_BYTES, meterRegistry);
+    }
+
+    @Test
+    void get_shouldReturnStoredBody_untilNewerSnapshotVersionIsSeen() {
+        //given
+        cache.put(1L, "/api/surveys/1/completed-respondents|null", response(100));
+
+        //when
+        ResponseCache.CachedResponse hit = cache.get(1L, "/api/surveys/1/completed-respondents|null");
+        ResponseCache.CachedResponse afterReload = cache.get(2L, "/api/surveys/1/completed-respondents|null");
+        ResponseCache.CachedResponse olderVersion = cache.get(1L, "/api/surveys/1/completed-respondents|null");
+        cache.cleanUp();
+
+        //then
+        assertThat(hit).isNotNull();
+        assertThat(hit.body()).hasSize(100);
+        assertThat(afterReload).isNull();
+        assertThat(olderVersion).isNull();
+        assertThat(cache.weightedSize()).isZero();
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ResponseCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ResponseCache.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void put_shouldEvictByTotalBodySize_whenBoundIsExceeded() {
+        //given
+        int bodyBytes = 4 * 1024;
+
+        //when
+        for (int surveyId = 1; surveyId <= 64; surveyId++) {
+            cache.put(1L, "/api/surveys/" + surveyId + "/completed-respondents|null", response(bodyBytes));
+        }
+        cache.cleanUp();
+
+        //then
+        assertThat(cache.weightedSize()).isPositive().isLessThanOrEqualTo(MAX_BYTES);
+        assertThat(meterRegistry.get("survey.response.cache.size").gauge().value()).isEqualTo(cache.weightedSize());
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", ResponseCache.CACHE_NAME)
+                .functionCounter().count()).isPositive();
+    }
+
+    @Test
+    void put_shouldKeepFrequentlyRequestedBody_whenOneOffBodiesStreamThrough() {
+        //given
+        String popular = "/api/surveys/1/completed-respondents|null";
+        cache.put(1L, popular, response(4 * 1024));
+        for (int surveyId = 1000; surveyId < 1014; surveyId++) {
+            cache.put(1L, "/api/surveys/" + surveyId + "/completed-respondents|null", response(4 * 1024));
+        }
+        cache.cleanUp();
+        for (int i = 0; i < 20; i++) {
+            cache.get(1L, popular);
+        }
+        cache.cleanUp();
+
+        //when
+        for (int surveyId = 2; surveyId <= 200; surveyId++) {
+            String oneOff = "/api/surveys/" + surveyId + "/completed-respondents|null";
+            cache.get(1L, oneOff);
+            cache.put(1L, oneOff, response(4 * 1024));
+            cache.cleanUp();
+        }
+
+        //then
+        assertThat(cache.get(1L, popular)).isNotNull();
+    }
+
+    private static ResponseCache.CachedResponse response(int bytes) {
+        return new ResponseCache.CachedResponse("application/json", "/api/surveys/{surveyId}/completed-respondents",
+                new byte[bytes], null);
+    }
+}
\ No newline at end of file